@@ -31,6 +31,7 @@
 
 import org.lanternpowered.launch.transformer.ClassTransformer;
 import org.lanternpowered.launch.transformer.Exclusion;
+import org.lanternpowered.launch.transformer.TransformedClassCache;
 import org.lanternpowered.server.LanternServer;
 
 import java.io.File;
@@ -244,6 +245,7 @@ public static LanternClassLoader get() {
     // Class transformer stuff
     private final List<ClassTransformer> transformers = new CopyOnWriteArrayList<>();
     private final Set<Exclusion> transformerExclusions = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private volatile TransformedClassCache transformedClassCache;
 
     private static final class LibraryClassLoader extends URLClassLoader {
         private LibraryClassLoader(URL[] urls) {
@@ -312,6 +314,25 @@ public void addTransformer(ClassTransformer classTransformer) {
         this.transformerExclusions.add(Exclusion.forClass(classTransformer.getClass().getName(), true));
     }
 
+    /**
+     * Sets the {@link TransformedClassCache} that should be used
+     * to store the byte code generated by the {@link ClassTransformer}s.
+     *
+     * @param transformedClassCache The transformed class cache
+     */
+    public void setTransformedClassCache(TransformedClassCache transformedClassCache) {
+        this.transformedClassCache = requireNonNull(transformedClassCache, "transformedClassCache");
+    }
+
+    /**
+     * Gets the {@link TransformedClassCache}, if present.
+     *
+     * @return The transformed class cache
+     */
+    public Optional<TransformedClassCache> getTransformedClassCache() {
+        return Optional.ofNullable(this.transformedClassCache);
+    }
+
     /**
      * The same as {@link Class#forName(String, boolean, ClassLoader)},
      * but called for this {@link ClassLoader}.
@@ -497,19 +518,38 @@ private Class<?> defineClass(String name, URL url, boolean transform) throws Cla
             }
 
             if (transform) {
-                // Write the bytes to a byte array with the proper length,
-                // we don't want any trailing bytes when pushing the byte
-                // array through the transformers
-                byte[] result = new byte[length];
-                System.arraycopy(buffer, 0, result, 0, length);
-
-                // Let's start transforming the class
-                for (ClassTransformer transformer : this.transformers) {
-                    try {
-                        result = transformer.transform(this, name, result);
-                    } catch (Exception e) {
-                        System.err.print("An error occurred while transforming " + name + ": ");
-                        e.printStackTrace();
+                TransformedClassCache cache = this.transformedClassCache;
+                if (cache != null) {
+                    // Only cache classes that don't depend on classes outside the cached location
+                    final CodeSource source = getCodeSource(name, url);
+                    if (!cache.isCacheable(source == null ? null : source.getLocation())) {
+                        cache = null;
+                    }
+                }
+                final byte[] digest = cache == null ? null : TransformedClassCache.digest(buffer, length);
+                // Try to reuse the byte code that was transformed before
+                byte[] result = cache == null ? null : cache.get(name, digest);
+                if (result == null) {
+                    // Write the bytes to a byte array with the proper length,
+                    // we don't want any trailing bytes when pushing the byte
+                    // array through the transformers
+                    result = new byte[length];
+                    System.arraycopy(buffer, 0, result, 0, length);
+
+                    boolean success = true;
+                    // Let's start transforming the class
+                    for (ClassTransformer transformer : this.transformers) {
+                        try {
+                            result = transformer.transform(this, name, result);
+                        } catch (Exception e) {
+                            System.err.print("An error occurred while transforming " + name + ": ");
+                            e.printStackTrace();
+                            success = false;
+                        }
+                    }
+                    // Only cache the results of successful transformations
+                    if (cache != null && success) {
+                        cache.put(name, digest, result);
                     }
                 }
 
@@ -0,0 +1,220 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.launch.transformer;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A persistent cache for the byte code produced by the {@link ClassTransformer}s. Every
+ * entry is validated by a digest of the original byte code, the whole cache is invalidated
+ * if the fingerprint of the transformers changes.
+ * <p>
+ * The output of a transformer may depend on other classes than the transformed one (for
+ * example the class hierarchy of a method owner), so only classes from the cached location
+ * are stored. All the classes that they can depend on are located in that location as well
+ * and are covered by the fingerprint, plugin classes are never cached.
+ */
+public final class TransformedClassCache {
+
+    private static final int MAGIC = 0x4c544343;
+    private static final int VERSION = 1;
+
+    private static final ThreadLocal<MessageDigest> messageDigest = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    /**
+     * Creates a digest for the given byte code.
+     *
+     * @param byteCode The byte code
+     * @param length The length of the byte code
+     * @return The digest
+     */
+    public static byte[] digest(byte[] byteCode, int length) {
+        final MessageDigest digest = messageDigest.get();
+        digest.update(byteCode, 0, length);
+        return digest.digest();
+    }
+
+    private static final class Entry {
+
+        private final byte[] digest;
+        private final byte[] byteCode;
+
+        private Entry(byte[] digest, byte[] byteCode) {
+            this.digest = digest;
+            this.byteCode = byteCode;
+        }
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Path file;
+    private final URL location;
+    private final String fingerprint;
+    private volatile boolean dirty;
+    private volatile boolean released;
+
+    /**
+     * Creates a new {@link TransformedClassCache}.
+     *
+     * @param file The file where the cache is stored
+     * @param location The location of the classes that may be cached
+     * @param fingerprint The fingerprint of the location and the transformers
+     */
+    public TransformedClassCache(Path file, URL location, String fingerprint) {
+        this.file = requireNonNull(file, "file");
+        this.location = requireNonNull(location, "location");
+        this.fingerprint = requireNonNull(fingerprint, "fingerprint");
+    }
+
+    /**
+     * Gets whether the transformed byte code of classes from the
+     * given location can be cached.
+     *
+     * @param location The location of the class, may be {@code null}
+     * @return Whether the class can be cached
+     */
+    public boolean isCacheable(URL location) {
+        return !this.released && this.location.equals(location);
+    }
+
+    /**
+     * Loads the entries from the cache file, nothing will be loaded if
+     * the file is missing, corrupted or has a different fingerprint.
+     */
+    public void load() {
+        if (!Files.exists(this.file)) {
+            return;
+        }
+        try (DataInputStream dis = new DataInputStream(new BufferedInputStream(Files.newInputStream(this.file)))) {
+            if (dis.readInt() != MAGIC || dis.readInt() != VERSION || !dis.readUTF().equals(this.fingerprint)) {
+                return;
+            }
+            final int size = dis.readInt();
+            for (int i = 0; i < size; i++) {
+                final String name = dis.readUTF();
+                final byte[] digest = new byte[dis.readUnsignedByte()];
+                dis.readFully(digest);
+                final byte[] byteCode = new byte[dis.readInt()];
+                dis.readFully(byteCode);
+                this.entries.put(name, new Entry(digest, byteCode));
+            }
+        } catch (IOException e) {
+            System.err.println("Failed to load the transformed class cache: " + e);
+            this.entries.clear();
+        }
+    }
+
+    /**
+     * Saves the entries to the cache file, if there were any changes. The
+     * entries are released afterwards, the cache won't be used anymore.
+     */
+    public void save() {
+        if (this.released) {
+            return;
+        }
+        this.released = true;
+        if (!this.dirty) {
+            this.entries.clear();
+            return;
+        }
+        this.dirty = false;
+        try {
+            final Path parent = this.file.toAbsolutePath().getParent();
+            if (!Files.exists(parent)) {
+                Files.createDirectories(parent);
+            }
+            final Path tempFile = this.file.resolveSibling(this.file.getFileName() + ".tmp");
+            try (DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                final Map<String, Entry> entries = new HashMap<>(this.entries);
+                dos.writeInt(MAGIC);
+                dos.writeInt(VERSION);
+                dos.writeUTF(this.fingerprint);
+                dos.writeInt(entries.size());
+                for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                    dos.writeUTF(entry.getKey());
+                    dos.writeByte(entry.getValue().digest.length);
+                    dos.write(entry.getValue().digest);
+                    dos.writeInt(entry.getValue().byteCode.length);
+                    dos.write(entry.getValue().byteCode);
+                }
+            }
+            Files.move(tempFile, this.file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            System.err.println("Failed to save the transformed class cache: " + e);
+        }
+        this.entries.clear();
+    }
+
+    /**
+     * Gets the transformed byte code for the given class name, {@code null}
+     * will be returned if there is no entry or if the original byte code
+     * doesn't match the digest.
+     *
+     * @param className The class name
+     * @param digest The digest of the original byte code
+     * @return The transformed byte code, or {@code null}
+     */
+    public byte[] get(String className, byte[] digest) {
+        final Entry entry = this.entries.get(className);
+        return entry == null || !Arrays.equals(entry.digest, digest) ? null : entry.byteCode;
+    }
+
+    /**
+     * Puts the transformed byte code for the given class name.
+     *
+     * @param className The class name
+     * @param digest The digest of the original byte code
+     * @param byteCode The transformed byte code
+     */
+    public void put(String className, byte[] digest, byte[] byteCode) {
+        if (this.released) {
+            return;
+        }
+        this.entries.put(className, new Entry(digest, byteCode));
+        this.dirty = true;
+    }
+}
@@ -36,10 +36,13 @@
 import com.google.inject.name.Named;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
+import org.lanternpowered.launch.LanternClassLoader;
+import org.lanternpowered.launch.transformer.TransformedClassCache;
 import org.lanternpowered.server.advancement.AdvancementTrees;
 import org.lanternpowered.server.config.GlobalConfig;
 import org.lanternpowered.server.console.ConsoleManager;
 import org.lanternpowered.server.console.LanternConsoleSource;
+import org.lanternpowered.server.data.ImmutableValueInterner;
 import org.lanternpowered.server.entity.living.player.LanternPlayer;
 import org.lanternpowered.server.game.LanternGame;
 import org.lanternpowered.server.game.version.LanternMinecraftVersion;
@@ -50,6 +53,7 @@
 import org.lanternpowered.server.network.rcon.RconServer;
 import org.lanternpowered.server.network.status.LanternFavicon;
 import org.lanternpowered.server.plugin.InternalPluginsInfo;
+import org.lanternpowered.server.scoreboard.LanternScoreboard;
 import org.lanternpowered.server.service.CloseableService;
 import org.lanternpowered.server.service.LanternServiceManager;
 import org.lanternpowered.server.text.LanternTexts;
@@ -84,6 +88,7 @@
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.lang.reflect.Field;
 import java.net.BindException;
 import java.net.InetSocketAddress;
@@ -281,6 +286,12 @@ void start() throws IOException {
         }, 0, LanternGame.TICK_DURATION, TimeUnit.MILLISECONDS);
 
         this.game.postGameStateChange(SpongeEventFactory.createGameStartedServerEvent(gameCause));
+        this.logger.info("Started the server in {}ms", System.currentTimeMillis() -
+                ManagementFactory.getRuntimeMXBean().getStartTime());
+
+        // Store the classes that were transformed during the startup, the
+        // cache is released afterwards to free the memory of the entries
+        LanternClassLoader.get().getTransformedClassCache().ifPresent(TransformedClassCache::save);
     }
 
     /**
@@ -313,7 +324,8 @@ private void bind() throws BindException {
             throw new RuntimeException("Failed to bind to address", cause);
         }
 
-        this.logger.info("Successfully bound to: " + channel.localAddress());
+        this.logger.info("Successfully bound to: " + channel.localAddress() +
+                " using the " + this.networkManager.getTransportType().getName() + " transport.");
     }
 
     private void bindQuery() {
@@ -360,6 +372,8 @@ private void pulse() {
         // Pulse the world threads
         this.worldManager.pulse();
         AdvancementTrees.INSTANCE.pulse();
+        // Flush the scoreboard changes of this tick
+        LanternScoreboard.pulseAll();
     }
 
     /**
@@ -643,6 +657,9 @@ public void shutdown(Text kickMessage) {
             }
         });
 
+        this.logger.debug("Interned immutable values: {}, immutable container caches: {}",
+                ImmutableValueInterner.getValueStats(), ImmutableValueInterner.getContainerStats());
+
         // Shutdown the game profile manager
         this.game.getGameProfileManager().getDefaultCache().save();
         final GameProfileCache cache = this.game.getGameProfileManager().getCache();
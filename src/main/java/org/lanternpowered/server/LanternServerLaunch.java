@@ -34,8 +34,10 @@
 import joptsimple.OptionSpec;
 import net.minecrell.terminalconsole.TerminalConsoleAppender;
 import org.jline.terminal.Terminal;
+import org.lanternpowered.launch.Environment;
 import org.lanternpowered.launch.LanternClassLoader;
 import org.lanternpowered.launch.transformer.Exclusion;
+import org.lanternpowered.launch.transformer.TransformedClassCache;
 import org.lanternpowered.server.inject.LanternModule;
 import org.lanternpowered.server.plugin.InternalPluginsInfo;
 import org.lanternpowered.server.transformer.data.FastValueContainerClassTransformer;
@@ -43,15 +45,24 @@
 import org.slf4j.LoggerFactory;
 import org.spongepowered.api.Platform;
 
+import java.io.IOException;
 import java.lang.reflect.Field;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
 import java.util.Arrays;
 
 public final class LanternServerLaunch {
 
+    private static final String TRANSFORMED_CLASS_CACHE = "lantern.transformed-class-cache";
+
     public void main(String[] args) {
         final LanternClassLoader classLoader = LanternClassLoader.get();
         classLoader.addTransformerExclusion(Exclusion.forPackage("org.lanternpowered.server.transformer"));
         classLoader.addTransformer(new FastValueContainerClassTransformer());
+        setupTransformedClassCache(classLoader);
 
         // Get the default logger
         final Logger logger = LoggerFactory.getLogger(InternalPluginsInfo.Implementation.NAME);
@@ -113,4 +124,35 @@ public void main(String[] args) {
             System.exit(1);
         }
     }
+
+    /**
+     * Sets up the {@link TransformedClassCache}, this is only done in production because
+     * the transformers can only change together with the server jar in that environment.
+     * Only the classes of the server jar are cached, the libraries are packed in the jar
+     * so that all the classes the transformers can read are covered by its fingerprint.
+     *
+     * @param classLoader The class loader
+     */
+    private static void setupTransformedClassCache(LanternClassLoader classLoader) {
+        final String property = System.getProperty(TRANSFORMED_CLASS_CACHE);
+        if (property != null ? !Boolean.parseBoolean(property) : Environment.get() != Environment.PRODUCTION) {
+            return;
+        }
+        final CodeSource source = LanternServerLaunch.class.getProtectionDomain().getCodeSource();
+        if (source == null) {
+            return;
+        }
+        final String fingerprint;
+        try {
+            // The server jar, or the classes directory in development mode
+            final Path path = Paths.get(source.getLocation().toURI());
+            fingerprint = path.toAbsolutePath() + ":" + Files.size(path) + ":" + Files.getLastModifiedTime(path).toMillis();
+        } catch (URISyntaxException | IOException e) {
+            return;
+        }
+        final TransformedClassCache cache = new TransformedClassCache(Paths.get(".cache", "transformed-classes.bin"),
+                source.getLocation(), fingerprint);
+        cache.load();
+        classLoader.setTransformedClassCache(cache);
+    }
 }
@@ -45,6 +45,7 @@ public long set() {
         if (this.achievingTime == INVALID_TIME) {
             this.achievingTime = System.currentTimeMillis();
             getProgress().updateAchievedState(this.achievingTime);
+            getProgress().markDirty();
         }
         return this.achievingTime;
     }
@@ -59,6 +60,7 @@ public OptionalLong revoke() {
         } finally {
             this.achievingTime = INVALID_TIME;
             getProgress().updateAchievedState(INVALID_TIME);
+            getProgress().markDirty();
         }
     }
 }
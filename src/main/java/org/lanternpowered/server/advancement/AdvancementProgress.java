@@ -36,13 +36,15 @@
 
 public final class AdvancementProgress extends Achievable {
 
+    private final AdvancementsProgress advancementsProgress;
     private final Advancement advancement;
     private final Map<AdvancementCriterion, CriterionProgress> progress = new HashMap<>();
 
     private long achievingTime = INVALID_TIME;
     private boolean lock;
 
-    public AdvancementProgress(Advancement advancement) {
+    AdvancementProgress(AdvancementsProgress advancementsProgress, Advancement advancement) {
+        this.advancementsProgress = advancementsProgress;
         this.advancement = advancement;
         for (AdvancementCriterion criterion : advancement.getLeafCriteria()) {
             final CriterionProgress progress;
@@ -140,6 +142,7 @@ public long set() {
                 }
             }
             this.achievingTime = time;
+            markDirty();
             return time;
         } finally {
             this.lock = false;
@@ -158,12 +161,21 @@ public OptionalLong revoke() {
                 }
             }
             this.achievingTime = INVALID_TIME;
+            markDirty();
             return time;
         } finally {
             this.lock = false;
         }
     }
 
+    /**
+     * Marks this {@link AdvancementProgress} as dirty, the changed
+     * criteria will be sent to the player during the next update.
+     */
+    void markDirty() {
+        this.advancementsProgress.markDirty(this);
+    }
+
     @Override
     void resetDirtyState() {
         this.progress.values().forEach(Achievable::resetDirtyState);
@@ -29,6 +29,7 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.flowpowered.math.vector.Vector2d;
+import com.google.common.collect.ImmutableList;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMaps;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
@@ -84,6 +85,9 @@ public static AdvancementTreeBuilder builder() {
 
     private boolean refresh;
 
+    // The structures of all the advancements, per locale
+    private final Map<Locale, List<MessagePlayOutAdvancements.AdvStruct>> structsByLocale = new HashMap<>();
+
     AdvancementTree(String pluginId, String id, String name, Text title, Text description, ItemStackSnapshot icon, FrameType frameType,
             String background, @Nullable Advancement rootAdvancement, Vector2d rootPosition, boolean showToast) {
         super(pluginId, id, name, title, description, icon, frameType, showToast);
@@ -120,7 +124,7 @@ public void addTracker(Player tracker) {
         final LanternPlayer player = (LanternPlayer) tracker;
         if (this.trackers.add(player)) {
             this.addedTrackers.add(player);
-            final MessagePlayOutAdvancements message = createAdvancementsMessage(Locale.ENGLISH, player.getAdvancementsProgress(), INITIALIZE);
+            final MessagePlayOutAdvancements message = createAdvancementsMessage(player.getLocale(), player.getAdvancementsProgress(), INITIALIZE);
             if (message != null) {
                 player.getConnection().send(message);
             }
@@ -150,7 +154,7 @@ public void removeTracker(Player tracker) {
         final LanternPlayer player = (LanternPlayer) tracker;
         if (this.trackers.remove(player)) {
             this.addedTrackers.remove(player);
-            final MessagePlayOutAdvancements message = createAdvancementsMessage(Locale.ENGLISH, player.getAdvancementsProgress(), REMOVE);
+            final MessagePlayOutAdvancements message = createAdvancementsMessage(player.getLocale(), player.getAdvancementsProgress(), REMOVE);
             if (message != null) {
                 player.getConnection().send(message);
             }
@@ -206,6 +210,7 @@ public void addAdvancement(double x, double y, Advancement advancement) {
         }
         this.advancements.put(advancement, new Vector2d(x, y));
         this.addedAdvancements.add(advancement);
+        this.structsByLocale.clear();
     }
 
     /**
@@ -218,6 +223,7 @@ public void removeAdvancement(Advancement advancement) {
         final Vector2d position = this.advancements.remove(advancement);
         if (position != null) {
             this.removedAdvancements.add(advancement);
+            this.structsByLocale.clear();
             if (position.getX() < 0 || position.getY() < 0) {
                 double xOffset = 0;
                 double yOffset = 0;
@@ -281,8 +287,6 @@ private GlobalAdvancementsData(@Nullable List<String> removed, @Nullable List<Me
 
     @Nullable
     GlobalAdvancementsData createGlobalData(Locale locale, int state) {
-        final String rootId = getInternalId();
-
         List<String> removed = null;
         if (state != INITIALIZE && !this.removedAdvancements.isEmpty()) {
             removed = this.removedAdvancements.stream().map(a -> formatId0(a.getId())).collect(Collectors.toList());
@@ -299,67 +303,67 @@ GlobalAdvancementsData createGlobalData(Locale locale, int state) {
             }
         }
         List<MessagePlayOutAdvancements.AdvStruct> addedStructs = null;
-
-        final Collection<Advancement> advancements;
         if (state == UPDATE) {
-            advancements = this.addedAdvancements;
+            if (!this.addedAdvancements.isEmpty()) {
+                addedStructs = createStructs(locale, this.addedAdvancements, false);
+            }
         } else {
-            advancements = this.advancements.keySet();
+            // The full structure is shared by all the players with the same locale
+            addedStructs = this.structsByLocale.computeIfAbsent(locale,
+                    locale1 -> ImmutableList.copyOf(createStructs(locale1, this.advancements.keySet(), true)));
         }
 
-        if (state != UPDATE || (this.rootAdvancement != null && advancements.contains(this.rootAdvancement))) {
-            addedStructs = new ArrayList<>();
-            addedStructs.add(createStruct(rootId, null, createDisplay(
+        return removed == null && addedStructs == null ? null : new GlobalAdvancementsData(removed, addedStructs);
+    }
+
+    private List<MessagePlayOutAdvancements.AdvStruct> createStructs(Locale locale, Collection<Advancement> advancements, boolean full) {
+        final String rootId = getInternalId();
+        final List<MessagePlayOutAdvancements.AdvStruct> structs = new ArrayList<>();
+        if (full || (this.rootAdvancement != null && advancements.contains(this.rootAdvancement))) {
+            structs.add(createStruct(rootId, null, createDisplay(
                     // The title has to be reset afterwards, otherwise is the style also used for the description
-                    new LocalizedText(Text.builder().append(getTitle()).style(TextStyles.RESET).build(), Locale.ENGLISH),
-                    new LocalizedText(getDescription(), Locale.ENGLISH),
+                    new LocalizedText(Text.builder().append(getTitle()).style(TextStyles.RESET).build(), locale),
+                    new LocalizedText(getDescription(), locale),
                     getIcon(), getFrameType(), this.background,
                     this.rootPosition.getX() + this.xOffset,
                     this.rootPosition.getY() + this.yOffset,
                     doesShowToast(), false), Collections.singletonList(Collections.singletonList(AdvancementCriterion.DUMMY))));
         }
-
-        if (!advancements.isEmpty()) {
-            if (addedStructs == null) {
-                addedStructs = new ArrayList<>();
+        for (Advancement advancement : advancements) {
+            if (advancement == this.rootAdvancement) {
+                continue;
             }
-            for (Advancement advancement : advancements) {
-                if (advancement == this.rootAdvancement) {
-                    continue;
-                }
-                final String id = formatId0(advancement.getId());
-
-                final String parentId;
-                final Optional<Advancement> optParent = advancement.getParent();
-                if (optParent.isPresent()) {
-                    final Advancement parent = optParent.get();
-                    if (this.advancements.containsKey(parent)) {
-                        parentId = formatId0(parent.getId());
-                    } else {
-                        parentId = rootId;
-                    }
+            final String id = formatId0(advancement.getId());
+
+            final String parentId;
+            final Optional<Advancement> optParent = advancement.getParent();
+            if (optParent.isPresent()) {
+                final Advancement parent = optParent.get();
+                if (this.advancements.containsKey(parent)) {
+                    parentId = formatId0(parent.getId());
                 } else {
                     parentId = rootId;
                 }
-                final List<List<String>> criteria;
-                if (advancement.getCriterion() != AdvancementCriterion.EMPTY) {
-                    criteria = CriterionHelper.simplifyToIds(advancement.getCriterion());
-                } else {
-                    criteria = Collections.singletonList(Collections.singletonList(AdvancementCriterion.DUMMY));
-                }
-
-                final Vector2d pos = this.advancements.get(advancement);
-                addedStructs.add(createStruct(id, parentId, createDisplay(
-                        // The title has to be reset afterwards, otherwise is the style also used for the description
-                        new LocalizedText(Text.builder().append(advancement.getTitle()).style(TextStyles.RESET).build(), locale),
-                        new LocalizedText(advancement.getDescription(), locale),
-                        advancement.getIcon(), advancement.getFrameType(), null,
-                        pos.getX() + this.xOffset, pos.getY() + this.yOffset,
-                        advancement.doesShowToast(), false), criteria));
+            } else {
+                parentId = rootId;
+            }
+            final List<List<String>> criteria;
+            if (advancement.getCriterion() != AdvancementCriterion.EMPTY) {
+                criteria = CriterionHelper.simplifyToIds(advancement.getCriterion());
+            } else {
+                criteria = Collections.singletonList(Collections.singletonList(AdvancementCriterion.DUMMY));
             }
-        }
 
-        return removed == null && addedStructs == null ? null : new GlobalAdvancementsData(removed, addedStructs);
+            final Vector2d pos = this.advancements.get(advancement);
+            structs.add(createStruct(id, parentId, createDisplay(
+                    // The title has to be reset afterwards, otherwise is the style also used for the description
+                    new LocalizedText(Text.builder().append(advancement.getTitle()).style(TextStyles.RESET).build(), locale),
+                    new LocalizedText(advancement.getDescription(), locale),
+                    advancement.getIcon(), advancement.getFrameType(), null,
+                    pos.getX() + this.xOffset, pos.getY() + this.yOffset,
+                    advancement.doesShowToast(), false), criteria));
+        }
+        return structs;
     }
 
     @Nullable
@@ -386,25 +390,18 @@ MessagePlayOutAdvancements createAdvancementsMessage(@Nullable GlobalAdvancement
             progressMap.put(rootId, Object2LongMaps.singleton(AdvancementCriterion.DUMMY, System.currentTimeMillis()));
         }
 
-        for (Advancement advancement : this.advancements.keySet()) {
-            final AdvancementProgress progress1 = progress.getOrNull(advancement);
-            if (progress1 != null) {
-                final Object2LongMap<String> entries;
-                if (advancement.getCriterion() != AdvancementCriterion.EMPTY) {
-                    entries = new Object2LongOpenHashMap<>();
-                    if (state == INITIALIZE || state == REFRESH) {
-                        progress1.fillProgress(entries);
-                    } else {
-                        progress1.fillDirtyProgress(entries);
-                    }
-                } else {
-                    entries = Object2LongMaps.singleton(AdvancementCriterion.DUMMY, progress1.get().orElse(-1L));
+        if (state == UPDATE) {
+            // Only the advancements with changed criteria need to be updated
+            for (AdvancementProgress progress1 : progress.getDirtyProgresses()) {
+                if (this.advancements.containsKey(progress1.getAdvancement())) {
+                    progressMap = putProgress(progressMap, progress1, false);
                 }
-                if (!entries.isEmpty()) {
-                    if (progressMap == null) {
-                        progressMap = new HashMap<>();
-                    }
-                    progressMap.put(formatId0(advancement.getId()), entries);
+            }
+        } else {
+            for (Advancement advancement : this.advancements.keySet()) {
+                final AdvancementProgress progress1 = progress.getOrNull(advancement);
+                if (progress1 != null) {
+                    progressMap = putProgress(progressMap, progress1, true);
                 }
             }
         }
@@ -414,6 +411,30 @@ MessagePlayOutAdvancements createAdvancementsMessage(@Nullable GlobalAdvancement
                 progressMap == null ? Collections.emptyMap() : progressMap);
     }
 
+    @Nullable
+    private Map<String, Object2LongMap<String>> putProgress(@Nullable Map<String, Object2LongMap<String>> progressMap,
+            AdvancementProgress progress, boolean all) {
+        final Advancement advancement = progress.getAdvancement();
+        final Object2LongMap<String> entries;
+        if (advancement.getCriterion() != AdvancementCriterion.EMPTY) {
+            entries = new Object2LongOpenHashMap<>();
+            if (all) {
+                progress.fillProgress(entries);
+            } else {
+                progress.fillDirtyProgress(entries);
+            }
+        } else {
+            entries = Object2LongMaps.singleton(AdvancementCriterion.DUMMY, progress.get().orElse(-1L));
+        }
+        if (!entries.isEmpty()) {
+            if (progressMap == null) {
+                progressMap = new HashMap<>();
+            }
+            progressMap.put(formatId0(advancement.getId()), entries);
+        }
+        return progressMap;
+    }
+
     private MessagePlayOutAdvancements.AdvStruct.Display createDisplay(LocalizedText title, LocalizedText description, ItemStackSnapshot icon,
             FrameType frameType, @Nullable String background, double x, double y, boolean showToast, boolean hidden) {
         return new MessagePlayOutAdvancements.AdvStruct.Display(title, description, icon, frameType, background, x, y, showToast, hidden);
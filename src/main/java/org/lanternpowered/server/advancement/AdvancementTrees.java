@@ -90,7 +90,7 @@ public void initialize(Player player) {
                 continue;
             }
             final AdvancementTree.GlobalAdvancementsData globalAdvancementsData = advancementTree.createGlobalData(
-                    Locale.ENGLISH, AdvancementTree.INITIALIZE);
+                    player1.getLocale(), AdvancementTree.INITIALIZE);
             final MessagePlayOutAdvancements message = advancementTree.createAdvancementsMessage(
                     globalAdvancementsData, player1.getAdvancementsProgress(), AdvancementTree.INITIALIZE);
             if (message != null) {
@@ -122,8 +122,15 @@ public void pulse() {
             final List<LanternPlayer> trackers1 = advancementTree.getUpdateTrackers();
             trackers.addAll(trackers1);
             final int state = advancementTree.isRefreshRequired() ? AdvancementTree.REFRESH : AdvancementTree.UPDATE;
-            final AdvancementTree.GlobalAdvancementsData globalAdvancementsData = advancementTree.createGlobalData(Locale.ENGLISH, state);
+            // The global data is shared between all the trackers with the same locale
+            final Map<Locale, AdvancementTree.GlobalAdvancementsData> globalDataByLocale = new HashMap<>();
             for (LanternPlayer tracker : trackers1) {
+                final Locale locale = tracker.getLocale();
+                AdvancementTree.GlobalAdvancementsData globalAdvancementsData = globalDataByLocale.get(locale);
+                if (globalAdvancementsData == null && !globalDataByLocale.containsKey(locale)) {
+                    globalAdvancementsData = advancementTree.createGlobalData(locale, state);
+                    globalDataByLocale.put(locale, globalAdvancementsData);
+                }
                 final MessagePlayOutAdvancements message = advancementTree.createAdvancementsMessage(
                         globalAdvancementsData, tracker.getAdvancementsProgress(), state);
                 if (message != null) {
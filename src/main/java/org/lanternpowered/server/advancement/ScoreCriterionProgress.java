@@ -43,17 +43,24 @@ public class ScoreCriterionProgress extends AbstractCriterionProgress {
     @Override
     public long set() {
         if (this.score == 0) {
-            this.score = getCriterion().getGoal();
+            setScore(getCriterion().getGoal());
         }
         return super.set();
     }
 
     @Override
     public OptionalLong revoke() {
-        this.score = 0;
+        setScore(0);
         return super.revoke();
     }
 
+    private void setScore(int score) {
+        if (this.score != score) {
+            this.score = score;
+            getProgress().markDirty();
+        }
+    }
+
     @Override
     void resetDirtyState() {
         this.dirtyIndex = this.score;
@@ -117,7 +124,7 @@ public int getScore() {
     public OptionalLong set(int score) {
         checkArgument(score >= 0, "score to add may not be negative");
         final int goal = getGoal();
-        this.score = Math.min(score, goal);
+        setScore(Math.min(score, goal));
         if (score == goal) {
             return OptionalLong.of(super.set());
         } else {
@@ -139,7 +146,7 @@ public OptionalLong add(int score) {
         if (this.score == goal) {
             return super.get();
         }
-        this.score = Math.min(this.score + score, goal);
+        setScore(Math.min(this.score + score, goal));
         if (this.score == goal) {
             return OptionalLong.of(super.set());
         }
@@ -155,7 +162,7 @@ public OptionalLong add(int score) {
      */
     public OptionalLong remove(int score) {
         checkArgument(score > 0, "score to remove must be greater then zero");
-        this.score = Math.max(0, this.score - score);
+        setScore(Math.max(0, this.score - score));
         return super.revoke();
     }
 }
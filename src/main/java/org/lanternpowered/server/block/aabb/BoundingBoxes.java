@@ -26,6 +26,8 @@
 package org.lanternpowered.server.block.aabb;
 
 import com.flowpowered.math.vector.Vector3d;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import org.lanternpowered.server.data.type.LanternPortionType;
 import org.lanternpowered.server.data.type.LanternRailDirection;
 import org.spongepowered.api.block.BlockState;
@@ -45,6 +47,24 @@ public class BoundingBoxes {
 
     public static final AABB NULL = null;
 
+    private static final Interner<AABB> interner = Interners.newStrongInterner();
+
+    static {
+        interner.intern(DEFAULT);
+    }
+
+    /**
+     * Interns the {@link AABB}, block states with equal bounding
+     * boxes will share the same instance.
+     *
+     * @param boundingBox The bounding box
+     * @return The interned bounding box
+     */
+    @Nullable
+    public static AABB intern(@Nullable AABB boundingBox) {
+        return boundingBox == null ? null : interner.intern(boundingBox);
+    }
+
     private final static class Farmland {
 
         private static final AABB DEFAULT = new AABB(0.0, 0.0, 0.0, 1.0, 0.9375, 1.0);
@@ -0,0 +1,91 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.block.provider.property;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.data.Property;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A dense id for a {@link Property} type that can be provided by blocks. The id
+ * is used to look up the property in the {@link PropertyTable} of a block state.
+ *
+ * @param <T> The property type
+ */
+public final class BlockPropertyId<T extends Property<?, ?>> {
+
+    private static final Map<Class<?>, BlockPropertyId<?>> ids = new ConcurrentHashMap<>();
+    private static final AtomicInteger indexCounter = new AtomicInteger();
+
+    /**
+     * Gets the {@link BlockPropertyId} for the given property type.
+     *
+     * @param propertyType The property type
+     * @param <T> The property type
+     * @return The block property id
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Property<?, ?>> BlockPropertyId<T> of(Class<T> propertyType) {
+        checkNotNull(propertyType, "propertyType");
+        return (BlockPropertyId<T>) ids.computeIfAbsent(propertyType,
+                type -> new BlockPropertyId<>(propertyType, indexCounter.getAndIncrement()));
+    }
+
+    private final Class<T> propertyType;
+    private final int index;
+
+    private BlockPropertyId(Class<T> propertyType, int index) {
+        this.propertyType = propertyType;
+        this.index = index;
+    }
+
+    /**
+     * Gets the property type.
+     *
+     * @return The property type
+     */
+    public Class<T> getPropertyType() {
+        return this.propertyType;
+    }
+
+    /**
+     * Gets the dense index of this id.
+     *
+     * @return The index
+     */
+    public int getIndex() {
+        return this.index;
+    }
+
+    @Override
+    public String toString() {
+        return this.propertyType.getName() + '#' + this.index;
+    }
+}
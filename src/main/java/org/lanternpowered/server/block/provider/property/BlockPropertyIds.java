@@ -0,0 +1,58 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.block.provider.property;
+
+import org.spongepowered.api.data.property.block.HardnessProperty;
+import org.spongepowered.api.data.property.block.LightEmissionProperty;
+import org.spongepowered.api.data.property.block.MatterProperty;
+import org.spongepowered.api.data.property.block.PassableProperty;
+import org.spongepowered.api.data.property.block.ReplaceableProperty;
+import org.spongepowered.api.data.property.block.SolidCubeProperty;
+import org.spongepowered.api.data.property.block.UnbreakableProperty;
+
+/**
+ * The {@link BlockPropertyId}s of the block properties
+ * that are frequently used by the engine.
+ */
+public final class BlockPropertyIds {
+
+    public static final BlockPropertyId<HardnessProperty> HARDNESS = BlockPropertyId.of(HardnessProperty.class);
+
+    public static final BlockPropertyId<LightEmissionProperty> LIGHT_EMISSION = BlockPropertyId.of(LightEmissionProperty.class);
+
+    public static final BlockPropertyId<MatterProperty> MATTER = BlockPropertyId.of(MatterProperty.class);
+
+    public static final BlockPropertyId<PassableProperty> PASSABLE = BlockPropertyId.of(PassableProperty.class);
+
+    public static final BlockPropertyId<ReplaceableProperty> REPLACEABLE = BlockPropertyId.of(ReplaceableProperty.class);
+
+    public static final BlockPropertyId<SolidCubeProperty> SOLID_CUBE = BlockPropertyId.of(SolidCubeProperty.class);
+
+    public static final BlockPropertyId<UnbreakableProperty> UNBREAKABLE = BlockPropertyId.of(UnbreakableProperty.class);
+
+    private BlockPropertyIds() {
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.block.provider.property;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.data.Property;
+import org.spongepowered.api.util.Direction;
+import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.World;
+
+import javax.annotation.Nullable;
+
+/**
+ * A table with all the {@link PropertyProvider}s of a block state, indexed by
+ * {@link BlockPropertyId}. The values of the {@link ConstantPropertyProvider}s
+ * are baked into the table, they can be retrieved without any allocations.
+ */
+public final class PropertyTable {
+
+    /**
+     * A empty {@link PropertyTable}.
+     */
+    public static final PropertyTable EMPTY = new PropertyTable(new PropertyProvider[0], new Property[0]);
+
+    /**
+     * Bakes the {@link PropertyTable} for the given {@link PropertyProviderCollection}.
+     *
+     * @param collection The property provider collection
+     * @return The property table
+     */
+    @SuppressWarnings("unchecked")
+    public static PropertyTable of(PropertyProviderCollection collection) {
+        checkNotNull(collection, "collection");
+        int size = 0;
+        for (Class<? extends Property> propertyType : collection.keys()) {
+            size = Math.max(size, BlockPropertyId.of((Class) propertyType).getIndex() + 1);
+        }
+        if (size == 0) {
+            return EMPTY;
+        }
+        final PropertyProvider<?>[] providers = new PropertyProvider[size];
+        final Property<?, ?>[] constants = new Property[size];
+        for (Class<? extends Property> propertyType : collection.keys()) {
+            final int index = BlockPropertyId.of((Class) propertyType).getIndex();
+            final PropertyProvider<?> provider = collection.get(propertyType).get();
+            providers[index] = provider;
+            if (provider instanceof ConstantPropertyProvider) {
+                // The block state isn't used by constant providers
+                constants[index] = (Property<?, ?>) provider.get(null, null, null);
+            }
+        }
+        return new PropertyTable(providers, constants);
+    }
+
+    private final PropertyProvider<?>[] providers;
+    private final Property<?, ?>[] constants;
+
+    private PropertyTable(PropertyProvider<?>[] providers, Property<?, ?>[] constants) {
+        this.providers = providers;
+        this.constants = constants;
+    }
+
+    /**
+     * Gets whether there is a {@link PropertyProvider} for the given id.
+     *
+     * @param id The block property id
+     * @return Whether a provider is present
+     */
+    public boolean has(BlockPropertyId<?> id) {
+        final int index = id.getIndex();
+        return index < this.providers.length && this.providers[index] != null;
+    }
+
+    /**
+     * Gets the constant property for the given id, this will return
+     * {@code null} if the property isn't present or not constant.
+     *
+     * @param id The block property id
+     * @param <T> The property type
+     * @return The constant property
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public <T extends Property<?, ?>> T getConstant(BlockPropertyId<T> id) {
+        final int index = id.getIndex();
+        return index < this.constants.length ? (T) this.constants[index] : null;
+    }
+
+    /**
+     * Gets the property for the given id, constant properties will be retrieved
+     * from the table, the other ones will be resolved through the provider.
+     *
+     * @param id The block property id
+     * @param blockState The block state
+     * @param location The location of the block, if present
+     * @param direction The direction, if present
+     * @param <T> The property type
+     * @return The property, or {@code null} if not present
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    public <T extends Property<?, ?>> T get(BlockPropertyId<T> id, BlockState blockState,
+            @Nullable Location<World> location, @Nullable Direction direction) {
+        final int index = id.getIndex();
+        if (index >= this.providers.length) {
+            return null;
+        }
+        final T constant = (T) this.constants[index];
+        if (constant != null) {
+            return constant;
+        }
+        final PropertyProvider<?> provider = this.providers[index];
+        return provider == null ? null : (T) provider.get(blockState, location, direction);
+    }
+}
@@ -35,15 +35,23 @@
 import com.google.common.collect.ImmutableTable;
 import org.lanternpowered.server.block.LanternBlockSnapshot;
 import org.lanternpowered.server.block.LanternBlockType;
+import org.lanternpowered.server.block.aabb.BoundingBoxes;
+import org.lanternpowered.server.block.provider.CachedSimpleObjectProvider;
+import org.lanternpowered.server.block.provider.ConstantObjectProvider;
+import org.lanternpowered.server.block.provider.ObjectProvider;
+import org.lanternpowered.server.block.provider.SimpleObjectProvider;
+import org.lanternpowered.server.block.provider.property.PropertyTable;
 import org.lanternpowered.server.block.trait.LanternBlockTrait;
 import org.lanternpowered.server.catalog.AbstractCatalogType;
 import org.lanternpowered.server.catalog.PluginCatalogType;
 import org.lanternpowered.server.data.IImmutableDataHolderBase;
 import org.lanternpowered.server.data.property.AbstractDirectionRelativePropertyHolder;
+import org.lanternpowered.server.data.value.immutable.ImmutableLanternValue;
 import org.lanternpowered.server.data.value.mutable.LanternValue;
 import org.spongepowered.api.CatalogType;
 import org.spongepowered.api.block.BlockSnapshot;
 import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockTypes;
 import org.spongepowered.api.block.trait.BlockTrait;
 import org.spongepowered.api.data.DataContainer;
 import org.spongepowered.api.data.DataQuery;
@@ -53,6 +61,7 @@
 import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.data.value.immutable.ImmutableValue;
 import org.spongepowered.api.data.value.mutable.Value;
+import org.spongepowered.api.util.AABB;
 import org.spongepowered.api.util.Cycleable;
 import org.spongepowered.api.world.Location;
 import org.spongepowered.api.world.World;
@@ -67,6 +76,8 @@
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+import javax.annotation.Nullable;
+
 @SuppressWarnings({"rawtypes", "unchecked", "SuspiciousMethodCalls"})
 public final class LanternBlockState extends AbstractCatalogType implements PluginCatalogType, BlockState,
         AbstractDirectionRelativePropertyHolder, IImmutableDataHolderBase<BlockState> {
@@ -86,6 +97,9 @@ public final class LanternBlockState extends AbstractCatalogType implements Plug
     // A cache to reuse constructed data manipulators
     private final ImmutableContainerCache immutableContainerCache = new ImmutableContainerCache();
 
+    // The immutable values of this state, lazily constructed
+    @Nullable private volatile ImmutableSet<ImmutableValue<?>> values;
+
     // The name of the block state
     private final String name;
     private final String id;
@@ -96,6 +110,24 @@ public final class LanternBlockState extends AbstractCatalogType implements Plug
     // Whether this state is extended
     boolean extended;
 
+    // The packed internal id and data, assigned by the block registry
+    private short packedType;
+
+    // The baked property table, assigned by the block registry
+    private PropertyTable propertyTable = PropertyTable.EMPTY;
+
+    /**
+     * The collision box types.
+     */
+    public static final byte COLLISION_BOX_UNKNOWN = 0;
+    public static final byte COLLISION_BOX_NONE = 1;
+    public static final byte COLLISION_BOX_STATIC = 2;
+    public static final byte COLLISION_BOX_DYNAMIC = 3;
+
+    // The interned collision box, only present for static collision boxes
+    @Nullable private AABB collisionBox;
+    private volatile byte collisionBoxType = COLLISION_BOX_UNKNOWN;
+
     LanternBlockState(LanternBlockStateMap baseState, ImmutableMap<BlockTrait<?>, Comparable<?>> traitValues) {
         this.traitValues = traitValues;
         this.baseState = baseState;
@@ -126,6 +158,89 @@ public int getInternalId() {
         return this.internalId;
     }
 
+    /**
+     * Gets the packed internal id and data of this block state,
+     * as it's stored in the chunk sections.
+     *
+     * @return The packed type
+     */
+    public short getPackedType() {
+        return this.packedType;
+    }
+
+    /**
+     * Sets the packed internal id and data of this block state,
+     * this should only be called by the block registry.
+     *
+     * @param packedType The packed type
+     */
+    public void setPackedType(short packedType) {
+        this.packedType = packedType;
+    }
+
+    /**
+     * Gets the {@link PropertyTable} of this block state.
+     *
+     * @return The property table
+     */
+    public PropertyTable getPropertyTable() {
+        return this.propertyTable;
+    }
+
+    /**
+     * Sets the {@link PropertyTable} of this block state,
+     * this should only be called by the block registry.
+     *
+     * @param propertyTable The property table
+     */
+    public void setPropertyTable(PropertyTable propertyTable) {
+        this.propertyTable = checkNotNull(propertyTable, "propertyTable");
+    }
+
+    /**
+     * Gets the type of the collision box of this block state, this will be
+     * {@link #COLLISION_BOX_NONE}, {@link #COLLISION_BOX_STATIC} if the collision
+     * box can be retrieved through {@link #getCollisionBox()} or
+     * {@link #COLLISION_BOX_DYNAMIC} if the collision box depends on the location.
+     *
+     * @return The collision box type
+     */
+    public byte getCollisionBoxType() {
+        byte type = this.collisionBoxType;
+        if (type == COLLISION_BOX_UNKNOWN) {
+            type = initCollisionBox();
+        }
+        return type;
+    }
+
+    /**
+     * Gets the static collision box of this block state, relative to the block
+     * position. Only present if the collision box type is {@link #COLLISION_BOX_STATIC}.
+     *
+     * @return The collision box
+     */
+    @Nullable
+    public AABB getCollisionBox() {
+        return getCollisionBoxType() == COLLISION_BOX_STATIC ? this.collisionBox : null;
+    }
+
+    private byte initCollisionBox() {
+        final LanternBlockType blockType = (LanternBlockType) getType();
+        final ObjectProvider<AABB> provider = blockType.getBoundingBoxProvider();
+        byte type;
+        if (blockType == BlockTypes.AIR || provider == null) {
+            type = COLLISION_BOX_NONE;
+        } else if (provider instanceof ConstantObjectProvider || provider instanceof CachedSimpleObjectProvider ||
+                provider instanceof SimpleObjectProvider) {
+            this.collisionBox = BoundingBoxes.intern(provider.get(this, null, null));
+            type = this.collisionBox == null ? COLLISION_BOX_NONE : COLLISION_BOX_STATIC;
+        } else {
+            type = COLLISION_BOX_DYNAMIC;
+        }
+        this.collisionBoxType = type;
+        return type;
+    }
+
     @Override
     public ImmutableContainerCache getContainerCache() {
         return this.immutableContainerCache;
@@ -283,8 +398,16 @@ public ImmutableSet<Key<?>> getKeys() {
 
     @Override
     public ImmutableSet<ImmutableValue<?>> getValues() {
-        // TODO Auto-generated method stub
-        return null;
+        ImmutableSet<ImmutableValue<?>> values = this.values;
+        if (values == null) {
+            final ImmutableSet.Builder<ImmutableValue<?>> builder = ImmutableSet.builder();
+            for (Map.Entry<Key<Value<?>>, BlockTrait<?>> entry : this.keyToBlockTrait.entrySet()) {
+                final Object value = this.traitValues.get(entry.getValue());
+                builder.add(ImmutableLanternValue.cachedOf((Key) entry.getKey(), value, value));
+            }
+            this.values = values = builder.build();
+        }
+        return values;
     }
 
     @Override
@@ -189,6 +189,95 @@ private static final class Server {
         @Setting(value = "default-resource-pack", comment = "The default resource pack.\nLeave this empty to disable the default resource pack.")
         private String defaultResourcePack = "";
 
+        @Setting(value = "status-cache", comment = "Configuration for the caching of server list ping responses.")
+        private StatusCache statusCache = new StatusCache();
+
+        @Setting(value = "network", comment = "Configuration for the player connections.")
+        private Network network = new Network();
+
+    }
+
+    @ConfigSerializable
+    private static final class Network {
+
+        @Setting(value = "write-buffer-high-water-mark", comment =
+                "The amount of pending outbound bytes (in kilobytes) of a connection before it becomes\n" +
+                "unwritable. Chunk streaming is deferred and non essential messages may be dropped\n" +
+                "while a connection is unwritable.")
+        private int writeBufferHighWaterMark = 2048;
+
+        @Setting(value = "write-buffer-low-water-mark", comment =
+                "The amount of pending outbound bytes (in kilobytes) of a connection before\n" +
+                "it becomes writable again.")
+        private int writeBufferLowWaterMark = 1024;
+
+        @Setting(value = "drop-non-essential-messages", comment =
+                "Whether non essential messages, like particles and sounds, should be\n" +
+                "dropped while a connection is unwritable.")
+        private boolean dropNonEssentialMessages = true;
+
+        @Setting(value = "worker-threads", comment =
+                "The amount of threads that handle the messages that don't need to be handled\n" +
+                "on the main thread, like chat and tab completion. The messages of a single\n" +
+                "connection will always be handled in order. 0 to handle them on the main thread.")
+        private int workerThreads = 2;
+
+        @Setting(value = "io-threads", comment =
+                "The amount of threads that handle the reading and writing of the connections.\n" +
+                "0 to use the default amount, which is twice the amount of available processors.")
+        private int ioThreads = 0;
+
+        @Setting(value = "acceptor-threads", comment =
+                "The amount of threads that accept new connections. Multiple acceptor threads\n" +
+                "require SO_REUSEPORT, which is only supported by the epoll transport.")
+        private int acceptorThreads = 1;
+
+        @Setting(value = "socket-send-buffer-size", comment =
+                "The size of the socket send buffer (in kilobytes), 0 to use the os default.")
+        private int socketSendBufferSize = 0;
+
+        @Setting(value = "socket-receive-buffer-size", comment =
+                "The size of the socket receive buffer (in kilobytes), 0 to use the os default.")
+        private int socketReceiveBufferSize = 0;
+
+        @Setting(value = "tcp-fast-open-queue-length", comment =
+                "The maximum amount of pending TCP fast open requests, 0 to disable TCP fast open.\n" +
+                "Is only supported by the epoll transport.")
+        private int tcpFastOpenQueueLength = 0;
+
+        @Setting(value = "epoll-edge-triggered", comment =
+                "Whether the epoll transport should use edge triggered mode instead\n" +
+                "of level triggered mode.")
+        private boolean epollEdgeTriggered = true;
+
+        @Setting(value = "chunks-per-tick", comment =
+                "The maximum amount of chunks that will be send to a player every tick,\n" +
+                "the closest chunks will be send first. 0 to send all the chunks at once.")
+        private int chunksPerTick = 10;
+
+        @Setting(value = "chunk-bytes-per-tick", comment =
+                "The amount of bytes (in kilobytes) that a player should be able to receive\n" +
+                "every tick. No new chunks will be send while more bytes than can be received\n" +
+                "during the measured round trip time of a player are pending. 0 to disable.")
+        private int chunkBytesPerTick = 256;
+    }
+
+    @ConfigSerializable
+    private static final class StatusCache {
+
+        @Setting(value = ENABLED, comment = "Whether the server list ping responses should be cached.")
+        private boolean enabled = true;
+
+        @Setting(value = "refresh-interval", comment =
+                "The interval in milliseconds after which a cached response will be refreshed.\n" +
+                "A response will also be refreshed when the player count or motd changes.")
+        private int refreshInterval = 1000;
+
+        @Setting(value = "post-event-on-cache-miss", comment =
+                "Whether the ClientPingServerEvent should be posted when the cached response\n" +
+                "is refreshed. The event will never be posted for a cached response, plugins\n" +
+                "that modify the response per client require the cache to be disabled.")
+        private boolean postEventOnCacheMiss = true;
     }
 
     @ConfigSerializable
@@ -348,4 +437,64 @@ public boolean useQueryEpollWhenAvailable() {
     public String getDefaultResourcePack() {
         return this.server.defaultResourcePack;
     }
+
+    public int getWriteBufferHighWaterMark() {
+        return this.server.network.writeBufferHighWaterMark * 1024;
+    }
+
+    public int getWriteBufferLowWaterMark() {
+        return this.server.network.writeBufferLowWaterMark * 1024;
+    }
+
+    public boolean shouldDropNonEssentialMessages() {
+        return this.server.network.dropNonEssentialMessages;
+    }
+
+    public int getNetworkWorkerThreads() {
+        return this.server.network.workerThreads;
+    }
+
+    public int getNetworkIoThreads() {
+        return this.server.network.ioThreads;
+    }
+
+    public int getNetworkAcceptorThreads() {
+        return this.server.network.acceptorThreads;
+    }
+
+    public int getSocketSendBufferSize() {
+        return this.server.network.socketSendBufferSize * 1024;
+    }
+
+    public int getSocketReceiveBufferSize() {
+        return this.server.network.socketReceiveBufferSize * 1024;
+    }
+
+    public int getTcpFastOpenQueueLength() {
+        return this.server.network.tcpFastOpenQueueLength;
+    }
+
+    public boolean isEpollEdgeTriggered() {
+        return this.server.network.epollEdgeTriggered;
+    }
+
+    public int getChunksPerTick() {
+        return this.server.network.chunksPerTick;
+    }
+
+    public int getChunkBytesPerTick() {
+        return this.server.network.chunkBytesPerTick * 1024;
+    }
+
+    public boolean isStatusCacheEnabled() {
+        return this.server.statusCache.enabled;
+    }
+
+    public int getStatusCacheRefreshInterval() {
+        return this.server.statusCache.refreshInterval;
+    }
+
+    public boolean shouldPostPingEventOnCacheMiss() {
+        return this.server.statusCache.postEventOnCacheMiss;
+    }
 }
@@ -0,0 +1,76 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.data;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+
+/**
+ * A cache for the keys of {@link DataView}s and the single part {@link DataQuery}s
+ * that are constructed from them. Serializing and deserializing entities, tile entities
+ * and items constructs the same keys over and over again, this avoids that every one
+ * of them results in new strings and queries that need to be hashed.
+ */
+public final class DataQueryCache {
+
+    private static final int MAXIMUM_QUERIES = 16384;
+
+    private static final Interner<String> keyInterner = Interners.newWeakInterner();
+
+    private static final LoadingCache<String, DataQuery> queryCache = CacheBuilder.newBuilder()
+            .maximumSize(MAXIMUM_QUERIES)
+            .concurrencyLevel(4)
+            .build(CacheLoader.from(key -> DataQuery.of(key)));
+
+    private DataQueryCache() {
+    }
+
+    /**
+     * Interns the given {@link DataView} key.
+     *
+     * @param key The key
+     * @return The interned key
+     */
+    public static String intern(String key) {
+        return keyInterner.intern(key);
+    }
+
+    /**
+     * Gets a cached {@link DataQuery} that only consists
+     * of the given part.
+     *
+     * @param key The key
+     * @return The data query
+     */
+    public static DataQuery of(String key) {
+        return queryCache.getUnchecked(key);
+    }
+}
@@ -100,7 +100,7 @@ default <E> DataTransactionResult offer(Key<? extends BaseValue<E>> key, E eleme
      */
     default <E> boolean offerFast(Key<? extends BaseValue<E>> key, E element) {
         // Check the local key registration
-        final KeyRegistration<?, ?> localKeyRegistration = (KeyRegistration<?, ?>) getValueCollection().get((Key) key).orElse(null);
+        final KeyRegistration<?, ?> localKeyRegistration = (KeyRegistration<?, ?>) getValueCollection().getRegistration((Key) key);
         if (localKeyRegistration != null) {
             return ((Processor<BaseValue<E>, E>) localKeyRegistration).offerFastTo(this, element);
         }
@@ -137,7 +137,7 @@ default <E> boolean offerFast(Key<? extends BaseValue<E>> key, E element) {
     @Override
     default <E> DataTransactionResult offer(Key<? extends BaseValue<E>> key, E element) {
         // Check the local key registration
-        final KeyRegistration<?, ?> localKeyRegistration = (KeyRegistration<?, ?>) getValueCollection().get((Key) key).orElse(null);
+        final KeyRegistration<?, ?> localKeyRegistration = (KeyRegistration<?, ?>) getValueCollection().getRegistration((Key) key);
         if (localKeyRegistration != null) {
             return ((Processor<BaseValue<E>, E>) localKeyRegistration).offerTo(this, element);
         }
@@ -197,7 +197,7 @@ default <E> boolean offerFast(BaseValue<E> value) {
         final Key<? extends BaseValue<E>> key = value.getKey();
 
         // Check the local key registration
-        final KeyRegistration<?, ?> localKeyRegistration = (KeyRegistration<?, ?>) getValueCollection().get((Key) key).orElse(null);
+        final KeyRegistration<?, ?> localKeyRegistration = (KeyRegistration<?, ?>) getValueCollection().getRegistration((Key) key);
         if (localKeyRegistration != null) {
             return ((Processor<BaseValue<E>, E>) localKeyRegistration).offerFastTo(this, value);
         }
@@ -238,7 +238,7 @@ default <E> DataTransactionResult offer(BaseValue<E> value) {
         final Key<? extends BaseValue<E>> key = value.getKey();
 
         // Check the local key registration
-        final KeyRegistration<?, ?> localKeyRegistration = (KeyRegistration<?, ?>) getValueCollection().get((Key) key).orElse(null);
+        final KeyRegistration<?, ?> localKeyRegistration = (KeyRegistration<?, ?>) getValueCollection().getRegistration((Key) key);
         if (localKeyRegistration != null) {
             return ((Processor<BaseValue<E>, E>) localKeyRegistration).offerTo(this, value);
         }
@@ -346,7 +346,7 @@ default boolean removeFast(Key<?> key) {
         checkNotNull(key, "key");
 
         // Check the local key registration
-        final KeyRegistration<?, ?> localKeyRegistration = (KeyRegistration<?, ?>) getValueCollection().get((Key) key).orElse(null);
+        final KeyRegistration<?, ?> localKeyRegistration = (KeyRegistration<?, ?>) getValueCollection().getRegistration((Key) key);
         if (localKeyRegistration != null) {
             return ((Processor<BaseValue<?>, ?>) localKeyRegistration).removeFastFrom(this);
         }
@@ -384,7 +384,7 @@ default DataTransactionResult remove(Key<?> key) {
         checkNotNull(key, "key");
 
         // Check the local key registration
-        final KeyRegistration<?, ?> localKeyRegistration = (KeyRegistration<?, ?>) getValueCollection().get((Key) key).orElse(null);
+        final KeyRegistration<?, ?> localKeyRegistration = (KeyRegistration<?, ?>) getValueCollection().getRegistration((Key) key);
         if (localKeyRegistration != null) {
             return ((Processor<BaseValue<?>, ?>) localKeyRegistration).removeFrom(this);
         }
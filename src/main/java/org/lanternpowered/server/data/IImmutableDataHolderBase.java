@@ -34,7 +34,6 @@
 import org.spongepowered.api.data.merge.MergeFunction;
 import org.spongepowered.api.data.value.BaseValue;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
 
@@ -69,15 +68,17 @@ default boolean supports(Class<? extends ImmutableDataManipulator<?, ?>> contain
     default <T extends ImmutableDataManipulator<?, ?>> Optional<T> get(Class<T> containerClass) {
         final ImmutableContainerCache cache = getContainerCache();
         if (cache != null) {
-            if (cache.manipulators == null) {
-                cache.manipulators = new HashMap<>();
-            }
             final Object container = cache.manipulators.get(containerClass);
             if (container != null) {
+                ImmutableValueInterner.recordContainerHit();
                 return container == ImmutableContainerCache.NONE ? Optional.empty() : Optional.of((T) container);
             }
         }
 
+        if (cache != null) {
+            ImmutableValueInterner.recordContainerMiss();
+        }
+
         // Check default registrations
         final Optional<DataManipulatorRegistration> optRegistration = DataManipulatorRegistry.get().getByImmutable((Class) containerClass);
         if (optRegistration.isPresent()) {
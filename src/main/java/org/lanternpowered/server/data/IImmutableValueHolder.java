@@ -35,9 +35,9 @@
 import org.spongepowered.api.data.value.immutable.ImmutableValue;
 import org.spongepowered.api.data.value.mutable.Value;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nullable;
 
@@ -46,7 +46,7 @@ public interface IImmutableValueHolder extends IValueHolder {
 
     @Override
     default <E, V extends BaseValue<E>> Optional<V> getValueFor(Key<V> key) {
-        if (ImmutableValue.class.isInstance(key.getValueToken().getRawType())) {
+        if (ImmutableValue.class.isAssignableFrom(key.getValueToken().getRawType())) {
             return getImmutableValueFor((Key) key);
         }
         return IValueHolder.super.getValueFor(key);
@@ -75,8 +75,9 @@ default <E, R extends ImmutableValue<E>> Optional<R> getImmutableValueFor(Key<?
         checkNotNull(key, "key");
         final ImmutableContainerCache cache = getContainerCache();
         if (cache != null) {
-            Object value = cache.values.get(key);
+            final Object value = cache.values.get(key);
             if (value != null) {
+                ImmutableValueInterner.recordContainerHit();
                 return value == ImmutableContainerCache.NONE ? Optional.empty() : Optional.of((R) value);
             }
         }
@@ -85,9 +86,10 @@ default <E, R extends ImmutableValue<E>> Optional<R> getImmutableValueFor(Key<?
             optValue = Optional.of(((Value) optValue.get()).asImmutable());
         }
         if (cache != null) {
+            ImmutableValueInterner.recordContainerMiss();
             cache.values.put(key, optValue.orElse(ImmutableContainerCache.NONE));
         }
-        return Optional.empty();
+        return optValue;
     }
 
     /**
@@ -107,8 +109,9 @@ final class ImmutableContainerCache {
         // null means that it wasn't being retrieved before
         static final Object NONE = new Object();
 
-        @Nullable Map<Class<?>, Object> manipulators;
-        final Map<Key<?>, Object> values = new HashMap<>();
+        // Immutable data holders are shared between threads, block states for example
+        final Map<Class<?>, Object> manipulators = new ConcurrentHashMap<>();
+        final Map<Key<?>, Object> values = new ConcurrentHashMap<>();
 
         // Doesn't matter in which sub class it is, just not directly in the interface,
         // these methods shouldn't be exposed
@@ -118,9 +121,6 @@ static <I extends ImmutableDataManipulator<I, M>, M extends DataManipulator<M, I
                 IImmutableDataHolderBase<?> dataHolder, DataManipulatorRegistration<M, I> registration, Class<?> containerClass) {
             final DataManipulator manipulator = registration.createMutable();
             final ImmutableContainerCache cache = dataHolder.getContainerCache();
-            if (cache != null && cache.manipulators == null) {
-                cache.manipulators = new HashMap<>();
-            }
             for (Key key : registration.getRequiredKeys()) {
                 final Optional value = dataHolder.getValue(key);
                 if (!value.isPresent()) {
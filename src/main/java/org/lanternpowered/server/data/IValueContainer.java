@@ -43,6 +43,8 @@
 import java.util.Optional;
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 @SuppressWarnings("unchecked")
 public interface IValueContainer<C extends ValueContainer<C>> extends ValueContainer<C>, IValueHolder {
 
@@ -112,7 +114,7 @@ default boolean supports(Key<?> key) {
         checkNotNull(key, "key");
 
         // Check the local key registration
-        final KeyRegistration<?, ?> localKeyRegistration = (KeyRegistration<?, ?>) getValueCollection().get((Key) key).orElse(null);
+        final KeyRegistration<?, ?> localKeyRegistration = (KeyRegistration<?, ?>) getValueCollection().getRegistration((Key) key);
         if (localKeyRegistration != null) {
             return ((Processor<BaseValue<?>, ?>) localKeyRegistration).isApplicableTo(this);
         }
@@ -137,13 +139,36 @@ default boolean supports(Key<?> key) {
         return false;
     }
 
+    /**
+     * Gets the element for the given {@link Key}. This is a fast equivalent
+     * of {@link #get(Key)} for internal use, which avoids the construction
+     * of a {@link Optional} for locally registered keys.
+     *
+     * @param key The key
+     * @param <E> The element type
+     * @return The element, or {@code null} if not present
+     */
+    @SuppressWarnings("unchecked")
+    @Nullable
+    default <E> E getOrNull(Key<? extends BaseValue<E>> key) {
+        checkNotNull(key, "key");
+
+        // Check the local key registration
+        final KeyRegistration<BaseValue<E>, E> localKeyRegistration = getValueCollection().getRegistration(key);
+        if (localKeyRegistration != null) {
+            return ((Processor<BaseValue<E>, E>) localKeyRegistration).getOrNullFrom(this);
+        }
+
+        return get(key).orElse(null);
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     default <E> Optional<E> get(Key<? extends BaseValue<E>> key) {
         checkNotNull(key, "key");
 
         // Check the local key registration
-        final KeyRegistration<BaseValue<E>, E> localKeyRegistration = getValueCollection().get(key).orElse(null);
+        final KeyRegistration<BaseValue<E>, E> localKeyRegistration = getValueCollection().getRegistration(key);
         if (localKeyRegistration != null) {
             return ((Processor<BaseValue<E>, E>) localKeyRegistration).getFrom(this);
         }
@@ -172,7 +197,7 @@ default <E> Optional<E> get(Key<? extends BaseValue<E>> key) {
     @Override
     default <E, V extends BaseValue<E>> Optional<V> getRawValueFor(Key<V> key) {
         // Check the local key registration
-        final KeyRegistration<BaseValue<E>, E> localKeyRegistration = getValueCollection().get(key).orElse(null);
+        final KeyRegistration<BaseValue<E>, E> localKeyRegistration = getValueCollection().getRegistration(key);
         if (localKeyRegistration != null) {
             return ((Processor<V, E>) localKeyRegistration).getValueFrom(this);
         }
@@ -0,0 +1,148 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.data;
+
+import com.google.common.cache.CacheStats;
+import org.lanternpowered.server.data.value.immutable.ImmutableLanternValue;
+import org.spongepowered.api.CatalogType;
+import org.spongepowered.api.data.key.Key;
+import org.spongepowered.api.data.value.BaseValue;
+import org.spongepowered.api.data.value.immutable.ImmutableValue;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+
+/**
+ * Interns {@link ImmutableValue}s whose elements belong to a small and
+ * enumerable domain: booleans, enum constants, catalog types and small
+ * integers. Values of every other type are not interned, there is no
+ * benefit in keeping an unbounded amount of values alive.
+ *
+ * <p>Lookups are done through nested maps (key, default value and the
+ * actual value), which means that no lookup objects have to be
+ * constructed when a value is already interned.</p>
+ *
+ * <p>The hits and misses of the interner and the immutable container
+ * caches of immutable data holders are tracked, see {@link #getValueStats()}
+ * and {@link #getContainerStats()}.</p>
+ */
+public final class ImmutableValueInterner {
+
+    private ImmutableValueInterner() {}
+
+    /**
+     * The range of integer values that will be interned.
+     */
+    private static final int MIN_INTERNED_INT = -128;
+    private static final int MAX_INTERNED_INT = 1023;
+
+    private static final Map<Key<?>, Map<Object, Map<Object, ImmutableValue<?>>>> values = new ConcurrentHashMap<>();
+
+    private static final LongAdder valueHits = new LongAdder();
+    private static final LongAdder valueMisses = new LongAdder();
+
+    private static final LongAdder containerHits = new LongAdder();
+    private static final LongAdder containerMisses = new LongAdder();
+
+    /**
+     * Gets whether the given element belongs to a domain that can be interned.
+     *
+     * @param element The element
+     * @return Whether the element can be interned
+     */
+    public static boolean isInternable(@Nullable Object element) {
+        if (element == null) {
+            return false;
+        }
+        if (element instanceof Boolean || element instanceof Enum || element instanceof CatalogType) {
+            return true;
+        }
+        if (element instanceof Integer || element instanceof Short || element instanceof Byte) {
+            final int value = ((Number) element).intValue();
+            return value >= MIN_INTERNED_INT && value <= MAX_INTERNED_INT;
+        }
+        return false;
+    }
+
+    /**
+     * Gets a {@link ImmutableValue} for the given {@link Key}, default value and actual
+     * value. The value will be interned if both the default and the actual value are
+     * {@link #isInternable(Object) internable}, otherwise will a new value be constructed.
+     *
+     * @param key The key
+     * @param defaultValue The default value
+     * @param actualValue The actual value
+     * @param <E> The type of the element
+     * @return The immutable value
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> ImmutableValue<E> get(Key<? extends BaseValue<E>> key, E defaultValue, @Nullable E actualValue) {
+        if (!isInternable(defaultValue) || !isInternable(actualValue)) {
+            return new ImmutableLanternValue<>(key, defaultValue, actualValue);
+        }
+        final Map<Object, ImmutableValue<?>> byActualValue = values
+                .computeIfAbsent(key, key1 -> new ConcurrentHashMap<>())
+                .computeIfAbsent(defaultValue, defaultValue1 -> new ConcurrentHashMap<>());
+        ImmutableValue<?> value = byActualValue.get(actualValue);
+        if (value != null) {
+            valueHits.increment();
+            return (ImmutableValue<E>) value;
+        }
+        valueMisses.increment();
+        value = byActualValue.computeIfAbsent(actualValue, actualValue1 -> new ImmutableLanternValue<>(key, defaultValue, actualValue));
+        return (ImmutableValue<E>) value;
+    }
+
+    /**
+     * Gets the statistics of the interned immutable values.
+     *
+     * @return The value statistics
+     */
+    public static CacheStats getValueStats() {
+        return new CacheStats(valueHits.sum(), valueMisses.sum(), 0, 0, 0, 0);
+    }
+
+    /**
+     * Gets the statistics of the immutable value and manipulator caches
+     * of the immutable data holders, for example block states.
+     *
+     * @return The container statistics
+     */
+    public static CacheStats getContainerStats() {
+        return new CacheStats(containerHits.sum(), containerMisses.sum(), 0, 0, 0, 0);
+    }
+
+    static void recordContainerHit() {
+        containerHits.increment();
+    }
+
+    static void recordContainerMiss() {
+        containerMisses.increment();
+    }
+}
@@ -37,6 +37,7 @@
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.reflect.TypeToken;
+import it.unimi.dsi.fastutil.objects.Object2ObjectArrayMap;
 import org.apache.commons.lang3.ArrayUtils;
 import org.lanternpowered.server.data.persistence.DataTypeSerializer;
 import org.lanternpowered.server.game.Lantern;
@@ -70,7 +71,14 @@
 @SuppressWarnings("Duplicates")
 class MemoryDataView implements DataView {
 
-    protected final Map<String, Object> map = new LinkedHashMap<>();
+    /**
+     * The maximum amount of entries that will be stored in a array map,
+     * most views only have a few entries. Exceeding this amount will
+     * result in the map being converted into a hash map.
+     */
+    private static final int MAX_ARRAY_MAP_SIZE = 8;
+
+    protected Map<String, Object> map = new Object2ObjectArrayMap<>(4);
     private final DataContainer container;
     private final DataView parent;
     private final DataQuery path;
@@ -92,6 +100,13 @@ private MemoryDataView(DataView parent, DataQuery path, DataView.SafetyMode safe
         this.safety = checkNotNull(safety, "Safety mode");
     }
 
+    private void put(String key, Object value) {
+        if (this.map.size() == MAX_ARRAY_MAP_SIZE && this.map instanceof Object2ObjectArrayMap && !this.map.containsKey(key)) {
+            this.map = new LinkedHashMap<>(this.map);
+        }
+        this.map.put(DataQueryCache.intern(key), value);
+    }
+
     @Override
     public DataContainer getContainer() {
         return this.container;
@@ -117,13 +132,13 @@ public Optional<DataView> getParent() {
     public Set<DataQuery> getKeys(boolean deep) {
         final ImmutableSet.Builder<DataQuery> builder = ImmutableSet.builder();
         for (Map.Entry<String, Object> entry : this.map.entrySet()) {
-            builder.add(of(entry.getKey()));
+            builder.add(DataQueryCache.of(entry.getKey()));
         }
         if (deep) {
             for (Map.Entry<String, Object> entry : this.map.entrySet()) {
                 if (entry.getValue() instanceof DataView) {
                     for (DataQuery query : ((DataView) entry.getValue()).getKeys(true)) {
-                        builder.add(of(entry.getKey()).then(query));
+                        builder.add(DataQueryCache.of(entry.getKey()).then(query));
                     }
                 }
             }
@@ -139,7 +154,7 @@ public Map<DataQuery, Object> getValues(boolean deep) {
             if (value instanceof DataView) {
                 builder.put(query, ((DataView) value).getValues(deep));
             } else {
-                builder.put(query, get(query).get());
+                builder.put(query, value);
             }
         }
         return builder.build();
@@ -235,12 +250,10 @@ public DataView set(DataQuery path, Object value) {
         final List<String> parts = path.getParts();
         final String key = parts.get(0);
         if (parts.size() > 1) {
-            final DataQuery subQuery = of(key);
-            final Optional<DataView> subViewOptional = getUnsafeView(subQuery);
+            final Optional<DataView> subViewOptional = getUnsafeView(key);
             final DataView subView;
             if (!subViewOptional.isPresent()) {
-                createView(subQuery);
-                subView = (DataView) this.map.get(key);
+                subView = createView(DataQueryCache.of(key));
             } else {
                 subView = subViewOptional.get();
             }
@@ -279,27 +292,27 @@ public DataView set(DataQuery path, Object value) {
         } else if (value.getClass().isArray()) {
             if (this.safety == SafetyMode.ALL_DATA_CLONED || this.safety == SafetyMode.CLONED_ON_SET) {
                 if (value instanceof byte[]) {
-                    this.map.put(key, ArrayUtils.clone((byte[]) value));
+                    put(key, ArrayUtils.clone((byte[]) value));
                 } else if (value instanceof short[]) {
-                    this.map.put(key, ArrayUtils.clone((short[]) value));
+                    put(key, ArrayUtils.clone((short[]) value));
                 } else if (value instanceof int[]) {
-                    this.map.put(key, ArrayUtils.clone((int[]) value));
+                    put(key, ArrayUtils.clone((int[]) value));
                 } else if (value instanceof long[]) {
-                    this.map.put(key, ArrayUtils.clone((long[]) value));
+                    put(key, ArrayUtils.clone((long[]) value));
                 } else if (value instanceof float[]) {
-                    this.map.put(key, ArrayUtils.clone((float[]) value));
+                    put(key, ArrayUtils.clone((float[]) value));
                 } else if (value instanceof double[]) {
-                    this.map.put(key, ArrayUtils.clone((double[]) value));
+                    put(key, ArrayUtils.clone((double[]) value));
                 } else if (value instanceof boolean[]) {
-                    this.map.put(key, ArrayUtils.clone((boolean[]) value));
+                    put(key, ArrayUtils.clone((boolean[]) value));
                 } else {
-                    this.map.put(key, ArrayUtils.clone((Object[]) value));
+                    put(key, ArrayUtils.clone((Object[]) value));
                 }
             } else {
-                this.map.put(key, value);
+                put(key, value);
             }
         } else {
-            this.map.put(key, value);
+            put(key, value);
         }
         return this;
     }
@@ -346,7 +359,7 @@ private void setCollection(String key, Collection<?> value) {
                 }
             }
         }
-        this.map.put(key, builder.build());
+        put(key, builder.build());
     }
 
     @SuppressWarnings("rawtypes")
@@ -383,9 +396,9 @@ private ImmutableList<Object> ensureSerialization(Collection<?> collection) {
     }
 
     private void setMap(String key, Map<?, ?> value) {
-        final DataView view = createView(of(key));
+        final DataView view = createView(DataQueryCache.of(key));
         for (Map.Entry<?, ?> entry : value.entrySet()) {
-            view.set(of(entry.getKey().toString()), entry.getValue());
+            view.set(DataQueryCache.of(entry.getKey().toString()), entry.getValue());
         }
     }
 
@@ -402,7 +415,7 @@ public DataView remove(DataQuery path) {
         final List<String> parts = path.getParts();
         if (parts.size() > 1) {
             final String subKey = parts.get(0);
-            final DataQuery subQuery = of(subKey);
+            final DataQuery subQuery = DataQueryCache.of(subKey);
             final Optional<DataView> subViewOptional = getUnsafeView(subQuery);
             if (!subViewOptional.isPresent()) {
                 return this;
@@ -424,16 +437,19 @@ public DataView createView(DataQuery path) {
         checkArgument(sz != 0, "The size of the query must be at least 1");
 
         final String key = queryParts.get(0);
-        final DataQuery keyQuery = of(key);
+        final DataQuery keyQuery = DataQueryCache.of(key);
 
         if (sz == 1) {
             final DataView result = new MemoryDataView(this, keyQuery, this.safety);
-            this.map.put(key, result);
+            put(key, result);
             return result;
         }
         final DataQuery subQuery = path.popFirst();
-        final DataView subView = (DataView) this.map.computeIfAbsent(key,
-                key1 -> new MemoryDataView(this.parent, keyQuery, this.safety));
+        DataView subView = (DataView) this.map.get(key);
+        if (subView == null) {
+            subView = new MemoryDataView(this.parent, keyQuery, this.safety);
+            put(key, subView);
+        }
         return subView.createView(subQuery);
     }
 
@@ -28,12 +28,14 @@
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.collect.Collections2;
 import org.lanternpowered.server.data.element.Element;
 import org.lanternpowered.server.data.element.ElementKeyRegistration;
 import org.lanternpowered.server.data.processor.ElementProcessorBuilder;
 import org.lanternpowered.server.data.processor.ValueProcessorKeyRegistration;
 import org.lanternpowered.server.data.processor.Processor;
 import org.lanternpowered.server.data.value.LanternValueFactory;
+import org.lanternpowered.server.game.registry.type.data.KeyRegistryModule;
 import org.lanternpowered.server.util.copy.Copyable;
 import org.spongepowered.api.data.DataTransactionResult;
 import org.spongepowered.api.data.key.Key;
@@ -45,12 +47,12 @@
 import org.spongepowered.api.data.value.mutable.MutableBoundedValue;
 import org.spongepowered.api.data.value.mutable.Value;
 
+import java.util.AbstractCollection;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.Optional;
-import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -83,34 +85,97 @@ public static ValueCollection create() {
      */
     public static ValueCollection create(Mode mode) {
         checkNotNull(mode, "mode");
-        return new ValueCollection(new HashMap<>(), mode);
+        return new ValueCollection(EMPTY_IDS, EMPTY_REGISTRATIONS, 0, mode);
     }
 
-    private final Map<Key<?>, KeyRegistration> values;
-    private final Set<Key<?>> unmodifiableKeys;
-    private final Collection<KeyRegistration<?,?>> unmodifiableRegistrations;
+    private static final int[] EMPTY_IDS = new int[0];
+    private static final KeyRegistration[] EMPTY_REGISTRATIONS = new KeyRegistration[0];
+
+    /**
+     * The internal ids of the registered {@link Key}s, sorted
+     * in ascending order. Only the first {@link #size} ids are used.
+     */
+    private int[] ids;
+
+    /**
+     * All the {@link KeyRegistration}s, at the same index
+     * as the internal id of their {@link Key} in {@link #ids}.
+     */
+    private KeyRegistration[] registrations;
+    private int size;
     private final Mode mode;
+    private final Collection<KeyRegistration<?, ?>> all = new AbstractCollection<KeyRegistration<?, ?>>() {
+        @Override
+        public Iterator<KeyRegistration<?, ?>> iterator() {
+            return new Iterator<KeyRegistration<?, ?>>() {
+                private int index;
+
+                @Override
+                public boolean hasNext() {
+                    return this.index < size;
+                }
+
+                @Override
+                public KeyRegistration<?, ?> next() {
+                    if (this.index >= size) {
+                        throw new NoSuchElementException();
+                    }
+                    return registrations[this.index++];
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    };
 
-    private ValueCollection(Map<Key<?>, KeyRegistration> values, Mode mode) {
-        this.unmodifiableKeys = Collections.unmodifiableSet(values.keySet());
-        this.unmodifiableRegistrations = (Collection) Collections.unmodifiableCollection(values.values());
-        this.values = values;
+    private ValueCollection(int[] ids, KeyRegistration[] registrations, int size, Mode mode) {
+        this.ids = ids;
+        this.registrations = registrations;
+        this.size = size;
         this.mode = mode;
     }
 
+    private static int getInternalId(Key<?> key) {
+        return KeyRegistryModule.get().getInternalId(key);
+    }
+
     private void checkKey(Key<?> key) {
         checkNotNull(key, "key");
-        checkArgument(!this.values.containsKey(key), "The specified key (%s) is already registered.", key);
+        checkArgument(getRegistration(key) == null, "The specified key (%s) is already registered.", key);
+    }
+
+    private void put(Key<?> key, KeyRegistration registration) {
+        final int internalId = getInternalId(key);
+        int index = Arrays.binarySearch(this.ids, 0, this.size, internalId);
+        if (index >= 0) {
+            this.registrations[index] = registration;
+            return;
+        }
+        index = -(index + 1);
+        if (this.size == this.ids.length) {
+            final int length = Math.max(4, this.size + (this.size >> 1));
+            this.ids = Arrays.copyOf(this.ids, length);
+            this.registrations = Arrays.copyOf(this.registrations, length);
+        }
+        // Shift the following entries to keep the ids sorted
+        System.arraycopy(this.ids, index, this.ids, index + 1, this.size - index);
+        System.arraycopy(this.registrations, index, this.registrations, index + 1, this.size - index);
+        this.ids[index] = internalId;
+        this.registrations[index] = registration;
+        this.size++;
     }
 
     @Override
     public ValueCollection copy() {
-        final Map<Key<?>, KeyRegistration> values = new HashMap<>();
-        for (Map.Entry<Key<?>, KeyRegistration> entry : this.values.entrySet()) {
-            final KeyRegistration registration = entry.getValue();
-            values.put(entry.getKey(), Copyable.copy(registration).orElse(registration));
+        final KeyRegistration[] registrations = new KeyRegistration[this.size];
+        for (int i = 0; i < registrations.length; i++) {
+            final KeyRegistration registration = this.registrations[i];
+            registrations[i] = (KeyRegistration) Copyable.copy(registration).orElse(registration);
         }
-        return new ValueCollection(values, this.mode);
+        return new ValueCollection(Arrays.copyOf(this.ids, this.size), registrations, this.size, this.mode);
     }
 
     /**
@@ -120,7 +185,7 @@ public ValueCollection copy() {
      * @return The keys
      */
     public Collection<Key<?>> getKeys() {
-        return this.unmodifiableKeys;
+        return Collections2.transform(getAll(), KeyRegistration::getKey);
     }
 
     /**
@@ -130,7 +195,7 @@ public Collection<Key<?>> getKeys() {
      * @return The key registrations
      */
     public Collection<KeyRegistration<?,?>> getAll() {
-        return this.unmodifiableRegistrations;
+        return this.all;
     }
 
     /**
@@ -141,7 +206,7 @@ public Collection<KeyRegistration<?,?>> getAll() {
      * @return Is registered
      */
     public boolean has(Key<?> key) {
-        return this.values.containsKey(key);
+        return getRegistration(key) != null;
     }
 
     /**
@@ -153,7 +218,23 @@ public boolean has(Key<?> key) {
      * @return The key registration, if present
      */
     public <V extends BaseValue<E>, E> Optional<KeyRegistration<V, E>> get(Key<? extends BaseValue<E>> key) {
-        return Optional.ofNullable(this.values.get(key));
+        return Optional.ofNullable(getRegistration(key));
+    }
+
+    /**
+     * Gets the {@link KeyRegistration} for the given {@link Key}, this
+     * is a fast equivalent of {@link #get(Key)} that avoids the
+     * construction of a {@link Optional}.
+     *
+     * @param key The key
+     * @param <V> The value type
+     * @param <E> The element type
+     * @return The key registration, or {@code null} if not present
+     */
+    @Nullable
+    public <V extends BaseValue<E>, E> KeyRegistration<V, E> getRegistration(Key<? extends BaseValue<E>> key) {
+        final int index = Arrays.binarySearch(this.ids, 0, this.size, getInternalId(key));
+        return index < 0 ? null : this.registrations[index];
     }
 
     /**
@@ -165,7 +246,7 @@ public <V extends BaseValue<E>, E> Optional<KeyRegistration<V, E>> get(Key<? ext
      */
     public <E> Optional<Element<E>> getElement(Key<? extends BaseValue<E>> key) {
         checkNotNull(key, "key");
-        final Object object = this.values.get(key);
+        final Object object = getRegistration(key);
         return object instanceof Element ? Optional.of((Element<E>) object) : Optional.empty();
     }
 
@@ -184,7 +265,7 @@ public <V extends BaseValue<E>, E> ElementKeyRegistration<V, E> registerNonRemov
         checkKey(key);
         final ElementKeyRegistration<V, E> processor = (ElementKeyRegistration<V, E>) ElementProcessorBuilder.createNonRemovable(key);
         processor.set(defaultValue);
-        this.values.put(key, processor);
+        put(key, processor);
         return processor;
     }
 
@@ -205,7 +286,7 @@ public <V extends BaseValue<E>, E> ElementKeyRegistration<V, E> register(
         checkKey(key);
         final ElementKeyRegistration<V, E> processor = (ElementKeyRegistration<V, E>) ElementProcessorBuilder.createDefault(key);
         processor.set(defaultValue);
-        this.values.put(key, processor);
+        put(key, processor);
         return processor;
     }
 
@@ -232,7 +313,7 @@ public <V extends BaseValue<E>, E> ElementKeyRegistration<V, E> register(
         builderConsumer.accept(builder);
         final ElementKeyRegistration<V, E> element = (ElementKeyRegistration<V, E>) builder.build();
         element.set(defaultValue);
-        this.values.put(key, element);
+        put(key, element);
         return element;
     }
 
@@ -247,7 +328,7 @@ public <V extends BaseValue<E>, E> ElementKeyRegistration<V, E> register(
     public <V extends BaseValue<E>, E> ValueProcessorKeyRegistration<V, E> registerProcessor(Key<? extends V> key) {
         checkKey(key);
         final ValueProcessorKeyRegistration<V, E> processor = ValueProcessorKeyRegistration.create(key);
-        this.values.put(key, processor);
+        put(key, processor);
         return processor;
     }
 
@@ -350,7 +431,7 @@ private <V extends BoundedValue<E>, E extends Comparable<E>> ElementKeyRegistrat
         });
         final ElementKeyRegistration<V, E> element = (ElementKeyRegistration<V, E>) builder.build();
         element.set(defaultValue);
-        this.values.put(key, element);
+        put(key, element);
         return element;
     }
 
@@ -30,6 +30,7 @@
 import com.google.common.reflect.TypeToken;
 import org.lanternpowered.server.data.DataHelper;
 import org.lanternpowered.server.data.DataQueries;
+import org.lanternpowered.server.data.DataQueryCache;
 import org.lanternpowered.server.data.IValueContainer;
 import org.lanternpowered.server.data.KeyRegistration;
 import org.lanternpowered.server.data.element.Element;
@@ -137,7 +138,7 @@ public void serialize(T object, DataView dataView) {
                     if (dataTypeSerializer == null) {
                         Lantern.getLogger().warn("Unable to serialize the data key value: " + entry.getKey());
                     } else {
-                        valuesView.set(DataQuery.of(entry.getKey().getId()),
+                        valuesView.set(DataQueryCache.of(entry.getKey().getId()),
                                 dataTypeSerializer.serialize(typeToken, context, entry.getValue()));
                     }
                 }
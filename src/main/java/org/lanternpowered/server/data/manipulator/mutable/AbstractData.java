@@ -110,7 +110,7 @@ public <E> M set(Key<? extends BaseValue<E>> key, E value) {
         checkNotNull(value, "value");
 
         // Check the local key registration
-        final KeyRegistration<BaseValue<E>, E> localKeyRegistration = getValueCollection().get(key).orElse(null);
+        final KeyRegistration<BaseValue<E>, E> localKeyRegistration = getValueCollection().getRegistration(key);
         if (localKeyRegistration != null) {
             ((Processor<?, E>) localKeyRegistration).offerTo(this, value);
             return (M) this;
@@ -138,7 +138,7 @@ public <E> M transform(Key<? extends BaseValue<E>> key, Function<E, E> function)
         checkNotNull(function, "function");
 
         // Check the local key registration
-        final KeyRegistration<BaseValue<E>, E> localKeyRegistration = getValueCollection().get(key).orElse(null);
+        final KeyRegistration<BaseValue<E>, E> localKeyRegistration = getValueCollection().getRegistration(key);
         if (localKeyRegistration != null) {
             return transformWith(function, (Processor<BaseValue<E>, E>) localKeyRegistration);
         }
@@ -43,9 +43,9 @@
 import static org.lanternpowered.server.data.persistence.nbt.NbtConstants.STRING;
 
 import com.google.common.collect.Lists;
+import org.lanternpowered.server.data.DataQueryCache;
 import org.lanternpowered.server.data.persistence.DataContainerInput;
 import org.spongepowered.api.data.DataContainer;
-import org.spongepowered.api.data.DataQuery;
 import org.spongepowered.api.data.DataView;
 import org.spongepowered.api.data.persistence.InvalidDataFormatException;
 
@@ -158,7 +158,8 @@ private Entry readEntry() throws IOException {
             name = name.substring(0, index);
             type = type == LIST ? BOOLEAN_LIST : BOOLEAN;
         }
-        return new Entry(name, type);
+        // The same names are read over and over again, share them
+        return new Entry(DataQueryCache.intern(name), type);
     }
 
     @SuppressWarnings({"rawtypes", "unchecked"})
@@ -183,9 +184,9 @@ private Object readPayload(@Nullable DataView container, byte type, int depth) t
             final int depth1 = depth + 1;
             while ((entry = this.readEntry()) != null) {
                 if (entry.type == COMPOUND) {
-                    this.readObject(container.createView(DataQuery.of(entry.name)), entry, depth1);
+                    this.readObject(container.createView(DataQueryCache.of(entry.name)), entry, depth1);
                 } else {
-                    container.set(DataQuery.of(entry.name), this.readObject(null, entry, depth1));
+                    container.set(DataQueryCache.of(entry.name), this.readObject(null, entry, depth1));
                 }
             }
             return container;
@@ -47,6 +47,7 @@
 import org.spongepowered.api.data.DataView;
 
 import java.io.Closeable;
+import java.io.DataOutput;
 import java.io.DataOutputStream;
 import java.io.Flushable;
 import java.io.IOException;
@@ -61,7 +62,8 @@
  */
 public class NbtDataContainerOutputStream implements Closeable, Flushable, DataContainerOutput {
 
-    private final DataOutputStream dos;
+    private final DataOutput dos;
+    private final OutputStream outputStream;
 
     /**
      * Creates a new nbt data view output stream.
@@ -70,16 +72,21 @@ public class NbtDataContainerOutputStream implements Closeable, Flushable, DataC
      */
     public NbtDataContainerOutputStream(DataOutputStream dataOutputStream) {
         this.dos = checkNotNull(dataOutputStream, "dataOutputStream");
+        this.outputStream = dataOutputStream;
     }
 
     /**
-     * Creates a new nbt data view output stream.
+     * Creates a new nbt data view output stream. Output streams that
+     * implement {@link DataOutput} will be written to directly, for
+     * example a {@link io.netty.buffer.ByteBufOutputStream} will write
+     * the content straight into its buffer.
      * 
      * @param outputStream the output stream
      */
     public NbtDataContainerOutputStream(OutputStream outputStream) {
-        this(checkNotNull(outputStream, "outputStream") instanceof DataOutputStream ?
-                (DataOutputStream) outputStream : new DataOutputStream(outputStream));
+        checkNotNull(outputStream, "outputStream");
+        this.dos = outputStream instanceof DataOutput ? (DataOutput) outputStream : new DataOutputStream(outputStream);
+        this.outputStream = (OutputStream) this.dos;
     }
 
     /**
@@ -95,12 +102,12 @@ public NbtDataContainerOutputStream(OutputStream outputStream, boolean compresse
 
     @Override
     public void close() throws IOException {
-        this.dos.close();
+        this.outputStream.close();
     }
 
     @Override
     public void flush() throws IOException {
-        this.dos.flush();
+        this.outputStream.flush();
     }
 
     @Override
@@ -32,6 +32,8 @@
 
 import java.util.Optional;
 
+import javax.annotation.Nullable;
+
 public interface Processor<V extends BaseValue<E>, E> {
 
     /**
@@ -123,6 +125,18 @@ default boolean offerFastTo(IValueContainer<?> valueContainer, V value) {
      */
     Optional<E> getFrom(IValueContainer<?> valueContainer);
 
+    /**
+     * Attempts to get the {@link E} for the specified {@link Key} from the
+     * target {@link IValueContainer}, without wrapping it in a {@link Optional}.
+     *
+     * @param valueContainer The target value container
+     * @return The element if present, otherwise {@code null}
+     */
+    @Nullable
+    default E getOrNullFrom(IValueContainer<?> valueContainer) {
+        return getFrom(valueContainer).orElse(null);
+    }
+
     /**
      * Attempts to get the {@link BaseValue} with element {@link E} value for the specified
      * {@link Key} from the target {@link IValueContainer}.
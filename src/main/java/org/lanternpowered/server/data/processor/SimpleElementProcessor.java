@@ -167,6 +167,19 @@ public Optional<E> getFrom(IValueContainer<?> valueContainer) {
         return isApplicableTo(valueContainer) ? this.retrieveHandler.get(valueContainer, this) : Optional.empty();
     }
 
+    @Nullable
+    @Override
+    public E getOrNullFrom(IValueContainer<?> valueContainer) {
+        if (!isApplicableTo(valueContainer)) {
+            return null;
+        }
+        // Skip the optional of the default retrieve handler
+        if ((Object) this.retrieveHandler == SimpleElementProcessorBuilder.DEFAULT_RETRIEVE_HANDLER) {
+            return Copyable.copyOrSelf(get());
+        }
+        return this.retrieveHandler.get(valueContainer, this).orElse(null);
+    }
+
     @Override
     public Optional<V> getValueFrom(IValueContainer<?> valueContainer) {
         return isApplicableTo(valueContainer) ? this.valueRetrieveHandler.get(valueContainer, this) : Optional.empty();
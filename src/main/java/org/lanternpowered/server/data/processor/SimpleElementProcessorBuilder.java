@@ -82,6 +82,9 @@ private static <V extends BaseValue<E>, E> ElementProcessor<V, E> createCopy(Key
                 processor.valueBuilder);
     }
 
+    static final RetrieveFunction<Object> DEFAULT_RETRIEVE_HANDLER =
+            (valueContainer, element) -> Optional.ofNullable(Copyable.copyOrSelf(element.get()));
+
     private static final SimpleElementProcessor DEFAULT;
     private static final SimpleElementProcessor NON_REMOVABLE;
 
@@ -276,7 +279,7 @@ public ElementProcessor<V, E> build() {
         ///////////////////////
         if (this.retrieveHandler == null) {
             if (this.valueRetrieveHandler == null) {
-                valueProcessor.retrieveHandler = (valueContainer, element) -> Optional.ofNullable(Copyable.copyOrSelf(element.get()));
+                valueProcessor.retrieveHandler = (RetrieveFunction) DEFAULT_RETRIEVE_HANDLER;
             } else {
                 valueProcessor.retrieveHandler = (valueContainer, element) -> valueProcessor.valueRetrieveHandler
                         .get(valueContainer, element).flatMap(value -> Optional.of(value.get()));
@@ -45,6 +45,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 @Singleton
@@ -52,6 +53,7 @@ public final class LanternPropertyRegistry implements PropertyRegistry {
 
     private final Map<Class<? extends Property<?, ?>>, List<PropertyStore<?>>> propertyStoreMap = new ConcurrentHashMap<>();
     private final Map<Class<? extends Property<?, ?>>, PropertyStoreDelegate<?>> delegateMap = new ConcurrentHashMap<>();
+    private final Set<Class<? extends Property<?, ?>>> externalStoreTypes = ConcurrentHashMap.newKeySet();
     private boolean allowRegistrations = true;
 
     @Inject
@@ -59,7 +61,7 @@ private LanternPropertyRegistry() {
     }
 
     @SuppressWarnings({"unchecked", "Convert2streamapi", "SuspiciousMethodCalls"})
-    public void registerBlockPropertyStores(PropertyProviderCollection collection) {
+    public synchronized void registerBlockPropertyStores(PropertyProviderCollection collection) {
         for (Class<? extends Property> entry : collection.keys()) {
             if (!this.propertyStoreMap.containsKey(entry)) {
                 register(entry, new BlockPropertyStore(entry));
@@ -68,7 +70,7 @@ public void registerBlockPropertyStores(PropertyProviderCollection collection) {
     }
 
     @SuppressWarnings({"unchecked", "Convert2streamapi", "SuspiciousMethodCalls"})
-    public void registerItemPropertyStores(org.lanternpowered.server.item.PropertyProviderCollection collection) {
+    public synchronized void registerItemPropertyStores(org.lanternpowered.server.item.PropertyProviderCollection collection) {
         for (Class<? extends Property> entry : collection.keys()) {
             if (!this.propertyStoreMap.containsKey(entry)) {
                 register(entry, new ItemPropertyStore(entry));
@@ -83,13 +85,18 @@ public void completeRegistration() {
             final ImmutableList.Builder<PropertyStore<?>> propertyStoreBuilder = ImmutableList.builder();
             Collections.sort(entry.getValue(), (o1, o2) -> Integer.compare(o2.getPriority(), o1.getPriority()));
             propertyStoreBuilder.addAll(entry.getValue());
+            for (PropertyStore<?> propertyStore : entry.getValue()) {
+                if (!(propertyStore instanceof BlockPropertyStore) && !(propertyStore instanceof ItemPropertyStore)) {
+                    this.externalStoreTypes.add(entry.getKey());
+                }
+            }
             this.delegateMap.put(entry.getKey(), new PropertyStoreDelegate(propertyStoreBuilder.build()));
         }
         this.propertyStoreMap.clear();
     }
 
     @Override
-    public <T extends Property<?, ?>> void register(Class<T> propertyClass, PropertyStore<T> propertyStore) {
+    public synchronized <T extends Property<?, ?>> void register(Class<T> propertyClass, PropertyStore<T> propertyStore) {
         checkState(this.allowRegistrations, "Registrations are no longer allowed!");
         checkNotNull(propertyClass, "propertyClass");
         checkNotNull(propertyStore, "propertyStore");
@@ -108,6 +115,17 @@ public void completeRegistration() {
         }
     }
 
+    /**
+     * Gets whether there are {@link PropertyStore}s registered for the given property
+     * type, other than the ones that are backed by the block and item types.
+     *
+     * @param propertyClass The property class
+     * @return Whether there are external property stores
+     */
+    public boolean hasExternalStores(Class<? extends Property<?, ?>> propertyClass) {
+        return this.externalStoreTypes.contains(propertyClass);
+    }
+
     public Collection<Property<?, ?>> getPropertiesFor(PropertyHolder holder) {
         final ImmutableList.Builder<Property<?, ?>> builder = ImmutableList.builder();
         for (Map.Entry<Class<? extends Property<?, ?>>, PropertyStoreDelegate<?>> entry : this.delegateMap.entrySet()) {
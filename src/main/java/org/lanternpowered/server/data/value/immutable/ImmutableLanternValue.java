@@ -27,7 +27,7 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import org.lanternpowered.server.data.ImmutableDataCachingUtil;
+import org.lanternpowered.server.data.ImmutableValueInterner;
 import org.lanternpowered.server.data.value.AbstractBaseValue;
 import org.lanternpowered.server.data.value.mutable.LanternValue;
 import org.spongepowered.api.data.key.Key;
@@ -42,7 +42,8 @@
 public class ImmutableLanternValue<E> extends AbstractBaseValue<E> implements ImmutableValue<E> {
 
     /**
-     * Gets a cached {@link ImmutableValue} of the default value and the actual value.
+     * Gets a cached {@link ImmutableValue} of the default value and the actual value. Only
+     * values of small domains will be cached, see {@link ImmutableValueInterner}.
      *
      * @param key The key for the value
      * @param defaultValue The default value
@@ -51,7 +52,7 @@
      * @return The cached immutable value
      */
     public static <T> ImmutableValue<T> cachedOf(Key<? extends BaseValue<T>> key, T defaultValue, @Nullable T actualValue) {
-        return ImmutableDataCachingUtil.getValue(ImmutableLanternValue.class, key, defaultValue, actualValue);
+        return ImmutableValueInterner.get(key, defaultValue, actualValue);
     }
 
     public ImmutableLanternValue(Key<? extends BaseValue<E>> key, E defaultValue) {
@@ -294,12 +294,23 @@ public void setBoundingBoxBase(@Nullable AABB boundingBox) {
 
     @Override
     public Optional<AABB> getBoundingBox() {
+        return Optional.ofNullable(getBoundingBoxOrNull());
+    }
+
+    /**
+     * Gets the bounding box of this entity, or {@code null}
+     * if this entity doesn't have a bounding box.
+     *
+     * @return The bounding box
+     */
+    @Nullable
+    public AABB getBoundingBoxOrNull() {
         AABB boundingBox = this.boundingBox;
         if (boundingBox == null && this.boundingBoxBase != null) {
             boundingBox = this.boundingBoxBase.offset(this.position);
             this.boundingBox = boundingBox;
         }
-        return Optional.ofNullable(boundingBox);
+        return boundingBox;
     }
 
     @Override
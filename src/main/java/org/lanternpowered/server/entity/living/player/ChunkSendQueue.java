@@ -0,0 +1,230 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.entity.living.player;
+
+import com.flowpowered.math.vector.Vector2i;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import org.lanternpowered.server.config.GlobalConfig;
+import org.lanternpowered.server.game.Lantern;
+import org.lanternpowered.server.network.NetworkSession;
+import org.lanternpowered.server.world.chunk.ChunkLoadingTicket;
+import org.lanternpowered.server.world.chunk.LanternChunk;
+
+import java.util.Arrays;
+
+/**
+ * Streams the chunks within the view distance of a {@link LanternPlayer} to
+ * the client. The chunks are send in the order of their distance to the
+ * player, a limited amount of chunks will be send every tick.
+ */
+public final class ChunkSendQueue {
+
+    private static final int TICK_DURATION = 50;
+
+    /**
+     * All the chunk offsets within the largest requested radius, sorted
+     * by the distance from the center. The offsets are packed as shorts.
+     */
+    private static int[] sortedOffsets = new int[] { 0 };
+    private static int sortedOffsetsRadius = 0;
+
+    private final LanternPlayer player;
+
+    /**
+     * The keys of all the chunks that are being observed by the player.
+     */
+    private final LongSet knownChunks = new LongOpenHashSet();
+
+    private boolean initialized;
+    private int centerX;
+    private int centerZ;
+    private int radius;
+
+    /**
+     * The offsets that are used for the current radius.
+     */
+    private int[] offsets = sortedOffsets;
+
+    /**
+     * The index of the first offset that may not be known yet,
+     * all the offsets before this index are already observed.
+     */
+    private int offsetIndex;
+
+    /**
+     * The index of the offset at which the scan can stop for the current radius.
+     */
+    private int offsetEnd;
+
+    ChunkSendQueue(LanternPlayer player) {
+        this.player = player;
+    }
+
+    /**
+     * Updates the view of the player and sends the next chunks
+     * that are within the budget of this tick.
+     *
+     * @param observedChunkManager The observed chunk manager of the world
+     * @param loadingTicket The loading ticket of the player
+     * @param centerX The chunk x coordinate the player is located in
+     * @param centerZ The chunk z coordinate the player is located in
+     * @param radius The view radius
+     */
+    void pulse(ObservedChunkManager observedChunkManager, ChunkLoadingTicket loadingTicket,
+            int centerX, int centerZ, int radius) {
+        if (!this.initialized || centerX != this.centerX || centerZ != this.centerZ || radius != this.radius) {
+            updateView(observedChunkManager, loadingTicket, centerX, centerZ, radius);
+        }
+        if (this.offsetIndex >= this.offsetEnd) {
+            return;
+        }
+        final GlobalConfig config = Lantern.getGame().getGlobalConfig();
+        int budget = config.getChunksPerTick();
+        if (budget <= 0) {
+            budget = Integer.MAX_VALUE;
+        }
+        final long maxPendingBytes = getMaxPendingBytes(config);
+        final NetworkSession connection = this.player.getConnection();
+        while (this.offsetIndex < this.offsetEnd && budget > 0 && connection.getPendingBytes() < maxPendingBytes) {
+            final int offset = this.offsets[this.offsetIndex++];
+            final int dx = offset >> 16;
+            final int dz = (short) offset;
+            // Outside the view square
+            if (Math.abs(dx) > radius || Math.abs(dz) > radius) {
+                continue;
+            }
+            final int x = centerX + dx;
+            final int z = centerZ + dz;
+            if (this.knownChunks.add(LanternChunk.key(x, z))) {
+                final Vector2i coords = new Vector2i(x, z);
+                observedChunkManager.addObserver(coords, this.player);
+                loadingTicket.forceChunk(coords);
+                budget--;
+            }
+        }
+    }
+
+    /**
+     * Gets the maximum amount of bytes that may be pending on the connection
+     * before new chunks will be send. This allows as many bytes to be in flight
+     * as the client can receive during one round trip, a client that can't keep
+     * up will drain the pending bytes slower and receive less chunks.
+     *
+     * @param config The global config
+     * @return The maximum amount of pending bytes
+     */
+    private long getMaxPendingBytes(GlobalConfig config) {
+        final int bytesPerTick = config.getChunkBytesPerTick();
+        if (bytesPerTick <= 0) {
+            return Long.MAX_VALUE;
+        }
+        final int roundTripTicks = Math.max(1, (this.player.getConnection().getLatency() + TICK_DURATION - 1) / TICK_DURATION);
+        return (long) bytesPerTick * roundTripTicks;
+    }
+
+    private void updateView(ObservedChunkManager observedChunkManager, ChunkLoadingTicket loadingTicket,
+            int centerX, int centerZ, int radius) {
+        this.initialized = true;
+        this.centerX = centerX;
+        this.centerZ = centerZ;
+        this.radius = radius;
+        // Remove all the chunks that are outside the new view square
+        final LongIterator it = this.knownChunks.iterator();
+        while (it.hasNext()) {
+            final long key = it.nextLong();
+            final int x = (int) (key >> 38) << 6 >> 6;
+            final int z = (int) key << 6 >> 6;
+            if (Math.abs(x - centerX) > radius || Math.abs(z - centerZ) > radius) {
+                it.remove();
+                final Vector2i coords = new Vector2i(x, z);
+                observedChunkManager.removeObserver(coords, this.player, true);
+                loadingTicket.unforceChunk(coords);
+            }
+        }
+        // Restart the scan for the new center
+        this.offsets = getSortedOffsets(radius);
+        this.offsetIndex = 0;
+        this.offsetEnd = getOffsetEnd(this.offsets, radius);
+    }
+
+    /**
+     * Removes the player from all the observed chunks, without notifying
+     * the client. The chunks will be resend on the next pulse.
+     *
+     * @param observedChunkManager The observed chunk manager
+     */
+    void clear(ObservedChunkManager observedChunkManager) {
+        final LongIterator it = this.knownChunks.iterator();
+        while (it.hasNext()) {
+            final long key = it.nextLong();
+            observedChunkManager.removeObserver(new Vector2i((int) (key >> 38) << 6 >> 6, (int) key << 6 >> 6), this.player, false);
+        }
+        this.knownChunks.clear();
+        this.initialized = false;
+    }
+
+    private static int getOffsetEnd(int[] offsets, int radius) {
+        // Every offset within the view square is within this distance
+        final int maxDistanceSquared = 2 * radius * radius;
+        int end = 0;
+        while (end < offsets.length && distanceSquared(offsets[end]) <= maxDistanceSquared) {
+            end++;
+        }
+        return end;
+    }
+
+    private static int distanceSquared(int offset) {
+        final int dx = offset >> 16;
+        final int dz = (short) offset;
+        return dx * dx + dz * dz;
+    }
+
+    private static synchronized int[] getSortedOffsets(int radius) {
+        if (radius <= sortedOffsetsRadius) {
+            return sortedOffsets;
+        }
+        final int size = radius * 2 + 1;
+        // Sort the offsets by prefixing them with the distance
+        final long[] entries = new long[size * size];
+        int index = 0;
+        for (int dx = -radius; dx <= radius; dx++) {
+            for (int dz = -radius; dz <= radius; dz++) {
+                final int offset = dx << 16 | (dz & 0xffff);
+                entries[index++] = (long) distanceSquared(offset) << 32 | (offset & 0xffffffffL);
+            }
+        }
+        Arrays.sort(entries);
+        final int[] offsets = new int[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            offsets[i] = (int) entries[i];
+        }
+        sortedOffsets = offsets;
+        sortedOffsetsRadius = radius;
+        return offsets;
+    }
+}
@@ -28,7 +28,6 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.lanternpowered.server.text.translation.TranslationHelper.t;
 
-import com.flowpowered.math.vector.Vector2i;
 import com.flowpowered.math.vector.Vector3d;
 import com.flowpowered.math.vector.Vector3i;
 import com.google.common.collect.Sets;
@@ -173,32 +172,29 @@ public class LanternPlayer extends LanternHumanoid implements AbstractSubject, P
     private MessageChannel messageChannel = MessageChannel.TO_ALL;
 
     // The (client) locale of the player
-    private Locale locale = Locale.ENGLISH;
+    private volatile Locale locale = Locale.ENGLISH;
 
     // The (client) render distance of the player
     // When specified -1, the render distance will match the server one
-    private int viewDistance = -1;
+    private volatile int viewDistance = -1;
 
     // The chat visibility
-    private ChatVisibility chatVisibility = ChatVisibilities.FULL;
+    private volatile ChatVisibility chatVisibility = ChatVisibilities.FULL;
 
     // Whether the chat colors are enabled
-    private boolean chatColorsEnabled;
+    private volatile boolean chatColorsEnabled;
 
     private LanternScoreboard scoreboard;
 
     // Whether you should ignore this player when checking for sleeping players to reset the time
     private boolean sleepingIgnored;
 
-    // The chunks the client knowns about
-    private final Set<Vector2i> knownChunks = new HashSet<>();
+    // The queue that streams the chunks the client should know about
+    private final ChunkSendQueue chunkSendQueue = new ChunkSendQueue(this);
 
     // The interaction handler
     private final PlayerInteractionHandler interactionHandler;
 
-    // The chunk position since the last #pulseChunkChanges call
-    @Nullable private Vector2i lastChunkPos = null;
-
     // The loading ticket that will force the chunks to be loaded
     @Nullable private ChunkTicketManager.PlayerEntityLoadingTicket loadingTicket;
 
@@ -400,12 +396,7 @@ public void setWorld(@Nullable LanternWorld world) {
             }
             // Remove the player from all the observed chunks, there is no need
             // to send unload messages because we will respawn in a different world
-            final ObservedChunkManager observedChunkManager = oldWorld.getObservedChunkManager();
-            final Set<Vector2i> knownChunks = new HashSet<>(this.knownChunks);
-            knownChunks.forEach(coords -> observedChunkManager.removeObserver(coords, this, false));
-            this.knownChunks.clear();
-            // Clear the last chunk pos
-            this.lastChunkPos = null;
+            this.chunkSendQueue.clear(oldWorld.getObservedChunkManager());
             // Remove the player from the world
             oldWorld.removePlayer(this);
             if (this.worldBorder == null) {
@@ -631,12 +622,12 @@ public void pulse() {
 
         this.resourcePackSendQueue.pulse();
 
-        if (get(LanternKeys.IS_ELYTRA_FLYING).get()) {
-            if (get(Keys.IS_SNEAKING).get()) {
-                offer(LanternKeys.IS_ELYTRA_FLYING, false);
-                offer(LanternKeys.ELYTRA_SPEED_BOOST, false);
+        if (getOrNull(LanternKeys.IS_ELYTRA_FLYING)) {
+            if (getOrNull(Keys.IS_SNEAKING)) {
+                offerFast(LanternKeys.IS_ELYTRA_FLYING, false);
+                offerFast(LanternKeys.ELYTRA_SPEED_BOOST, false);
             } else {
-                offer(LanternKeys.ELYTRA_SPEED_BOOST, get(Keys.IS_SPRINTING).get());
+                offerFast(LanternKeys.ELYTRA_SPEED_BOOST, getOrNull(Keys.IS_SPRINTING));
             }
         }
     }
@@ -665,70 +656,18 @@ public void pulseChunkChanges() {
             return;
         }
 
-        ChunkLoadingTicket loadingTicket = this.getChunkLoadingTicket();
-        Vector3d position = this.getPosition();
-
-        double xPos = position.getX();
-        double zPos = position.getZ();
+        final Vector3d position = this.getPosition();
 
-        int centralX = ((int) xPos) >> 4;
-        int centralZ = ((int) zPos) >> 4;
-
-        // Fail fast if the player hasn't moved a chunk
-        if (this.lastChunkPos != null && this.lastChunkPos.getX() == centralX &&
-                this.lastChunkPos.getY() == centralZ) {
-            return;
-        }
-
-        this.lastChunkPos = new Vector2i(centralX, centralZ);
+        final int centralX = ((int) position.getX()) >> 4;
+        final int centralZ = ((int) position.getZ()) >> 4;
 
         // Get the radius of visible chunks
-        int radius = Math.min(world.getProperties().getConfig().getGeneration().getViewDistance(),
+        final int radius = Math.min(world.getProperties().getConfig().getGeneration().getViewDistance(),
                 this.viewDistance == -1 ? Integer.MAX_VALUE : this.viewDistance + 1);
 
-        final Set<Vector2i> previousChunks = new HashSet<>(this.knownChunks);
-        final List<Vector2i> newChunks = new ArrayList<>();
-
-        for (int x = (centralX - radius); x <= (centralX + radius); x++) {
-            for (int z = (centralZ - radius); z <= (centralZ + radius); z++) {
-                final Vector2i coords = new Vector2i(x, z);
-                if (!previousChunks.remove(coords)) {
-                    newChunks.add(coords);
-                }
-            }
-        }
-
-        // Early end if there's no changes
-        if (newChunks.size() == 0 && previousChunks.size() == 0) {
-            return;
-        }
-
-        // Sort chunks by distance from player - closer chunks sent/forced first
-        Collections.sort(newChunks, (a, b) -> {
-            double dx = 16 * a.getX() + 8 - xPos;
-            double dz = 16 * a.getY() + 8 - zPos;
-            double da = dx * dx + dz * dz;
-            dx = 16 * b.getX() + 8 - xPos;
-            dz = 16 * b.getY() + 8 - zPos;
-            double db = dx * dx + dz * dz;
-            return Double.compare(da, db);
-        });
-
-        ObservedChunkManager observedChunkManager = world.getObservedChunkManager();
-
-        // Force all the new chunks to be loaded and track the changes
-        newChunks.forEach(coords -> {
-            observedChunkManager.addObserver(coords, this);
-            loadingTicket.forceChunk(coords);
-        });
-        // Unforce old chunks so they can unload and untrack the chunk
-        previousChunks.forEach(coords -> {
-            observedChunkManager.removeObserver(coords, this, true);
-            loadingTicket.unforceChunk(coords);
-        });
-
-        this.knownChunks.removeAll(previousChunks);
-        this.knownChunks.addAll(newChunks);
+        // Queue the chunks that became visible and send the closest
+        // ones within the budget, chunks out of the view are removed
+        this.chunkSendQueue.pulse(world.getObservedChunkManager(), getChunkLoadingTicket(), centralX, centralZ, radius);
     }
 
     public User getUserObject() {
@@ -244,7 +244,14 @@ void addBlockChange(Supplier<Vector3i> coords) {
 
         void streamChanges() {
             final LanternChunk chunk = world.getChunkManager().getChunkIfLoaded(this.coords);
-            if (chunk == null || this.clientObservers.isEmpty()) {
+            if (chunk == null) {
+                return;
+            }
+            // There are observers that are still waiting for the chunk
+            if (this.observers.size() != this.clientObservers.size()) {
+                streamDeferredChunkLoads(chunk);
+            }
+            if (this.clientObservers.isEmpty()) {
                 return;
             }
 
@@ -325,16 +332,29 @@ private List<Message> createChunkLoadMessages(LanternChunk chunk) {
          * @param chunk The chunk
          */
         void streamChunkLoad(LanternChunk chunk) {
+            streamDeferredChunkLoads(chunk);
+            // TODO: Also send tile entities
+        }
+
+        /**
+         * Sends a chunk load message to all the observers that don't know
+         * this chunk yet. Observers whose connection isn't writable will be
+         * skipped, the chunk will be send to them in a later pulse once the
+         * client was able to catch up with the outbound traffic.
+         *
+         * @param chunk The chunk
+         */
+        private void streamDeferredChunkLoads(LanternChunk chunk) {
             List<Message> messages = null;
             for (LanternPlayer observer : this.observers) {
-                if (this.clientObservers.add(observer)) {
+                if (!this.clientObservers.contains(observer) &&
+                        observer.getConnection().isWritable() && this.clientObservers.add(observer)) {
                     if (messages == null) {
                         messages = createChunkLoadMessages(chunk);
                     }
                     observer.getConnection().send(messages);
                 }
             }
-            // TODO: Also send tile entities
         }
 
         void streamChunkUnload(LanternChunk chunk) {
@@ -469,8 +489,9 @@ public void addObserver(LanternPlayer observer) {
             if (this.observers.add(observer)) {
                 LanternChunk chunk = world.getChunkManager().getChunkIfLoaded(this.coords);
                 // The chunk is already loaded, we can directly send the messages
-                // to the player
-                if (chunk != null) {
+                // to the player, unless the client can't keep up with the
+                // outbound traffic, the chunk will be send in a later pulse
+                if (chunk != null && observer.getConnection().isWritable()) {
                     this.clientObservers.add(observer);
                     observer.getConnection().send(createChunkLoadMessages(chunk));
                 }
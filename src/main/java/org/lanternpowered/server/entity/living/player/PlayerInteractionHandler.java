@@ -33,6 +33,7 @@
 import org.lanternpowered.server.block.LanternBlockType;
 import org.lanternpowered.server.block.behavior.types.BreakBlockBehavior;
 import org.lanternpowered.server.block.behavior.types.InteractWithBlockBehavior;
+import org.lanternpowered.server.block.provider.property.BlockPropertyIds;
 import org.lanternpowered.server.data.key.LanternKeys;
 import org.lanternpowered.server.entity.event.SwingHandEntityEvent;
 import org.lanternpowered.server.game.Lantern;
@@ -282,14 +283,14 @@ private long getDiggingDuration(Vector3i pos, BlockType blockType) {
         if (this.player.get(Keys.GAME_MODE).get() == GameModes.CREATIVE) {
             return 0;
         }
-        final World world = this.player.getWorld();
-        final Optional<UnbreakableProperty> optUnbreakableProperty = world.getProperty(pos, UnbreakableProperty.class);
-        if (optUnbreakableProperty.isPresent() && optUnbreakableProperty.get().getValue() == Boolean.TRUE) {
+        final LanternWorld world = this.player.getWorld();
+        final UnbreakableProperty unbreakableProperty = world.getProperty(pos.getX(), pos.getY(), pos.getZ(), BlockPropertyIds.UNBREAKABLE);
+        if (unbreakableProperty != null && unbreakableProperty.getValue() == Boolean.TRUE) {
             return -1L;
         }
-        final Optional<HardnessProperty> optHardnessProperty = world.getProperty(pos, HardnessProperty.class);
-        if (optHardnessProperty.isPresent()) {
-            final Double value = optHardnessProperty.get().getValue();
+        final HardnessProperty hardnessProperty = world.getProperty(pos.getX(), pos.getY(), pos.getZ(), BlockPropertyIds.HARDNESS);
+        if (hardnessProperty != null) {
+            final Double value = hardnessProperty.getValue();
             double hardness = value == null ? 0 : value;
             // TODO: Calculate the duration
             return hardness <= 0 ? 0 : 1;
@@ -461,6 +462,13 @@ public void handleItemInteraction(MessagePlayInPlayerUseItem message) {
                 final DualWieldProperty property = handItem.get().getProperty(DualWieldProperty.class).orElse(null);
                 //noinspection ConstantConditions
                 if (property != null && property.getValue()) {
+                    // The client interacts with the entity it's looking at instead, don't swing the off hand
+                    final Vector3d eyePosition = this.player.getPosition().add(0, this.player.get(Keys.IS_SNEAKING).get() ? 1.54 : 1.62, 0);
+                    final double reach = this.player.get(Keys.GAME_MODE).get() == GameModes.CREATIVE ? 6.0 : 3.0;
+                    if (this.player.getWorld().rayTraceEntity(eyePosition, this.player.getDirectionVector(), reach,
+                            entity -> entity != this.player).isPresent()) {
+                        return;
+                    }
                     /*
                     final Vector3d position = this.player.getPosition().add(0, this.player.get(Keys.IS_SNEAKING).get() ? 1.54 : 1.62, 0);
                     final Optional<BlockRayHit<LanternWorld>> hit = BlockRay.from(this.player.getWorld(), position)
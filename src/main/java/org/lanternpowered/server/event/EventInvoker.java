@@ -0,0 +1,149 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.event;
+
+import org.lanternpowered.server.game.Lantern;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.impl.AbstractEvent;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Invokes all the listeners of a specific event type in order. The
+ * subclasses are generated by the {@link EventInvokerFactory}, each
+ * listener gets its own call site in the generated method.
+ */
+public abstract class EventInvoker {
+
+    private final RegisteredListener<?>[] listeners;
+
+    protected EventInvoker(List<?> listeners) {
+        this.listeners = listeners.toArray(new RegisteredListener<?>[listeners.size()]);
+    }
+
+    /**
+     * Passes the {@link Event} to all the listeners.
+     *
+     * @param event The event
+     */
+    public abstract void invoke(Event event);
+
+    /**
+     * Gets the handler of the listener at the given index.
+     *
+     * @param index The index
+     * @return The handler
+     */
+    protected final EventListener<?> getHandler(int index) {
+        return this.listeners[index].getHandler();
+    }
+
+    /**
+     * Updates the current order of the {@link Event}, this will
+     * only be called if the order of the listener changed.
+     *
+     * @param event The event
+     * @param index The index of the listener
+     */
+    protected final void setOrder(Event event, int index) {
+        if (event instanceof AbstractEvent) {
+            ((AbstractEvent) event).currentOrder = this.listeners[index].getOrder();
+        }
+    }
+
+    /**
+     * Adds the time that it took to handle a event to the listener.
+     *
+     * @param index The index of the listener
+     * @param startTime The time that the listener was called, in nanoseconds
+     */
+    protected final void addTiming(int index, long startTime) {
+        this.listeners[index].addTiming(System.nanoTime() - startTime);
+    }
+
+    /**
+     * Handles a exception that occurred while passing
+     * the {@link Event} to the listener.
+     *
+     * @param event The event
+     * @param index The index of the listener
+     * @param throwable The exception
+     */
+    protected final void handleException(Event event, int index, Throwable throwable) {
+        Lantern.getLogger().error("Could not pass {} to {}", event.getClass().getSimpleName(),
+                this.listeners[index].getPlugin(), throwable);
+    }
+
+    /**
+     * A {@link EventInvoker} that loops through the listeners, used
+     * as fallback if the invoker class couldn't be generated.
+     */
+    static final class Simple extends EventInvoker {
+
+        private final EventListener[] handlers;
+
+        Simple(List<RegisteredListener<?>> listeners) {
+            super(listeners);
+            this.handlers = new EventListener[listeners.size()];
+            for (int i = 0; i < this.handlers.length; i++) {
+                this.handlers[i] = getHandler(i);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public void invoke(Event event) {
+            for (int i = 0; i < this.handlers.length; i++) {
+                setOrder(event, i);
+                final long startTime = System.nanoTime();
+                try {
+                    this.handlers[i].handle(event);
+                } catch (Throwable t) {
+                    handleException(event, i, t);
+                }
+                addTiming(i, startTime);
+            }
+        }
+    }
+
+    /**
+     * A {@link EventInvoker} for event types without listeners.
+     */
+    static final class Empty extends EventInvoker {
+
+        static final EventInvoker INSTANCE = new Empty();
+
+        private Empty() {
+            super(Collections.emptyList());
+        }
+
+        @Override
+        public void invoke(Event event) {
+        }
+    }
+}
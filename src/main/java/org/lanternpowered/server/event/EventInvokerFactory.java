@@ -0,0 +1,253 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.event;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ASTORE;
+import static org.objectweb.asm.Opcodes.BIPUSH;
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.GOTO;
+import static org.objectweb.asm.Opcodes.ICONST_0;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.LLOAD;
+import static org.objectweb.asm.Opcodes.LSTORE;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.SIPUSH;
+import static org.objectweb.asm.Opcodes.V1_6;
+
+import org.lanternpowered.server.util.DefineableClassLoader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.Order;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates a {@link EventInvoker} class for every event type, all the listeners
+ * are baked into a single method. Each listener gets its own call site, so the
+ * calls stay monomorphic and can be inlined.
+ * <p>
+ * The generated classes only depend on the handler types and the orders of the
+ * listeners, so a class is reused by all the invokers with the same shape.
+ */
+final class EventInvokerFactory {
+
+    /**
+     * The maximum amount of listeners that will be baked into a generated
+     * method, larger methods exceed the size limit of methods that can be
+     * compiled by the JIT compiler (HugeMethodLimit). A {@link EventInvoker.Simple}
+     * will be used for event types with more listeners.
+     */
+    private static final int MAX_GENERATED_LISTENERS = 100;
+
+    private static final String BASE_INVOKER = Type.getInternalName(EventInvoker.class);
+    private static final String EVENT_LISTENER = Type.getInternalName(EventListener.class);
+    private static final String EVENT_DESCRIPTOR = Type.getDescriptor(Event.class);
+    private static final String EVENT_LISTENER_DESCRIPTOR = Type.getDescriptor(EventListener.class);
+    private static final String HANDLE_METHOD_DESCRIPTOR = '(' + EVENT_DESCRIPTOR + ")V";
+
+    private final AtomicInteger id = new AtomicInteger();
+    private final Map<List<Object>, Constructor<? extends EventInvoker>> constructors = new ConcurrentHashMap<>();
+    private final DefineableClassLoader classLoader;
+    private final String targetPackage;
+
+    EventInvokerFactory(String targetPackage, DefineableClassLoader classLoader) {
+        checkNotNull(targetPackage, "targetPackage");
+        checkArgument(!targetPackage.isEmpty(), "targetPackage cannot be empty");
+        this.targetPackage = targetPackage + '.';
+        this.classLoader = checkNotNull(classLoader, "classLoader");
+    }
+
+    /**
+     * Creates a {@link EventInvoker} for the given event type and listeners. The
+     * listeners are expected to be sorted in the order they should be called.
+     *
+     * @param eventType The event type
+     * @param listeners The listeners
+     * @return The event invoker
+     */
+    EventInvoker create(Class<?> eventType, List<RegisteredListener<?>> listeners) throws Exception {
+        if (listeners.isEmpty()) {
+            return EventInvoker.Empty.INSTANCE;
+        }
+        if (listeners.size() > MAX_GENERATED_LISTENERS) {
+            return new EventInvoker.Simple(listeners);
+        }
+        final Class<?>[] handlerTypes = new Class<?>[listeners.size()];
+        final List<Object> shape = new ArrayList<>(handlerTypes.length * 2);
+        for (int i = 0; i < handlerTypes.length; i++) {
+            handlerTypes[i] = getHandlerType(listeners.get(i).getHandler());
+            shape.add(handlerTypes[i]);
+            shape.add(listeners.get(i).getOrder());
+        }
+        Constructor<? extends EventInvoker> constructor = this.constructors.get(shape);
+        if (constructor == null) {
+            final String name = this.targetPackage + eventType.getSimpleName() + "Invoker_" + this.id.incrementAndGet();
+            final Class<? extends EventInvoker> invokerClass = this.classLoader.defineClass(name,
+                    generateClass(name, listeners, handlerTypes));
+            constructor = invokerClass.getConstructor(List.class);
+            final Constructor<? extends EventInvoker> other = this.constructors.putIfAbsent(shape, constructor);
+            if (other != null) {
+                constructor = other;
+            }
+        }
+        return constructor.newInstance(listeners);
+    }
+
+    /**
+     * Gets the type that should be used to call the handler. The handlers that are
+     * generated by the {@link ClassEventListenerFactory} can be called directly.
+     *
+     * @param handler The handler
+     * @return The handler type
+     */
+    private Class<?> getHandlerType(EventListener<?> handler) {
+        final Class<?> handlerClass = handler.getClass();
+        if (handler instanceof AnnotatedEventListener && handlerClass.getClassLoader() == this.classLoader &&
+                Modifier.isPublic(handlerClass.getModifiers())) {
+            return handlerClass;
+        }
+        return EventListener.class;
+    }
+
+    private byte[] generateClass(String name, List<RegisteredListener<?>> listeners, Class<?>[] handlerTypes) {
+        name = name.replace('.', '/');
+
+        final ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+        MethodVisitor mv;
+
+        cw.visit(V1_6, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, name, null, BASE_INVOKER, null);
+
+        for (int i = 0; i < handlerTypes.length; i++) {
+            cw.visitField(ACC_PRIVATE + ACC_FINAL, "handler" + i, Type.getDescriptor(handlerTypes[i]), null, null).visitEnd();
+        }
+        {
+            mv = cw.visitMethod(ACC_PUBLIC, "<init>", "(Ljava/util/List;)V", null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitMethodInsn(INVOKESPECIAL, BASE_INVOKER, "<init>", "(Ljava/util/List;)V", false);
+            for (int i = 0; i < handlerTypes.length; i++) {
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitVarInsn(ALOAD, 0);
+                visitInt(mv, i);
+                mv.visitMethodInsn(INVOKEVIRTUAL, BASE_INVOKER, "getHandler", "(I)" + EVENT_LISTENER_DESCRIPTOR, false);
+                mv.visitTypeInsn(CHECKCAST, Type.getInternalName(handlerTypes[i]));
+                mv.visitFieldInsn(PUTFIELD, name, "handler" + i, Type.getDescriptor(handlerTypes[i]));
+            }
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        {
+            // Local variables: 0 = this, 1 = event, 2 = start time, 4 = exception
+            mv = cw.visitMethod(ACC_PUBLIC, "invoke", HANDLE_METHOD_DESCRIPTOR, null, null);
+            mv.visitCode();
+            Order lastOrder = null;
+            for (int i = 0; i < handlerTypes.length; i++) {
+                // Only update the order of the event if it's actually changed
+                final Order order = listeners.get(i).getOrder();
+                if (order != lastOrder) {
+                    mv.visitVarInsn(ALOAD, 0);
+                    mv.visitVarInsn(ALOAD, 1);
+                    visitInt(mv, i);
+                    mv.visitMethodInsn(INVOKEVIRTUAL, BASE_INVOKER, "setOrder", "(" + EVENT_DESCRIPTOR + "I)V", false);
+                    lastOrder = order;
+                }
+                mv.visitMethodInsn(INVOKESTATIC, "java/lang/System", "nanoTime", "()J", false);
+                mv.visitVarInsn(LSTORE, 2);
+
+                final Label tryStart = new Label();
+                final Label tryEnd = new Label();
+                final Label catchStart = new Label();
+                final Label after = new Label();
+                mv.visitTryCatchBlock(tryStart, tryEnd, catchStart, "java/lang/Throwable");
+                mv.visitLabel(tryStart);
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitFieldInsn(GETFIELD, name, "handler" + i, Type.getDescriptor(handlerTypes[i]));
+                mv.visitVarInsn(ALOAD, 1);
+                if (handlerTypes[i] == EventListener.class) {
+                    mv.visitMethodInsn(INVOKEINTERFACE, EVENT_LISTENER, "handle", HANDLE_METHOD_DESCRIPTOR, true);
+                } else {
+                    mv.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(handlerTypes[i]), "handle", HANDLE_METHOD_DESCRIPTOR, false);
+                }
+                mv.visitLabel(tryEnd);
+                mv.visitJumpInsn(GOTO, after);
+                mv.visitLabel(catchStart);
+                mv.visitVarInsn(ASTORE, 4);
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitVarInsn(ALOAD, 1);
+                visitInt(mv, i);
+                mv.visitVarInsn(ALOAD, 4);
+                mv.visitMethodInsn(INVOKEVIRTUAL, BASE_INVOKER, "handleException", "(" + EVENT_DESCRIPTOR + "ILjava/lang/Throwable;)V", false);
+                mv.visitLabel(after);
+                mv.visitVarInsn(ALOAD, 0);
+                visitInt(mv, i);
+                mv.visitVarInsn(LLOAD, 2);
+                mv.visitMethodInsn(INVOKEVIRTUAL, BASE_INVOKER, "addTiming", "(IJ)V", false);
+            }
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        cw.visitEnd();
+
+        return cw.toByteArray();
+    }
+
+    private static void visitInt(MethodVisitor mv, int value) {
+        if (value <= 5) {
+            mv.visitInsn(ICONST_0 + value);
+        } else if (value <= Byte.MAX_VALUE) {
+            mv.visitIntInsn(BIPUSH, value);
+        } else if (value <= Short.MAX_VALUE) {
+            mv.visitIntInsn(SIPUSH, value);
+        } else {
+            mv.visitLdcInsn(value);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.event;
+
+import com.google.common.base.MoreObjects;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.plugin.PluginContainer;
+
+/**
+ * A snapshot of the timings of a registered event listener.
+ */
+public final class EventListenerTiming {
+
+    private final PluginContainer plugin;
+    private final Class<? extends Event> eventClass;
+    private final Order order;
+    private final Object handle;
+    private final long invocations;
+    private final long totalTime;
+
+    EventListenerTiming(PluginContainer plugin, Class<? extends Event> eventClass, Order order, Object handle,
+            long invocations, long totalTime) {
+        this.plugin = plugin;
+        this.eventClass = eventClass;
+        this.order = order;
+        this.handle = handle;
+        this.invocations = invocations;
+        this.totalTime = totalTime;
+    }
+
+    public PluginContainer getPlugin() {
+        return this.plugin;
+    }
+
+    public Class<? extends Event> getEventClass() {
+        return this.eventClass;
+    }
+
+    public Order getOrder() {
+        return this.order;
+    }
+
+    public Object getHandle() {
+        return this.handle;
+    }
+
+    /**
+     * Gets the amount of times that the listener was called.
+     *
+     * @return The invocations
+     */
+    public long getInvocations() {
+        return this.invocations;
+    }
+
+    /**
+     * Gets the total time that the listener spent handling events.
+     *
+     * @return The total time in nanoseconds
+     */
+    public long getTotalTime() {
+        return this.totalTime;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("plugin", this.plugin.getId())
+                .add("eventType", this.eventClass.getName())
+                .add("order", this.order.toString())
+                .add("invocations", this.invocations)
+                .add("totalTime", this.totalTime)
+                .toString();
+    }
+}
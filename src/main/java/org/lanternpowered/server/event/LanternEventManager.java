@@ -28,9 +28,8 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.lanternpowered.server.util.Conditions.checkPlugin;
 
-import com.github.benmanes.caffeine.cache.Caffeine;
-import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Multimap;
 import com.google.common.reflect.TypeToken;
 import com.google.inject.Inject;
@@ -47,10 +46,10 @@
 import org.spongepowered.api.event.impl.AbstractEvent;
 import org.spongepowered.api.plugin.PluginContainer;
 
-import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -75,37 +74,36 @@ public class LanternEventManager implements EventManager {
     private final Multimap<Class<?>, RegisteredListener<?>> listenersByEvent = HashMultimap.create();
     private final Set<Object> registeredListeners = new HashSet<>();
 
+    private final EventInvokerFactory invokerFactory = new EventInvokerFactory("org.lanternpowered.server.event.invoker", this.classLoader);
+
+    /**
+     * The baked invokers for every event type for quick event posting.
+     */
+    private final Map<Class<?>, EventInvoker> invokers = new ConcurrentHashMap<>(150);
+
+    /**
+     * The ids of all the event types that were checked through {@link #hasListeners(Class)}.
+     */
+    private final Map<Class<?>, Integer> eventTypeIds = new ConcurrentHashMap<>();
+    private final List<Class<?>> eventTypes = new ArrayList<>();
+
     /**
-     * A cache of all the handlers for an event type for quick event posting.
+     * A bitmask with a bit for every event type id, the bit is set if the type has listeners.
      */
-    private final LoadingCache<Class<? extends Event>, List<RegisteredListener<?>>> listenersCache =
-            Caffeine.newBuilder().initialCapacity(150).build(this::bakeHandlers);
+    private volatile long[] listenerMask = new long[0];
 
     @Inject
     public LanternEventManager(Logger logger) {
         this.logger = logger;
+    }
 
-        // Caffeine offers no control over the concurrency level of the
-        // ConcurrentHashMap which backs the cache. By default this concurrency
-        // level is 16. We replace the backing map before any use can occur
-        // a new ConcurrentHashMap with a concurrency level of 1
+    private EventInvoker bakeInvoker(Class<?> eventType) {
+        final List<RegisteredListener<?>> handlers = bakeHandlers(eventType);
         try {
-            // Cache impl class is UnboundedLocalLoadingCache which extends
-            // UnboundedLocalManualCache
-
-            // UnboundedLocalManualCache has a field 'cache' with an
-            // UnboundedLocalCache which contains the actual backing map
-            final Field innerCache = this.listenersCache.getClass().getSuperclass().getDeclaredField("cache");
-            innerCache.setAccessible(true);
-            final Object innerCacheValue = innerCache.get(this.listenersCache);
-            final Class<?> innerCacheClass = innerCacheValue.getClass(); // UnboundedLocalCache
-            final Field cacheData = innerCacheClass.getDeclaredField("data");
-            cacheData.setAccessible(true);
-            final ConcurrentHashMap<Class<? extends Event>, List<RegisteredListener<?>>> newBackingData = new ConcurrentHashMap<>(150, 0.75f, 1);
-            cacheData.set(innerCacheValue, newBackingData);
-        } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
-            this.logger.warn("Failed to set event cache backing array, type was " + this.listenersCache.getClass().getName());
-            this.logger.warn("  Caused by: " + e.getClass().getName() + ": " + e.getMessage());
+            return this.invokerFactory.create(eventType, handlers);
+        } catch (Exception e) {
+            this.logger.error("Failed to generate the event invoker for {}", eventType.getName(), e);
+            return new EventInvoker.Simple(handlers);
         }
     }
 
@@ -161,10 +159,10 @@ private void register(List<RegisteredListener<?>> listeners) {
         synchronized (this.lock) {
             listeners.stream()
                     .filter(listener -> this.listenersByEvent.put(listener.getEventClass(), listener))
-                    .forEach(listener -> types.addAll(TypeToken.of(listener.getEventClass()).getTypes().rawTypes()));
+                    .forEach(listener -> types.add(listener.getEventClass()));
         }
         if (!types.isEmpty()) {
-            this.listenersCache.invalidateAll(types);
+            invalidateInvokers(types);
         }
     }
 
@@ -279,13 +277,95 @@ private void unregister(Predicate<RegisteredListener<?>> unregister) {
                             this.registeredListeners.remove(((AnnotatedEventListener) listener.getHandle()).getHandle());
                         }
                     }
-                    types.addAll(TypeToken.of(listener.getEventClass()).getTypes().rawTypes());
+                    types.add(listener.getEventClass());
                     it.remove();
                 }
             }
         }
         if (!types.isEmpty()) {
-            this.listenersCache.invalidateAll(types);
+            invalidateInvokers(types);
+        }
+    }
+
+    private void invalidateInvokers(Set<Class<?>> types) {
+        synchronized (this.lock) {
+            // The invokers are keyed by the implementation classes of the events, only
+            // the invokers of the events that are affected by the changed types are
+            // removed, they will be rebaked the next time that the event is posted
+            this.invokers.keySet().removeIf(eventType -> {
+                for (Class<?> type : types) {
+                    if (type.isAssignableFrom(eventType)) {
+                        return true;
+                    }
+                }
+                return false;
+            });
+            final long[] mask = new long[this.listenerMask.length];
+            for (int id = 0; id < this.eventTypes.size(); id++) {
+                if (hasListenersUnsafe(this.eventTypes.get(id))) {
+                    mask[id >> 6] |= 1L << id;
+                }
+            }
+            this.listenerMask = mask;
+        }
+    }
+
+    private boolean hasListenersUnsafe(Class<?> eventType) {
+        for (Class<?> type : this.listenersByEvent.keySet()) {
+            if (type.isAssignableFrom(eventType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets whether there are any listeners registered that would receive a event of
+     * the given type. This allows the event construction to be skipped on hot paths.
+     *
+     * @param eventType The type of the event that would be posted
+     * @return Whether there are listeners
+     */
+    public boolean hasListeners(Class<? extends Event> eventType) {
+        checkNotNull(eventType, "eventType");
+        Integer id = this.eventTypeIds.get(eventType);
+        if (id == null) {
+            id = registerEventType(eventType);
+        }
+        final long[] mask = this.listenerMask;
+        final int index = id >> 6;
+        return index < mask.length && (mask[index] & (1L << id)) != 0;
+    }
+
+    private int registerEventType(Class<?> eventType) {
+        synchronized (this.lock) {
+            Integer id = this.eventTypeIds.get(eventType);
+            if (id != null) {
+                return id;
+            }
+            id = this.eventTypes.size();
+            this.eventTypes.add(eventType);
+            final long[] mask = Arrays.copyOf(this.listenerMask, (id >> 6) + 1);
+            if (hasListenersUnsafe(eventType)) {
+                mask[id >> 6] |= 1L << id;
+            }
+            // Publish the mask before the id, the mask must always cover the known ids
+            this.listenerMask = mask;
+            this.eventTypeIds.put(eventType, id);
+            return id;
+        }
+    }
+
+    /**
+     * Gets the timings of all the registered listeners.
+     *
+     * @return The listener timings
+     */
+    public List<EventListenerTiming> getListenerTimings() {
+        synchronized (this.lock) {
+            return this.listenersByEvent.values().stream()
+                    .map(RegisteredListener::getTiming)
+                    .collect(ImmutableList.toImmutableList());
         }
     }
 
@@ -301,21 +381,15 @@ public void unregisterPluginListeners(Object pluginObj) {
         unregister(handler -> plugin.equals(handler.getPlugin()));
     }
 
-    @SuppressWarnings({"unchecked", "ConstantConditions"})
     @Override
     public boolean post(Event event) {
         checkNotNull(event, "event");
-        for (RegisteredListener listener : this.listenersCache.get(event.getClass())) {
-            try {
-                if (event instanceof AbstractEvent) {
-                    ((AbstractEvent) event).currentOrder = listener.getOrder();
-                }
-                listener.handle(event);
-            } catch (Throwable e) {
-                this.logger.error("Could not pass {} to {}", event.getClass().getSimpleName(),
-                        listener.getPlugin(), e);
-            }
+        final Class<?> eventType = event.getClass();
+        EventInvoker invoker = this.invokers.get(eventType);
+        if (invoker == null) {
+            invoker = this.invokers.computeIfAbsent(eventType, this::bakeInvoker);
         }
+        invoker.invoke(event);
         if (event instanceof AbstractEvent) {
             ((AbstractEvent) event).currentOrder = null;
         }
@@ -33,6 +33,8 @@
 import org.spongepowered.api.event.Order;
 import org.spongepowered.api.plugin.PluginContainer;
 
+import java.util.concurrent.atomic.LongAdder;
+
 final class RegisteredListener<T extends Event> implements LanternEventListener<T>, Comparable<RegisteredListener<?>> {
 
     private final PluginContainer plugin;
@@ -41,6 +43,9 @@
     private final Class<T> eventClass;
     private final Order order;
 
+    private final LongAdder invocations = new LongAdder();
+    private final LongAdder totalTime = new LongAdder();
+
     RegisteredListener(PluginContainer plugin, Class<T> eventClass, Order order, EventListener<? super T> handler) {
         this.plugin = checkNotNull(plugin, "plugin");
         this.eventClass = checkNotNull(eventClass, "eventClass");
@@ -60,6 +65,25 @@ public Order getOrder() {
         return this.order;
     }
 
+    EventListener<? super T> getHandler() {
+        return this.handler;
+    }
+
+    /**
+     * Adds the time that it took to handle a event.
+     *
+     * @param time The time in nanoseconds
+     */
+    void addTiming(long time) {
+        this.invocations.increment();
+        this.totalTime.add(time);
+    }
+
+    EventListenerTiming getTiming() {
+        return new EventListenerTiming(this.plugin, this.eventClass, this.order, getHandle(),
+                this.invocations.sum(), this.totalTime.sum());
+    }
+
     @Override
     public Object getHandle() {
         if (this.handler instanceof LanternEventListener) {
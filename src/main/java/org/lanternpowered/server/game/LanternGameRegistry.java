@@ -29,6 +29,7 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
+import com.google.common.base.Throwables;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import com.google.inject.Inject;
@@ -404,6 +405,10 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
@@ -411,6 +416,15 @@
 @Singleton
 public class LanternGameRegistry implements GameRegistry {
 
+    /**
+     * Whether the modules of a registration phase should be registered in parallel. Modules
+     * only wait for the modules they depend on through {@link RegistrationDependency}, so
+     * this requires that all the dependencies between the modules are declared and that
+     * state that is shared between modules is thread safe.
+     */
+    private static final boolean PARALLEL_REGISTRATION = Boolean.parseBoolean(
+            System.getProperty("lantern.registry.parallel", "true"));
+
     private final LanternGame game;
     private final LanternResourcePackFactory resourcePackFactory = new LanternResourcePackFactory();
     private final LanternAttributeCalculator attributeCalculator = new LanternAttributeCalculator();
@@ -419,6 +433,7 @@ public class LanternGameRegistry implements GameRegistry {
     private final Map<Class<? extends RegistryModule>, RegistryModule> classMap = new IdentityHashMap<>();
     private final Map<Class<?>, Supplier<?>> builderSupplierMap = new IdentityHashMap<>();
     private final List<Class<? extends RegistryModule>> orderedModules = new ArrayList<>();
+    private final Map<Class<? extends RegistryModule>, Set<Class<? extends RegistryModule>>> moduleDependencies = new IdentityHashMap<>();
     private final Set<RegistryModule> registryModules = new HashSet<>();
 
     // The phase of the registrations, this starts at null to define the early state.
@@ -765,6 +780,7 @@ private void syncModules() {
             return;
         }
         final DirectedGraph<Class<? extends RegistryModule>> graph = new DirectedGraph<>();
+        this.moduleDependencies.clear();
         for (RegistryModule aModule : this.registryModules) {
             if (!this.classMap.containsKey(aModule.getClass())) {
                 this.classMap.put(aModule.getClass(), aModule);
@@ -784,10 +800,18 @@ private void syncModules() {
     }
 
     private void tryModulePhaseRegistration(RegistryModule module) {
+        final long start = System.nanoTime();
+        boolean registered = false;
         try {
             final Set<Method> methods = getCustomRegistrations(module);
-            methods.stream().filter(this::isProperPhase).forEach(method -> invokeCustomRegistration(module, method));
+            for (Method method : methods) {
+                if (isProperPhase(method)) {
+                    invokeCustomRegistration(module, method);
+                    registered = true;
+                }
+            }
             if (isProperPhase(module)) {
+                registered = true;
                 module.registerDefaults();
                 for (CatalogMappingData data : getCatalogMappingData(module)) {
                     final Map<String, ?> mappings = data.getMappings();
@@ -799,6 +823,11 @@ private void tryModulePhaseRegistration(RegistryModule module) {
             }
         } catch (Exception e) {
             throw new RuntimeException("Error trying to initialize module: " + module.getClass().getCanonicalName(), e);
+        } finally {
+            if (registered) {
+                this.game.getLogger().debug("Registered the module {} in {}ms",
+                        module.getClass().getSimpleName(), (System.nanoTime() - start) / 1000000L);
+            }
         }
     }
 
@@ -886,11 +915,54 @@ private void registerModulePhase() {
                 throw new IllegalStateException("Something funky happened! The module "
                         + moduleClass + " is required but seems to be missing.");
             }
-            tryModulePhaseRegistration(this.classMap.get(moduleClass));
         }
+        final long start = System.nanoTime();
+        if (PARALLEL_REGISTRATION) {
+            registerModulePhaseParallel();
+        } else {
+            for (Class<? extends RegistryModule> moduleClass : this.orderedModules) {
+                tryModulePhaseRegistration(this.classMap.get(moduleClass));
+            }
+        }
+        this.game.getLogger().debug("Finished the {} registration phase in {}ms",
+                this.phase == null ? "EARLY" : this.phase, (System.nanoTime() - start) / 1000000L);
         registerAdditionalPhase();
     }
 
+    /**
+     * Registers the modules of the current phase in parallel, every module
+     * will start as soon as all its dependencies are registered.
+     */
+    private void registerModulePhaseParallel() {
+        // Use the context class loader of the server thread, plugin catalog types may be loaded
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors(), forkJoinPool -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("registry-" + thread.getPoolIndex());
+            thread.setContextClassLoader(classLoader);
+            return thread;
+        }, null, false);
+        final Map<Class<? extends RegistryModule>, CompletableFuture<Void>> futures = new IdentityHashMap<>();
+        // The modules are ordered, so the dependencies are always scheduled first
+        for (Class<? extends RegistryModule> moduleClass : this.orderedModules) {
+            final RegistryModule module = this.classMap.get(moduleClass);
+            final CompletableFuture<?>[] dependencies = this.moduleDependencies
+                    .getOrDefault(moduleClass, Collections.emptySet()).stream()
+                    .map(futures::get)
+                    .toArray(CompletableFuture[]::new);
+            futures.put(moduleClass, CompletableFuture.allOf(dependencies)
+                    .thenRunAsync(() -> tryModulePhaseRegistration(module), pool));
+        }
+        try {
+            CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[futures.size()])).join();
+        } catch (CompletionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw e;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
     private void registerAdditionalPhase() {
         for (Class<? extends RegistryModule> moduleClass : this.orderedModules) {
             final RegistryModule module = this.classMap.get(moduleClass);
@@ -902,8 +974,11 @@ private void addToGraph(RegistryModule module, DirectedGraph<Class<? extends Reg
         graph.add(module.getClass());
         final RegistrationDependency dependency = module.getClass().getAnnotation(RegistrationDependency.class);
         if (dependency != null) {
+            final Set<Class<? extends RegistryModule>> dependencies = this.moduleDependencies.computeIfAbsent(
+                    module.getClass(), type -> Collections.newSetFromMap(new IdentityHashMap<>()));
             for (Class<? extends RegistryModule> dependent : dependency.value()) {
                 graph.addEdge(checkNotNull(module.getClass(), "Dependency class was null!"), dependent);
+                dependencies.add(dependent);
             }
         }
     }
@@ -40,10 +40,6 @@
 
 import it.unimi.dsi.fastutil.bytes.Byte2ObjectMap;
 import it.unimi.dsi.fastutil.bytes.Byte2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2ShortMap;
-import it.unimi.dsi.fastutil.objects.Object2ShortOpenHashMap;
-import it.unimi.dsi.fastutil.shorts.Short2ObjectMap;
-import it.unimi.dsi.fastutil.shorts.Short2ObjectOpenHashMap;
 import org.lanternpowered.server.block.BlockTypeBuilder;
 import org.lanternpowered.server.block.BlockTypeBuilderImpl;
 import org.lanternpowered.server.block.LanternBlockType;
@@ -68,6 +64,7 @@
 import org.lanternpowered.server.block.behavior.vanilla.TorchPlacementBehavior;
 import org.lanternpowered.server.block.extended.SnowyExtendedBlockStateProvider;
 import org.lanternpowered.server.block.provider.property.PropertyProviderCollections;
+import org.lanternpowered.server.block.provider.property.PropertyTable;
 import org.lanternpowered.server.block.state.LanternBlockState;
 import org.lanternpowered.server.block.trait.LanternBooleanTraits;
 import org.lanternpowered.server.block.trait.LanternEnumTraits;
@@ -111,6 +108,8 @@
 import java.util.Optional;
 import java.util.function.Supplier;
 
+import javax.annotation.Nullable;
+
 @RegistrationDependency({
         KeyRegistryModule.class,
         EquipmentTypeRegistryModule.class,
@@ -124,13 +123,14 @@ public static BlockRegistryModule get() {
         return INSTANCE;
     }
 
-    private final Short2ObjectMap<BlockType> blockTypeByInternalId = new Short2ObjectOpenHashMap<>();
-    private final Object2ShortMap<BlockType> internalIdByBlockType = new Object2ShortOpenHashMap<>();
-
-    private final Short2ObjectMap<BlockState> blockStateByPackedType = new Short2ObjectOpenHashMap<>();
-    private final Object2ShortMap<BlockState> packedTypeByBlockState = new Object2ShortOpenHashMap<>();
+    // The internal ids are limited to 12 bits, combined with
+    // the 4 data bits they fit in a flat lookup table
+    private final BlockType[] blockTypeByInternalId = new BlockType[0x1000];
+    private final BlockState[] blockStateByPackedType = new BlockState[0x10000];
+    private int blockStatesCount;
 
-    // The counter for custom block ids. (Non vanilla ones.)
+    // The counter for custom block ids. (Non vanilla ones.) The
+    // counters and tables are only modified while holding the lock
     private int blockIdCounter = 1024;
 
     public BlockRegistryModule() {
@@ -139,18 +139,16 @@ public BlockRegistryModule() {
 
     @Override
     public int getBlockStatesCount() {
-        return this.blockStateByPackedType.size();
+        return this.blockStatesCount;
     }
 
-    private void register0(int internalId, LanternBlockType blockType, BlockState2DataFunction stateToDataConverter) {
+    private synchronized void register0(int internalId, LanternBlockType blockType, BlockState2DataFunction stateToDataConverter) {
         checkNotNull(stateToDataConverter, "stateToDataConverter");
         checkState(internalId >= 0, "The internal id cannot be negative: %s", internalId);
         checkState(internalId <= 0xfff, "The internal id exceeded the internal id limit: %s > %s", internalId, 0xfff);
-        final short internalId0 = (short) internalId;
-        checkState(!this.blockTypeByInternalId.containsKey(internalId0), "The internal id is already used: %s", internalId);
+        checkState(this.blockTypeByInternalId[internalId] == null, "The internal id is already used: %s", internalId);
         super.register(blockType);
-        this.blockTypeByInternalId.put(internalId0, blockType);
-        this.internalIdByBlockType.put(blockType, internalId0);
+        this.blockTypeByInternalId[internalId] = blockType;
         Byte2ObjectMap<BlockState> usedValues = new Byte2ObjectOpenHashMap<>();
         int internalStateIdBase = (internalId & 0xfff) << 4;
         for (BlockState blockState : blockType.getBlockStateBase().getBlockStates()) {
@@ -164,22 +162,29 @@ private void register0(int internalId, LanternBlockType blockType, BlockState2Da
             }
             usedValues.put(value, blockState);
             final short internalStateId =  (short) (internalStateIdBase | value & 0xf);
-            this.blockStateByPackedType.put(internalStateId, blockState);
-            this.packedTypeByBlockState.put(blockState, internalStateId);
+            this.blockStateByPackedType[internalStateId & 0xffff] = blockState;
+            ((LanternBlockState) blockState).setPackedType(internalStateId);
         }
         final BlockState defaultBlockState = blockType.getDefaultState();
         for (byte b = 0; b <= 0xf; b++) {
             if (!usedValues.containsKey(b)) {
                 final short internalStateId = (short) (internalStateIdBase | b & 0xf);
-                this.blockStateByPackedType.put(internalStateId, defaultBlockState);
+                this.blockStateByPackedType[internalStateId & 0xffff] = defaultBlockState;
             }
         }
+        this.blockStatesCount += 16;
         for (BlockState blockState : blockType.getBlockStateBase().getBlockStates()) {
             if (!((LanternBlockState) blockState).isExtended()) {
                 continue;
             }
-            blockState = blockType.getExtendedBlockStateProvider().remove(blockState);
-            this.packedTypeByBlockState.put(blockState, checkNotNull(this.packedTypeByBlockState.get(blockState)));
+            // Extended states use the packed type of the state they are based on
+            final BlockState baseState = blockType.getExtendedBlockStateProvider().remove(blockState);
+            ((LanternBlockState) blockState).setPackedType(((LanternBlockState) baseState).getPackedType());
+        }
+        // Bake the constant properties, the providers are shared by all the states of the type
+        final PropertyTable propertyTable = PropertyTable.of(blockType.getPropertyProviderCollection());
+        for (BlockState blockState : blockType.getAllBlockStates()) {
+            ((LanternBlockState) blockState).setPropertyTable(propertyTable);
         }
         final BlockStateRegistryModule blockStateRegistryModule = Lantern.getRegistry()
                 .getRegistryModule(BlockStateRegistryModule.class).get();
@@ -212,48 +217,60 @@ public void register(BlockType catalogType) {
         register(nextInternalId(), catalogType);
     }
 
-    private int nextInternalId() {
+    private synchronized int nextInternalId() {
         int internalId;
         do {
             internalId = this.blockIdCounter++;
-        } while (this.blockTypeByInternalId.containsKey((short) internalId));
+        } while (internalId <= 0xfff && this.blockTypeByInternalId[internalId] != null);
         return internalId;
     }
 
+    /**
+     * Gets the {@link BlockState} for the given packed internal id and data,
+     * without wrapping it into a {@link Optional}.
+     *
+     * @param internalIdAndData The packed internal id and data
+     * @return The block state, or {@code null} if not registered
+     */
+    @Nullable
+    public BlockState getStateByPackedType(int internalIdAndData) {
+        return this.blockStateByPackedType[internalIdAndData & 0xffff];
+    }
+
     @Override
     public Optional<BlockState> getStateByInternalId(int internalId) {
-        return Optional.ofNullable(this.blockStateByPackedType.get((short) ((internalId & 0xfff) << 4)));
+        return Optional.ofNullable(this.blockStateByPackedType[(internalId & 0xfff) << 4]);
     }
 
     @Override
     public Optional<BlockState> getStateByInternalIdAndData(int internalId, byte data) {
-        return Optional.ofNullable(this.blockStateByPackedType.get((short) (((internalId & 0xfff) << 4) | (data & 0xf))));
+        return Optional.ofNullable(this.blockStateByPackedType[((internalId & 0xfff) << 4) | (data & 0xf)]);
     }
 
     @Override
     public Optional<BlockState> getStateByTypeAndData(BlockType blockType, byte data) {
-        return Optional.ofNullable(this.blockStateByPackedType.get(
-                (short) ((this.packedTypeByBlockState.get(blockType.getDefaultState()) & 0xfff0) | (data & 0xf))));
+        final int packedType = ((LanternBlockState) blockType.getDefaultState()).getPackedType() & 0xfff0;
+        return Optional.ofNullable(this.blockStateByPackedType[packedType | (data & 0xf)]);
     }
 
     @Override
     public Optional<BlockState> getStateByInternalIdAndData(int internalIdAndData) {
-        return Optional.ofNullable(this.blockStateByPackedType.get((short) (internalIdAndData & 0xffff)));
+        return Optional.ofNullable(this.blockStateByPackedType[internalIdAndData & 0xffff]);
     }
 
     @Override
     public byte getStateData(BlockState blockState) {
-        return (byte) (this.packedTypeByBlockState.get(checkNotNull(blockState, "blockState")) & 0xf);
+        return (byte) (((LanternBlockState) checkNotNull(blockState, "blockState")).getPackedType() & 0xf);
     }
 
     @Override
     public short getStateInternalId(BlockState blockState) {
-        return this.internalIdByBlockType.getShort(checkNotNull(blockState, "blockState").getType());
+        return (short) ((((LanternBlockState) checkNotNull(blockState, "blockState")).getPackedType() & 0xffff) >> 4);
     }
 
     @Override
     public short getStateInternalIdAndData(BlockState blockState) {
-        return this.packedTypeByBlockState.get(checkNotNull(blockState, "blockState"));
+        return ((LanternBlockState) checkNotNull(blockState, "blockState")).getPackedType();
     }
 
     @Override
@@ -27,7 +27,10 @@
 
 import org.lanternpowered.server.game.registry.PluginCatalogRegistryModule;
 import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.registry.util.RegistrationDependency;
 
+// The block states are registered by the block registry module
+@RegistrationDependency(BlockRegistryModule.class)
 public final class BlockStateRegistryModule extends PluginCatalogRegistryModule<BlockState> {
 
     public BlockStateRegistryModule() {
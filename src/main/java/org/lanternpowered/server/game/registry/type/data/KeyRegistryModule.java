@@ -40,6 +40,9 @@
 import com.flowpowered.math.vector.Vector3d;
 import com.flowpowered.math.vector.Vector3i;
 import com.google.common.reflect.TypeToken;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMaps;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 import org.lanternpowered.server.data.key.LanternKeys;
 import org.lanternpowered.server.game.registry.AdditionalPluginCatalogRegistryModule;
 import org.spongepowered.api.block.BlockState;
@@ -114,11 +117,11 @@
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.time.Instant;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class KeyRegistryModule extends AdditionalPluginCatalogRegistryModule<Key> {
 
@@ -126,7 +129,14 @@ public static KeyRegistryModule get() {
         return Holder.INSTANCE;
     }
 
-    private final Map<DataQuery, Key> byQuery = new HashMap<>();
+    private final Map<DataQuery, Key> byQuery = new ConcurrentHashMap<>();
+
+    /**
+     * The internal ids of all the keys. The map is replaced every time a key is
+     * assigned, which only happens a limited amount of times, so that lookups
+     * don't require any locking.
+     */
+    private volatile Reference2IntMap<Key<?>> internalIds = createInternalIdMap(Reference2IntMaps.emptyMap());
 
     private KeyRegistryModule() {
         super(Keys.class);
@@ -136,6 +146,38 @@ private KeyRegistryModule() {
     protected void register(Key key, boolean disallowInbuiltPluginIds) {
         super.register(key, disallowInbuiltPluginIds);
         this.byQuery.putIfAbsent(key.getQuery(), key);
+        getInternalId(key);
+    }
+
+    /**
+     * Gets the internal id of the {@link Key}. The ids are dense, starting
+     * from {@code 0}, and can be used to index arrays. A key that isn't
+     * registered yet will be assigned a new id.
+     *
+     * @param key The key
+     * @return The internal id
+     */
+    public int getInternalId(Key<?> key) {
+        checkNotNull(key, "key");
+        final int internalId = this.internalIds.getInt(key);
+        return internalId != -1 ? internalId : assignInternalId(key);
+    }
+
+    private synchronized int assignInternalId(Key<?> key) {
+        int internalId = this.internalIds.getInt(key);
+        if (internalId == -1) {
+            final Reference2IntMap<Key<?>> internalIds = createInternalIdMap(this.internalIds);
+            internalId = internalIds.size();
+            internalIds.put(key, internalId);
+            this.internalIds = internalIds;
+        }
+        return internalId;
+    }
+
+    private static Reference2IntMap<Key<?>> createInternalIdMap(Reference2IntMap<Key<?>> internalIds) {
+        final Reference2IntMap<Key<?>> map = new Reference2IntOpenHashMap<>(internalIds);
+        map.defaultReturnValue(-1);
+        return map;
     }
 
     public Optional<Key> getByQuery(DataQuery query) {
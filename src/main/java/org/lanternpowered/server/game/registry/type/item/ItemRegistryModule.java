@@ -135,12 +135,13 @@ private ItemRegistryModule() {
     }
 
     /**
-     * Registers a {@link ItemType} with the specified internal id.
+     * Registers a {@link ItemType} with the specified internal id. Item types are also
+     * registered by the {@link BlockRegistryModule}, so this may be called concurrently.
      *
      * @param internalId The internal id
      * @param itemType The item type
      */
-    public void register(int internalId, ItemType itemType) {
+    public synchronized void register(int internalId, ItemType itemType) {
         checkState(!this.itemTypeByInternalId.containsKey(internalId), "The internal id is already used: %s", internalId);
         super.register(itemType);
         this.internalIdByItemType.put(itemType, internalId);
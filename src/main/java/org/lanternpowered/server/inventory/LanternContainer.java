@@ -48,10 +48,10 @@
 import org.spongepowered.api.text.translation.Translation;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -61,8 +61,32 @@ public abstract class LanternContainer extends LanternOrderedInventory implement
 
     private static int windowIdCounter = 1;
 
+    /**
+     * The fraction of window slots that should be changed before
+     * all the contents are resent at once instead of per slot.
+     */
+    private static final double WINDOW_ITEMS_THRESHOLD = 0.5;
+
     final Set<Player> viewers = new HashSet<>();
-    private final Map<LanternSlot, Boolean> dirtySlots = new HashMap<>();
+
+    /**
+     * The slots that are changed, and the slots of which the last
+     * change should be silent, by the index within this container.
+     */
+    private final BitSet dirtySlots = new BitSet();
+    private final BitSet silentSlots = new BitSet();
+
+    /**
+     * The window index of every slot of this container, or {@code -1}
+     * if the slot isn't part of the opened inventory.
+     */
+    private int[] windowIndexes;
+
+    /**
+     * The raw player inventory index of every slot of this container,
+     * or {@code -1} if the slot isn't part of the hotbar.
+     */
+    private int[] hotbarIndexes;
 
     protected final int windowId;
 
@@ -96,6 +120,27 @@ public LanternContainer(@Nullable Translation name,
             this.openInventory = playerInventory;
             this.windowId = 0;
         }
+        this.initSlotIndexes();
+    }
+
+    private void initSlotIndexes() {
+        final LanternOrderedInventory rawInventory = (LanternOrderedInventory) this.playerInventory
+                .getInventoryView(HumanInventoryView.RAW_INVENTORY);
+        final int size = this.slots.size();
+        this.windowIndexes = new int[size];
+        this.hotbarIndexes = new int[size];
+        Arrays.fill(this.hotbarIndexes, -1);
+        for (int i = 0; i < size; i++) {
+            final LanternSlot slot = this.slots.get(i);
+            if (slot == null) {
+                this.windowIndexes[i] = -1;
+                continue;
+            }
+            this.windowIndexes[i] = this.openInventory.getSlotIndex(slot);
+            if (slot.parent() instanceof Hotbar) {
+                this.hotbarIndexes[i] = rawInventory.getSlotIndex(slot);
+            }
+        }
     }
 
     void addSlotTrackers() {
@@ -185,9 +230,10 @@ void queueSlotChange(Slot slot, boolean silent) {
     }
 
     void queueSlotChange0(Slot slot, boolean silent) {
-        int index = this.getSlotIndex(slot);
+        final int index = this.getSlotIndex(slot);
         if (index != -1) {
-            this.dirtySlots.put((LanternSlot) slot, silent);
+            this.dirtySlots.set(index);
+            this.silentSlots.set(index, silent);
         }
     }
 
@@ -196,24 +242,38 @@ Set<Player> getRawViewers() {
     }
 
     public void streamSlotChanges() {
+        if (this.dirtySlots.isEmpty()) {
+            return;
+        }
         final List<Message> messages = new ArrayList<>();
-        for (Map.Entry<LanternSlot, Boolean> entry : this.dirtySlots.entrySet()) {
-            final LanternSlot slot = entry.getKey();
-            int windowId = this.windowId;
-            int index = -1;
-            if (entry.getValue() && slot.parent() instanceof Hotbar) {
-                index = ((LanternOrderedInventory) this.playerInventory.getInventoryView(HumanInventoryView.RAW_INVENTORY)).getSlotIndex(slot);
+        int windowSlotChanges = 0;
+        for (int index = this.dirtySlots.nextSetBit(0); index >= 0; index = this.dirtySlots.nextSetBit(index + 1)) {
+            if (this.hotbarIndexes[index] != -1 && this.silentSlots.get(index)) {
+                // Silent hotbar changes are applied directly to the raw player inventory
+                messages.add(new MessagePlayOutSetWindowSlot(-2, this.hotbarIndexes[index],
+                        this.slots.get(index).peek().orElse(null)));
+            } else if (this.windowIndexes[index] != -1) {
+                windowSlotChanges++;
             }
-            if (index == -1) {
-                index = this.openInventory.getSlotIndex(slot);
-            } else {
-                windowId = -2;
+        }
+        if (windowSlotChanges > this.slots.size() * WINDOW_ITEMS_THRESHOLD) {
+            // Most of the window changed, it's cheaper to send everything at once
+            final ItemStack[] items = new ItemStack[this.slots.size()];
+            for (int i = 0; i < items.length; i++) {
+                items[i] = this.slots.get(i).peek().orElse(null);
             }
-            if (index != -1) {
-                messages.add(new MessagePlayOutSetWindowSlot(windowId, index, slot.peek().orElse(null)));
+            messages.add(new MessagePlayOutWindowItems(this.windowId, items));
+        } else if (windowSlotChanges > 0) {
+            for (int index = this.dirtySlots.nextSetBit(0); index >= 0; index = this.dirtySlots.nextSetBit(index + 1)) {
+                final int windowIndex = this.windowIndexes[index];
+                if (windowIndex != -1 && (this.hotbarIndexes[index] == -1 || !this.silentSlots.get(index))) {
+                    messages.add(new MessagePlayOutSetWindowSlot(this.windowId, windowIndex,
+                            this.slots.get(index).peek().orElse(null)));
+                }
             }
         }
         this.dirtySlots.clear();
+        this.silentSlots.clear();
         if (!messages.isEmpty()) {
             getRawViewers().forEach(player -> ((LanternPlayer) player).getConnection().send(messages));
         }
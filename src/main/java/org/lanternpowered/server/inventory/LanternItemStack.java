@@ -38,10 +38,14 @@
 import org.lanternpowered.server.item.LanternItemType;
 import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataTransactionResult;
 import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.key.Key;
 import org.spongepowered.api.data.key.Keys;
 import org.spongepowered.api.data.manipulator.DataManipulator;
+import org.spongepowered.api.data.merge.MergeFunction;
 import org.spongepowered.api.data.persistence.InvalidDataException;
+import org.spongepowered.api.data.value.BaseValue;
 import org.spongepowered.api.data.value.immutable.ImmutableValue;
 import org.spongepowered.api.item.ItemType;
 import org.spongepowered.api.item.ItemTypes;
@@ -53,6 +57,7 @@
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.function.Function;
 
 import javax.annotation.Nullable;
 
@@ -66,6 +71,11 @@ public class LanternItemStack implements ItemStack, AbstractPropertyHolder, IAdd
     private int quantity;
     private int tempMaxQuantity;
 
+    // The amount of times that the data of this item stack was modified,
+    // used to determine whether the cached network data is still valid
+    private volatile int modCount;
+    @Nullable private volatile NetworkData networkData;
+
     public LanternItemStack(BlockType blockType) {
         this(blockType, 1);
     }
@@ -120,11 +130,104 @@ public boolean validateRawData(DataView dataView) {
     @Override
     public void setRawData(DataView dataView) throws InvalidDataException {
         checkNotNull(dataView, "dataView");
+        this.modCount++;
         dataView.remove(DataQueries.ITEM_TYPE);
         this.quantity = dataView.getInt(DataQueries.QUANTITY).orElse(1);
         IAdditionalDataHolder.super.setRawData(dataView);
     }
 
+    @Override
+    public <E> boolean offerFast(Key<? extends BaseValue<E>> key, E element) {
+        this.modCount++;
+        return IAdditionalDataHolder.super.offerFast(key, element);
+    }
+
+    @Override
+    public <E> DataTransactionResult offer(Key<? extends BaseValue<E>> key, E element) {
+        this.modCount++;
+        return IAdditionalDataHolder.super.offer(key, element);
+    }
+
+    @Override
+    public <E> boolean offerFast(BaseValue<E> value) {
+        this.modCount++;
+        return IAdditionalDataHolder.super.offerFast(value);
+    }
+
+    @Override
+    public <E> DataTransactionResult offer(BaseValue<E> value) {
+        this.modCount++;
+        return IAdditionalDataHolder.super.offer(value);
+    }
+
+    @Override
+    public boolean offerFast(DataManipulator<?, ?> valueContainer, MergeFunction function) {
+        this.modCount++;
+        return IAdditionalDataHolder.super.offerFast(valueContainer, function);
+    }
+
+    @Override
+    public DataTransactionResult offer(DataManipulator<?, ?> valueContainer, MergeFunction function) {
+        this.modCount++;
+        return IAdditionalDataHolder.super.offer(valueContainer, function);
+    }
+
+    @Override
+    public boolean removeFast(Key<?> key) {
+        this.modCount++;
+        return IAdditionalDataHolder.super.removeFast(key);
+    }
+
+    @Override
+    public DataTransactionResult remove(Key<?> key) {
+        this.modCount++;
+        return IAdditionalDataHolder.super.remove(key);
+    }
+
+    @Override
+    public boolean removeFast(Class<? extends DataManipulator<?, ?>> containerClass) {
+        this.modCount++;
+        return IAdditionalDataHolder.super.removeFast(containerClass);
+    }
+
+    @Override
+    public DataTransactionResult remove(Class<? extends DataManipulator<?, ?>> containerClass) {
+        this.modCount++;
+        return IAdditionalDataHolder.super.remove(containerClass);
+    }
+
+    /**
+     * Gets the encoded network data of this item stack, the quantity
+     * is excluded. The data will be reused until the data of this item
+     * stack is modified.
+     *
+     * @param encoder The encoder that will be used if the data isn't cached
+     * @return The encoded network data
+     */
+    public byte[] getNetworkData(Function<LanternItemStack, byte[]> encoder) {
+        final int modCount = this.modCount;
+        final NetworkData networkData = this.networkData;
+        if (networkData != null && networkData.modCount == modCount) {
+            return networkData.data;
+        }
+        final byte[] data = encoder.apply(this);
+        // The stamp will no longer match if the item stack
+        // was modified while it was being encoded
+        this.networkData = new NetworkData(modCount, data);
+        return data;
+    }
+
+    private static final class NetworkData {
+
+        private final int modCount;
+        private final byte[] data;
+
+        private NetworkData(int modCount, byte[] data) {
+            this.modCount = modCount;
+            this.data = data;
+        }
+    }
+
     @Override
     public DataContainer toContainer() {
         return IAdditionalDataHolder.super.toContainer()
@@ -185,6 +288,11 @@ public LanternItemStack copy() {
         final LanternItemStack itemStack = new LanternItemStack(this.itemType, this.quantity, getValueCollection().copy(),
                 this.additionalContainers.copy());
         itemStack.tempMaxQuantity = this.tempMaxQuantity;
+        // The data is the same, so is the network data
+        final NetworkData networkData = this.networkData;
+        if (networkData != null && networkData.modCount == this.modCount) {
+            itemStack.networkData = new NetworkData(0, networkData.data);
+        }
         return itemStack;
     }
 
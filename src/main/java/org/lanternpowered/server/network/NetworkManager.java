@@ -35,10 +35,17 @@
 import io.netty.channel.ChannelOption;
 import io.netty.channel.ChannelPipeline;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.epoll.EpollChannelOption;
+import io.netty.channel.epoll.EpollMode;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import org.lanternpowered.server.LanternServer;
+import org.lanternpowered.server.config.GlobalConfig;
+import org.lanternpowered.server.game.Lantern;
 import org.lanternpowered.server.network.buffer.LanternByteBufferAllocator;
+import org.lanternpowered.server.network.message.DroppableMessage;
+import org.lanternpowered.server.network.message.OrderedAsync;
 import org.lanternpowered.server.network.message.codec.CodecContext;
 import org.lanternpowered.server.network.message.codec.SimpleCodecContext;
 import org.lanternpowered.server.network.pipeline.LegacyProtocolHandler;
@@ -46,12 +53,16 @@
 import org.lanternpowered.server.network.pipeline.MessageFramingHandler;
 import org.lanternpowered.server.network.pipeline.MessageProcessorHandler;
 import org.lanternpowered.server.network.pipeline.NoopHandler;
+import org.lanternpowered.server.network.status.LanternStatusCache;
 import org.lanternpowered.server.util.ThreadHelper;
 
 import javax.annotation.Nullable;
 import java.net.SocketAddress;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -59,6 +70,7 @@
 public final class NetworkManager extends ServerBase {
 
     private final static AtomicInteger threadCounter = new AtomicInteger(0);
+    private final static AtomicInteger workerThreadCounter = new AtomicInteger(0);
 
     private ServerBootstrap bootstrap;
 
@@ -67,12 +79,26 @@ public final class NetworkManager extends ServerBase {
 
     private final Set<NetworkSession> sessions = Sets.newConcurrentHashSet();
     private final LanternServer server;
+    private final LanternStatusCache statusCache;
+
+    /**
+     * The executor that is shared by the sessions to handle
+     * the {@link OrderedAsync} messages.
+     */
+    @Nullable private ExecutorService workerExecutor;
+
+    /**
+     * Whether non essential messages should be dropped when
+     * a channel isn't writable.
+     */
+    private boolean dropMessages;
 
     @Nullable private SocketAddress socketAddress;
 
     @Inject
     public NetworkManager(LanternServer server) {
         this.server = server;
+        this.statusCache = new LanternStatusCache(server);
     }
 
     /**
@@ -93,6 +119,37 @@ public LanternServer getServer() {
         return this.server;
     }
 
+    /**
+     * Gets the {@link LanternStatusCache}.
+     *
+     * @return The status cache
+     */
+    public LanternStatusCache getStatusCache() {
+        return this.statusCache;
+    }
+
+    /**
+     * Gets the {@link Executor} that should be used to handle the
+     * {@link OrderedAsync} messages, or {@code null} if they should
+     * be handled on the main thread.
+     *
+     * @return The worker executor
+     */
+    @Nullable
+    Executor getWorkerExecutor() {
+        return this.workerExecutor;
+    }
+
+    /**
+     * Gets whether {@link DroppableMessage}s should be dropped
+     * when the channel of a session isn't writable.
+     *
+     * @return Whether the messages should be dropped
+     */
+    boolean shouldDropMessages() {
+        return this.dropMessages;
+    }
+
     /**
      * Pulses all the sessions.
      */
@@ -119,17 +176,28 @@ void onInactive(NetworkSession session) {
     }
 
     @Override
-    protected ChannelFuture init0(SocketAddress address, boolean epoll) {
+    protected ChannelFuture init0(SocketAddress address, TransportType transportType) {
         this.bootstrap = new ServerBootstrap();
+        final GlobalConfig config = this.server.getGame().getGlobalConfig();
+        // Multiple acceptors require SO_REUSEPORT, which is only supported by epoll
+        final int acceptorThreads = transportType == TransportType.EPOLL ? Math.max(1, config.getNetworkAcceptorThreads()) : 1;
         // Take advantage of the fast thread local threads,
         // this is also provided by the default thread factory
         final ThreadFactory threadFactory = ThreadHelper.newFastThreadLocalThreadFactory(() -> "netty-" + threadCounter.getAndIncrement());
-        this.bossGroup = createEventLoopGroup(epoll, threadFactory);
-        this.workerGroup = createEventLoopGroup(epoll, threadFactory);
+        this.bossGroup = createEventLoopGroup(transportType, acceptorThreads, threadFactory);
+        this.workerGroup = createEventLoopGroup(transportType, Math.max(0, config.getNetworkIoThreads()), threadFactory);
         this.socketAddress = address;
-        return this.bootstrap
+        this.dropMessages = config.shouldDropNonEssentialMessages();
+        final int highWaterMark = config.getWriteBufferHighWaterMark();
+        final int lowWaterMark = Math.min(config.getWriteBufferLowWaterMark(), highWaterMark);
+        final int workerThreads = config.getNetworkWorkerThreads();
+        if (workerThreads > 0) {
+            this.workerExecutor = Executors.newFixedThreadPool(workerThreads,
+                    ThreadHelper.newFastThreadLocalThreadFactory(() -> "network-worker-" + workerThreadCounter.getAndIncrement()));
+        }
+        this.bootstrap
                 .group(this.bossGroup, this.workerGroup)
-                .channel(getServerSocketChannelClass(epoll))
+                .channel(getServerSocketChannelClass(transportType))
                 .childHandler(new ChannelInitializer<SocketChannel>() {
                     @Override
                     protected void initChannel(SocketChannel ch) throws Exception {
@@ -149,13 +217,53 @@ protected void initChannel(SocketChannel ch) throws Exception {
                 .childOption(ChannelOption.ALLOCATOR, PooledByteBufAllocator.DEFAULT)
                 .childOption(ChannelOption.TCP_NODELAY, true)
                 .childOption(ChannelOption.SO_KEEPALIVE, true)
-                .bind(address);
+                .childOption(ChannelOption.WRITE_BUFFER_WATER_MARK, new WriteBufferWaterMark(lowWaterMark, highWaterMark));
+        final int sendBufferSize = config.getSocketSendBufferSize();
+        if (sendBufferSize > 0) {
+            this.bootstrap.childOption(ChannelOption.SO_SNDBUF, sendBufferSize);
+        }
+        final int receiveBufferSize = config.getSocketReceiveBufferSize();
+        if (receiveBufferSize > 0) {
+            // Also apply it to the server channel, buffers larger than 64KB
+            // must be set before the connection is accepted
+            this.bootstrap.option(ChannelOption.SO_RCVBUF, receiveBufferSize);
+            this.bootstrap.childOption(ChannelOption.SO_RCVBUF, receiveBufferSize);
+        }
+        if (transportType == TransportType.EPOLL) {
+            final EpollMode epollMode = config.isEpollEdgeTriggered() ? EpollMode.EDGE_TRIGGERED : EpollMode.LEVEL_TRIGGERED;
+            this.bootstrap.option(EpollChannelOption.EPOLL_MODE, epollMode);
+            this.bootstrap.childOption(EpollChannelOption.EPOLL_MODE, epollMode);
+            final int tcpFastOpenQueueLength = config.getTcpFastOpenQueueLength();
+            if (tcpFastOpenQueueLength > 0) {
+                this.bootstrap.option(EpollChannelOption.TCP_FASTOPEN, tcpFastOpenQueueLength);
+            }
+            if (acceptorThreads > 1) {
+                this.bootstrap.option(EpollChannelOption.SO_REUSEPORT, true);
+            }
+        } else if (config.getNetworkAcceptorThreads() > 1 || config.getTcpFastOpenQueueLength() > 0) {
+            Lantern.getLogger().warn("Multiple acceptor threads and TCP fast open are only supported by the epoll transport.");
+        }
+        final ChannelFuture future = this.bootstrap.bind(address);
+        // Bind a server channel for every acceptor thread, the
+        // kernel will balance the connections between them
+        for (int i = 1; i < acceptorThreads; i++) {
+            this.bootstrap.bind(address).addListener(future1 -> {
+                if (!future1.isSuccess()) {
+                    Lantern.getLogger().warn("Failed to bind an additional acceptor to {}", address, future1.cause());
+                }
+            });
+        }
+        return future;
     }
 
     @Override
     public void shutdown0() {
         this.workerGroup.shutdownGracefully();
         this.bossGroup.shutdownGracefully();
+        if (this.workerExecutor != null) {
+            this.workerExecutor.shutdown();
+            this.workerExecutor = null;
+        }
         this.bootstrap = null;
     }
 }
@@ -37,6 +37,7 @@
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundBuffer;
 import io.netty.channel.ChannelPromise;
 import io.netty.channel.EventLoop;
 import io.netty.channel.SimpleChannelInboundHandler;
@@ -57,10 +58,12 @@
 import org.lanternpowered.server.network.entity.EntityProtocolTypes;
 import org.lanternpowered.server.network.message.AsyncHelper;
 import org.lanternpowered.server.network.message.BulkMessage;
+import org.lanternpowered.server.network.message.DroppableMessage;
 import org.lanternpowered.server.network.message.HandlerMessage;
 import org.lanternpowered.server.network.message.Message;
 import org.lanternpowered.server.network.message.MessageRegistration;
 import org.lanternpowered.server.network.message.NullMessage;
+import org.lanternpowered.server.network.message.OrderedAsync;
 import org.lanternpowered.server.network.message.handler.Handler;
 import org.lanternpowered.server.network.protocol.Protocol;
 import org.lanternpowered.server.network.protocol.ProtocolState;
@@ -69,6 +72,7 @@
 import org.lanternpowered.server.permission.Permissions;
 import org.lanternpowered.server.profile.LanternGameProfile;
 import org.lanternpowered.server.text.LanternTexts;
+import org.lanternpowered.server.util.concurrent.OrderedExecutor;
 import org.lanternpowered.server.world.LanternWorld;
 import org.lanternpowered.server.world.LanternWorldProperties;
 import org.spongepowered.api.Sponge;
@@ -102,7 +106,9 @@
 import java.util.Random;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.annotation.Nullable;
 
@@ -221,10 +227,25 @@ public Channel getChannel() {
      */
     private int protocolVersion = -1;
 
+    /**
+     * The executor that handles the {@link OrderedAsync} messages of
+     * this session, or {@code null} if they should be handled on
+     * the main thread.
+     */
+    @Nullable private final OrderedExecutor workerExecutor;
+
+    /**
+     * The amount of {@link DroppableMessage}s that were dropped
+     * because the channel wasn't writable.
+     */
+    private final LongAdder droppedMessages = new LongAdder();
+
     public NetworkSession(Channel channel, LanternServer server, NetworkManager networkManager) {
         this.networkManager = networkManager;
         this.channel = channel;
         this.server = server;
+        final Executor workerExecutor = networkManager.getWorkerExecutor();
+        this.workerExecutor = workerExecutor == null ? null : new OrderedExecutor(workerExecutor);
     }
 
     private void handleKeepAlive(MessageInOutKeepAlive message) {
@@ -276,29 +297,47 @@ public void messageReceived(Message message) {
             ((BulkMessage) message).getMessages().forEach(this::messageReceived);
         } else if (message instanceof HandlerMessage) {
             final HandlerMessage handlerMessage = (HandlerMessage) message;
-            if (AsyncHelper.isAsyncMessage(handlerMessage.getMessage()) ||
-                    AsyncHelper.isAsyncHandler(handlerMessage.getHandler())) {
-                handleMessage(handlerMessage.getHandler(), handlerMessage.getMessage());
-            } else {
-                this.messageQueue.add(handlerMessage);
-            }
+            handleOrQueueMessage(handlerMessage.getHandler(), handlerMessage.getMessage(), handlerMessage);
         } else {
             final Class<? extends Message> messageClass = message.getClass();
             final MessageRegistration registration = getProtocol().inbound().findByMessageType(messageClass).orElse(null);
             if (registration == null) {
                 throw new DecoderException("Failed to find a message registration for " + messageClass.getName() + "!");
             }
-            registration.getHandler().ifPresent(handler -> {
-                final Handler handler1 = (Handler) handler;
-                if (AsyncHelper.isAsyncMessage(message) || AsyncHelper.isAsyncHandler(handler1)) {
-                    handleMessage(handler1, message);
-                } else {
-                    this.messageQueue.add(new HandlerMessage(message, handler1));
-                }
-            });
+            registration.getHandler().ifPresent(handler -> handleOrQueueMessage((Handler) handler, message, null));
+        }
+    }
+
+    /**
+     * Handles the inbound {@link Message} directly if it's asynchronous, submits
+     * it to the ordered worker executor if it's ordered asynchronous or otherwise
+     * queues it to be handled on the main thread.
+     *
+     * @param handler The handler
+     * @param message The message
+     * @param handlerMessage The handler message, if already present
+     */
+    @SuppressWarnings("unchecked")
+    private void handleOrQueueMessage(Handler handler, Message message, @Nullable HandlerMessage handlerMessage) {
+        if (AsyncHelper.isAsyncMessage(message) || AsyncHelper.isAsyncHandler(handler)) {
+            handleMessage(handler, message);
+        } else if (this.workerExecutor != null &&
+                (AsyncHelper.isOrderedAsyncMessage(message) || AsyncHelper.isOrderedAsyncHandler(handler))) {
+            this.workerExecutor.execute(() -> handleMessage(handler, message));
+        } else {
+            this.messageQueue.add(handlerMessage != null ? handlerMessage : new HandlerMessage(message, handler));
         }
     }
 
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        if (!this.channel.isWritable()) {
+            Lantern.getLogger().debug("The outbound buffer of {} reached the high water mark, {} bytes are pending.",
+                    this.channel.remoteAddress(), getPendingBytes());
+        }
+        super.channelWritabilityChanged(ctx);
+    }
+
     @Override
     public void channelActive(ChannelHandlerContext ctx) {
         this.networkManager.onActive(this);
@@ -466,6 +505,51 @@ public void pulse() {
         }
     }
 
+    /**
+     * Gets whether the {@link Channel} of this session is writable. The channel
+     * becomes unwritable when the amount of pending outbound bytes exceeds the
+     * high water mark, and writable again when it drops below the low water mark.
+     *
+     * <p>Non essential messages will be dropped and the streaming of
+     * chunks will be deferred as long as the channel isn't writable.</p>
+     *
+     * @return Whether the channel is writable
+     */
+    public boolean isWritable() {
+        return this.channel.isWritable();
+    }
+
+    /**
+     * Gets the amount of bytes that are queued in the outbound
+     * buffer and are waiting to be written to the client.
+     *
+     * @return The amount of pending bytes
+     */
+    public long getPendingBytes() {
+        final ChannelOutboundBuffer outboundBuffer = this.channel.unsafe().outboundBuffer();
+        return outboundBuffer == null ? 0 : outboundBuffer.totalPendingWriteBytes();
+    }
+
+    /**
+     * Gets the amount of {@link DroppableMessage}s that were dropped
+     * because the channel wasn't writable.
+     *
+     * @return The amount of dropped messages
+     */
+    public long getDroppedMessages() {
+        return this.droppedMessages.sum();
+    }
+
+    /**
+     * Gets the amount of inbound messages that are waiting
+     * to be handled on the worker executor.
+     *
+     * @return The amount of pending messages
+     */
+    public int getPendingAsyncMessages() {
+        return this.workerExecutor == null ? 0 : this.workerExecutor.getPendingTasks();
+    }
+
     /**
      * Gets a list with all the installed client mods.
      *
@@ -493,6 +577,15 @@ public LanternServer getServer() {
         return this.server;
     }
 
+    /**
+     * Gets the {@link NetworkManager} that created this session.
+     *
+     * @return The network manager
+     */
+    public NetworkManager getNetworkManager() {
+        return this.networkManager;
+    }
+
     /**
      * Gets the {@link Channel} of this session.
      *
@@ -667,6 +760,12 @@ public void send(Message message) {
         if (!this.channel.isActive()) {
             return;
         }
+        // Don't pile up non essential messages if the client can't keep up
+        if (message instanceof DroppableMessage && !this.channel.isWritable() &&
+                this.networkManager.shouldDropMessages()) {
+            this.droppedMessages.increment();
+            return;
+        }
         ReferenceCountUtil.retain(message);
         // Thrown exceptions will be delegated through the exceptionCaught method
         this.channel.writeAndFlush(message, this.channel.voidPromise());
@@ -710,7 +809,8 @@ public void send(Message... messages) {
     }
 
     /**
-     * Sends a iterable of {@link Message}s.
+     * Sends a iterable of {@link Message}s. All the messages will
+     * be written to the channel before a single flush is performed.
      *
      * @param messages The messages
      */
@@ -718,31 +818,42 @@ public void send(Iterable<Message> messages) {
         checkNotNull(messages, "messages");
         final Iterator<Message> it = messages.iterator();
         checkArgument(it.hasNext(), "messages cannot be empty");
-        Message message = it.next();
+        if (!this.channel.isActive()) {
+            return;
+        }
+        final Message message = it.next();
         // Don't bother checking if we are in the event loop,
         // there is only one message.
-        final ChannelPromise voidPromise = this.channel.voidPromise();
         if (!it.hasNext()) {
-            this.channel.writeAndFlush(message, voidPromise);
+            send(message);
         } else {
+            // Create a copy of the list, to avoid concurrent modifications
+            final List<Message> messages0 = ImmutableList.copyOf(messages);
+            messages0.forEach(ReferenceCountUtil::retain);
             final EventLoop eventLoop = this.channel.eventLoop();
             if (eventLoop.inEventLoop()) {
-                for (Message message0 : messages) {
-                    this.channel.writeAndFlush(message0, voidPromise);
-                }
+                writeAndFlush(messages0);
             } else {
                 // If there are more then one message, combine them inside the
                 // event loop to reduce overhead of wakeup calls and object creation
+                eventLoop.submit(() -> writeAndFlush(messages0));
+            }
+        }
+    }
 
-                // Create a copy of the list, to avoid concurrent modifications
-                final List<Message> messages0 = ImmutableList.copyOf(messages);
-                eventLoop.submit(() -> {
-                    for (Message message0 : messages0) {
-                        this.channel.writeAndFlush(message0, voidPromise);
-                    }
-                });
+    private void writeAndFlush(List<Message> messages) {
+        final ChannelPromise voidPromise = this.channel.voidPromise();
+        final boolean dropMessages = !this.channel.isWritable() && this.networkManager.shouldDropMessages();
+        for (Message message : messages) {
+            // Don't pile up non essential messages if the client can't keep up
+            if (dropMessages && message instanceof DroppableMessage) {
+                this.droppedMessages.increment();
+                ReferenceCountUtil.release(message);
+                continue;
             }
+            this.channel.write(message, voidPromise);
         }
+        this.channel.flush();
     }
 
     /**
@@ -995,6 +1106,7 @@ public String toString() {
                 .add("profile", this.gameProfile)
                 .add("protocolVersion", this.protocolVersion)
                 .add("protocolState", this.protocolState)
+                .add("pendingBytes", getPendingBytes())
                 .toString();
     }
 }
@@ -28,22 +28,16 @@
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.ServerChannel;
-import io.netty.channel.epoll.Epoll;
-import io.netty.channel.epoll.EpollDatagramChannel;
-import io.netty.channel.epoll.EpollEventLoopGroup;
-import io.netty.channel.epoll.EpollServerSocketChannel;
-import io.netty.channel.epoll.EpollSocketChannel;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.DatagramChannel;
 import io.netty.channel.socket.SocketChannel;
-import io.netty.channel.socket.nio.NioDatagramChannel;
-import io.netty.channel.socket.nio.NioServerSocketChannel;
-import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.concurrent.DefaultThreadFactory;
 import org.lanternpowered.server.game.Lantern;
 
 import java.net.SocketAddress;
 import java.util.concurrent.ThreadFactory;
 
+import javax.annotation.Nullable;
+
 public abstract class ServerBase {
 
     /**
@@ -57,6 +51,11 @@ public abstract class ServerBase {
      */
     private boolean initialized = false;
 
+    /**
+     * The transport type that is used by the server.
+     */
+    @Nullable private TransportType transportType;
+
     /**
      * Initializes the network server.
      *
@@ -80,28 +79,42 @@ public final ChannelFuture init(SocketAddress address, boolean useEpollWhenAvail
         }
         boolean epoll = false;
         if (epollAvailabilityLogged) {
-            epoll = Epoll.isAvailable() && useEpollWhenAvailable;
+            epoll = TransportType.EPOLL.isAvailable() && useEpollWhenAvailable;
         } else if (useEpollWhenAvailable) {
-            if (Epoll.isAvailable()) {
+            if (TransportType.EPOLL.isAvailable()) {
                 epoll = true;
                 Lantern.getLogger().info("Epoll is enabled.");
             } else {
                 // Debug the reason why it is unavailable
-                Lantern.getLogger().debug("Epoll is unavailable.", Epoll.unavailabilityCause());
+                Lantern.getLogger().debug("Epoll is unavailable.", TransportType.EPOLL.getUnavailabilityCause());
             }
             epollAvailabilityLogged = true;
         }
-        final ChannelFuture future = init0(address, epoll);
+        final TransportType transportType = epoll ? TransportType.EPOLL : TransportType.NIO;
+        final ChannelFuture future = init0(address, transportType);
+        this.transportType = transportType;
         this.initialized = true;
         return future;
     }
 
-    protected abstract ChannelFuture init0(SocketAddress address, boolean epoll);
+    protected abstract ChannelFuture init0(SocketAddress address, TransportType transportType);
+
+    /**
+     * Gets the {@link TransportType} that is used by the server, will
+     * only be present if the server is initialized.
+     *
+     * @return The transport type
+     */
+    @Nullable
+    public TransportType getTransportType() {
+        return this.transportType;
+    }
 
     public final void shutdown() {
         if (this.initialized) {
             shutdown0();
             this.initialized = false;
+            this.transportType = null;
         }
     }
 
@@ -110,36 +123,45 @@ public final void shutdown() {
     /**
      * Creates a {@link EventLoopGroup}.
      *
-     * @param epoll Whether a epoll event loop group should be created
+     * @param transportType The transport type
+     * @param threads The amount of threads, or {@code 0} to use the default amount
+     * @param threadFactory The thread factory
+     * @return The event loop group
+     */
+    protected static EventLoopGroup createEventLoopGroup(TransportType transportType, int threads, ThreadFactory threadFactory) {
+        return transportType.newEventLoopGroup(threads, threadFactory);
+    }
+
+    /**
+     * Creates a {@link EventLoopGroup}.
+     *
+     * @param transportType The transport type
      * @param threadFactory The thread factory
      * @return The event loop group
      */
-    protected static EventLoopGroup createEventLoopGroup(boolean epoll, ThreadFactory threadFactory) {
-        return epoll ? new EpollEventLoopGroup(0, threadFactory) : new NioEventLoopGroup(0, threadFactory);
+    protected static EventLoopGroup createEventLoopGroup(TransportType transportType, ThreadFactory threadFactory) {
+        return createEventLoopGroup(transportType, 0, threadFactory);
     }
 
     /**
      * Creates a {@link EventLoopGroup}.
      *
-     * @param epoll Whether a epoll event loop group should be created
+     * @param transportType The transport type
      * @return The event loop group
      */
-    protected static EventLoopGroup createEventLoopGroup(boolean epoll) {
-        return epoll ? new EpollEventLoopGroup() : new NioEventLoopGroup();
+    protected static EventLoopGroup createEventLoopGroup(TransportType transportType) {
+        return createEventLoopGroup(transportType, new DefaultThreadFactory(transportType.getName().toLowerCase() + "EventLoopGroup"));
     }
 
-    @SuppressWarnings("unchecked")
-    protected static <C extends SocketChannel & ServerChannel> Class<C> getServerSocketChannelClass(boolean epoll) {
-        return (Class) (epoll ? EpollServerSocketChannel.class : NioServerSocketChannel.class);
+    protected static <C extends SocketChannel & ServerChannel> Class<C> getServerSocketChannelClass(TransportType transportType) {
+        return transportType.getServerSocketChannelClass();
     }
 
-    @SuppressWarnings("unchecked")
-    protected static <C extends SocketChannel> Class<C> getSocketChannelClass(boolean epoll) {
-        return (Class) (epoll ? EpollSocketChannel.class : NioSocketChannel.class);
+    protected static <C extends SocketChannel> Class<C> getSocketChannelClass(TransportType transportType) {
+        return transportType.getSocketChannelClass();
     }
 
-    @SuppressWarnings("unchecked")
-    protected static <C extends DatagramChannel> Class<C> getDatagramChannelClass(boolean epoll) {
-        return (Class) (epoll ? EpollDatagramChannel.class : NioDatagramChannel.class);
+    protected static <C extends DatagramChannel> Class<C> getDatagramChannelClass(TransportType transportType) {
+        return transportType.getDatagramChannelClass();
     }
 }
@@ -0,0 +1,167 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.network;
+
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollDatagramChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+
+import java.util.concurrent.ThreadFactory;
+
+import javax.annotation.Nullable;
+
+/**
+ * Represents a transport that can be used by a {@link ServerBase}.
+ */
+@SuppressWarnings("unchecked")
+public enum TransportType {
+    /**
+     * The java nio transport, available on every platform.
+     */
+    NIO("NIO") {
+        @Override
+        public boolean isAvailable() {
+            return true;
+        }
+
+        @Nullable
+        @Override
+        public Throwable getUnavailabilityCause() {
+            return null;
+        }
+
+        @Override
+        public EventLoopGroup newEventLoopGroup(int threads, ThreadFactory threadFactory) {
+            return new NioEventLoopGroup(threads, threadFactory);
+        }
+
+        @Override
+        public <C extends SocketChannel & ServerChannel> Class<C> getServerSocketChannelClass() {
+            return (Class) NioServerSocketChannel.class;
+        }
+
+        @Override
+        public <C extends SocketChannel> Class<C> getSocketChannelClass() {
+            return (Class) NioSocketChannel.class;
+        }
+
+        @Override
+        public <C extends DatagramChannel> Class<C> getDatagramChannelClass() {
+            return (Class) NioDatagramChannel.class;
+        }
+    },
+    /**
+     * The native epoll transport, only available on linux.
+     */
+    EPOLL("Epoll") {
+        @Override
+        public boolean isAvailable() {
+            return Epoll.isAvailable();
+        }
+
+        @Nullable
+        @Override
+        public Throwable getUnavailabilityCause() {
+            return Epoll.unavailabilityCause();
+        }
+
+        @Override
+        public EventLoopGroup newEventLoopGroup(int threads, ThreadFactory threadFactory) {
+            return new EpollEventLoopGroup(threads, threadFactory);
+        }
+
+        @Override
+        public <C extends SocketChannel & ServerChannel> Class<C> getServerSocketChannelClass() {
+            return (Class) EpollServerSocketChannel.class;
+        }
+
+        @Override
+        public <C extends SocketChannel> Class<C> getSocketChannelClass() {
+            return (Class) EpollSocketChannel.class;
+        }
+
+        @Override
+        public <C extends DatagramChannel> Class<C> getDatagramChannelClass() {
+            return (Class) EpollDatagramChannel.class;
+        }
+    },
+    ;
+
+    private final String name;
+
+    TransportType(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the display name of this transport type.
+     *
+     * @return The name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Gets whether this transport type is available on the current platform.
+     *
+     * @return Is available
+     */
+    public abstract boolean isAvailable();
+
+    /**
+     * Gets the reason why this transport type isn't available.
+     *
+     * @return The unavailability cause
+     */
+    @Nullable
+    public abstract Throwable getUnavailabilityCause();
+
+    /**
+     * Constructs a new {@link EventLoopGroup} for this transport type.
+     *
+     * @param threads The amount of threads, or {@code 0} to use the default amount
+     * @param threadFactory The thread factory
+     * @return The event loop group
+     */
+    public abstract EventLoopGroup newEventLoopGroup(int threads, ThreadFactory threadFactory);
+
+    public abstract <C extends SocketChannel & ServerChannel> Class<C> getServerSocketChannelClass();
+
+    public abstract <C extends SocketChannel> Class<C> getSocketChannelClass();
+
+    public abstract <C extends DatagramChannel> Class<C> getDatagramChannelClass();
+}
@@ -111,7 +111,7 @@ public OptionalInt getId(Entity entity) {
         @Override
         public void sendToSelf(Message message) {
             if (entity instanceof Player) {
-                ((LanternPlayer) entity).getConnection().send(message);
+                entityProtocolManager.send((LanternPlayer) entity, message);
             }
         }
 
@@ -124,7 +124,7 @@ public void sendToSelf(Supplier<Message> messageSupplier) {
 
         @Override
         public void sendToAll(Message message) {
-            this.trackers.forEach(tracker -> tracker.getConnection().send(message));
+            this.trackers.forEach(tracker -> entityProtocolManager.send(tracker, message));
         }
 
         @Override
@@ -138,7 +138,7 @@ public void sendToAll(Supplier<Message> message) {
         public void sendToAllExceptSelf(Message message) {
             this.trackers.forEach(tracker -> {
                 if (tracker != entity) {
-                    tracker.getConnection().send(message);
+                    entityProtocolManager.send(tracker, message);
                 }
             });
         }
@@ -149,6 +149,16 @@ public void sendToAllExceptSelf(Supplier<Message> messageSupplier) {
                 sendToAllExceptSelf(messageSupplier.get());
             }
         }
+
+        @Override
+        public Set<LanternPlayer> getTrackers() {
+            return this.trackers;
+        }
+
+        @Override
+        public void sendTo(LanternPlayer tracker, Message message) {
+            entityProtocolManager.send(tracker, message);
+        }
     }
 
     public E getEntity() {
@@ -26,11 +26,14 @@
 package org.lanternpowered.server.network.entity;
 
 import org.lanternpowered.server.entity.LanternEntity;
+import org.lanternpowered.server.entity.living.player.LanternPlayer;
 import org.lanternpowered.server.network.message.Message;
 import org.spongepowered.api.entity.Entity;
 
+import java.util.Collections;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.Set;
 import java.util.function.Supplier;
 
 final class EmptyEntityUpdateContext implements EntityProtocolUpdateContext {
@@ -73,4 +76,13 @@ public void sendToAllExceptSelf(Message message) {
     @Override
     public void sendToAllExceptSelf(Supplier<Message> messageSupplier) {
     }
+
+    @Override
+    public Set<LanternPlayer> getTrackers() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public void sendTo(LanternPlayer tracker, Message message) {
+    }
 }
@@ -36,9 +36,11 @@
 import org.lanternpowered.server.entity.LanternEntity;
 import org.lanternpowered.server.entity.event.EntityEvent;
 import org.lanternpowered.server.entity.living.player.LanternPlayer;
+import org.lanternpowered.server.network.message.Message;
 import org.spongepowered.api.entity.Entity;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -226,6 +228,17 @@ public void release(int[] array) {
 
     private int pulseCounter;
 
+    /**
+     * The messages that are queued for every tracker while the trackers
+     * are being updated, they will be flushed at once after the update.
+     */
+    private final Map<LanternPlayer, List<Message>> queuedMessages = new HashMap<>();
+
+    /**
+     * The thread that is currently updating the trackers.
+     */
+    @Nullable private Thread updateThread;
+
     Optional<AbstractEntityProtocol<?>> getEntityProtocolById(int id) {
         long stamp = allocatorLock.tryOptimisticRead();
         AbstractEntityProtocol<?> entityProtocol = stamp != 0L ? this.idToEntityProtocolMap.get(id) : null;
@@ -308,26 +321,58 @@ public void updateTrackers(Set<LanternPlayer> players) {
             return;
         }
 
-        AbstractEntityProtocol<?> removed;
-        while ((removed = this.queuedForRemoval.poll()) != null) {
-            removed.destroy(new EntityProtocolInitContextImpl(removed));
-        }
+        this.updateThread = Thread.currentThread();
+        try {
+            AbstractEntityProtocol<?> removed;
+            while ((removed = this.queuedForRemoval.poll()) != null) {
+                removed.destroy(new EntityProtocolInitContextImpl(removed));
+            }
 
-        final List<AbstractEntityProtocol.TrackerUpdateContextData> updateContextDataList = new ArrayList<>();
+            final List<AbstractEntityProtocol.TrackerUpdateContextData> updateContextDataList = new ArrayList<>();
+
+            final Set<AbstractEntityProtocol<?>> protocols = new HashSet<>(this.entityProtocols.values());
+            for (AbstractEntityProtocol<?> protocol : protocols) {
+                final AbstractEntityProtocol.TrackerUpdateContextData contextData = protocol.buildUpdateContextData(players);
+                if (contextData != null) {
+                    //noinspection unchecked
+                    protocol.updateTrackers(contextData);
+                    updateContextDataList.add(contextData);
+                }
+            }
 
-        final Set<AbstractEntityProtocol<?>> protocols = new HashSet<>(this.entityProtocols.values());
-        for (AbstractEntityProtocol<?> protocol : protocols) {
-            final AbstractEntityProtocol.TrackerUpdateContextData contextData = protocol.buildUpdateContextData(players);
-            if (contextData != null) {
-                //noinspection unchecked
-                protocol.updateTrackers(contextData);
-                updateContextDataList.add(contextData);
+            for (AbstractEntityProtocol.TrackerUpdateContextData contextData : updateContextDataList) {
+                contextData.entityProtocol.postUpdateTrackers(contextData);
             }
+        } finally {
+            this.updateThread = null;
+            flushQueuedMessages();
+        }
+    }
+
+    /**
+     * Sends the {@link Message} to the tracker. The message will be queued
+     * if the trackers are being updated, all the messages of a tracker will
+     * be written in one pass once the update is done.
+     *
+     * @param tracker The tracker
+     * @param message The message
+     */
+    void send(LanternPlayer tracker, Message message) {
+        if (this.updateThread == Thread.currentThread()) {
+            this.queuedMessages.computeIfAbsent(tracker, tracker1 -> new ArrayList<>()).add(message);
+        } else {
+            tracker.getConnection().send(message);
         }
+    }
 
-        for (AbstractEntityProtocol.TrackerUpdateContextData contextData : updateContextDataList) {
-            contextData.entityProtocol.postUpdateTrackers(contextData);
+    private void flushQueuedMessages() {
+        if (this.queuedMessages.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<LanternPlayer, List<Message>> entry : this.queuedMessages.entrySet()) {
+            entry.getKey().getConnection().send(entry.getValue());
         }
+        this.queuedMessages.clear();
     }
 
     private static final int INTERACT_DELAY = 50;
@@ -26,12 +26,14 @@
 package org.lanternpowered.server.network.entity;
 
 import org.lanternpowered.server.entity.LanternEntity;
+import org.lanternpowered.server.entity.living.player.LanternPlayer;
 import org.lanternpowered.server.network.message.Message;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.entity.living.player.Player;
 
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.Set;
 import java.util.function.Supplier;
 
 public interface EntityProtocolUpdateContext {
@@ -100,4 +102,19 @@ static EntityProtocolUpdateContext empty() {
      * @param messageSupplier The message supplier
      */
     void sendToAllExceptSelf(Supplier<Message> messageSupplier);
+
+    /**
+     * Gets all the trackers that are being updated.
+     *
+     * @return The trackers
+     */
+    Set<LanternPlayer> getTrackers();
+
+    /**
+     * Sends the {@link Message} to the specific tracker.
+     *
+     * @param tracker The tracker
+     * @param message The message
+     */
+    void sendTo(LanternPlayer tracker, Message message);
 }
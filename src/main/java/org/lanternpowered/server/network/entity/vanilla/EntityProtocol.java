@@ -40,6 +40,7 @@
 import org.lanternpowered.server.entity.LanternLiving;
 import org.lanternpowered.server.entity.event.CollectEntityEvent;
 import org.lanternpowered.server.entity.event.EntityEvent;
+import org.lanternpowered.server.entity.living.player.LanternPlayer;
 import org.lanternpowered.server.inventory.LanternItemStack;
 import org.lanternpowered.server.inventory.equipment.LanternEquipmentTypes;
 import org.lanternpowered.server.network.buffer.ByteBuffer;
@@ -49,6 +50,7 @@
 import org.lanternpowered.server.network.entity.parameter.ByteBufParameterList;
 import org.lanternpowered.server.network.entity.parameter.EmptyParameterList;
 import org.lanternpowered.server.network.entity.parameter.ParameterList;
+import org.lanternpowered.server.network.message.Message;
 import org.lanternpowered.server.network.vanilla.message.type.play.MessagePlayOutDestroyEntities;
 import org.lanternpowered.server.network.vanilla.message.type.play.MessagePlayOutEntityCollectItem;
 import org.lanternpowered.server.network.vanilla.message.type.play.MessagePlayOutEntityEquipment;
@@ -71,12 +73,25 @@
 import org.spongepowered.api.item.inventory.equipment.EquipmentTypes;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import javax.annotation.Nullable;
 
 public abstract class EntityProtocol<E extends LanternEntity> extends AbstractEntityProtocol<E> {
 
+    /**
+     * The fraction of the tracking range after which trackers are
+     * considered to be far away.
+     */
+    private static final double FAR_TRACKER_RANGE_FACTOR = 0.5;
+
+    /**
+     * The amount of updates between movement updates for far away trackers.
+     */
+    private static final int FAR_TRACKER_UPDATE_INTERVAL = 3;
+
     private static class Holder {
 
         private final static EquipmentType[] EQUIPMENT_TYPES =
@@ -114,6 +129,13 @@ private static class Holder {
 
     private final Int2ObjectMap<ItemStack> lastEquipment = new Int2ObjectOpenHashMap<>();
 
+    /**
+     * The far away trackers that skipped movement updates.
+     */
+    private final Set<LanternPlayer> staleTrackers = new HashSet<>();
+
+    private int movementUpdateCounter;
+
     public EntityProtocol(E entity) {
         super(entity);
     }
@@ -168,6 +190,7 @@ protected void update(EntityProtocolUpdateContext context) {
             this.lastYaw = yaw;
             this.lastPitch = pitch;
         }
+        Message movementMessage = null;
         if (dirtyPos) {
             final long dxu = xu - this.lastX;
             final long dyu = yu - this.lastY;
@@ -182,26 +205,33 @@ protected void update(EntityProtocolUpdateContext context) {
             if (!passenger) {
                 if (Math.abs(dxu) <= Short.MAX_VALUE && Math.abs(dyu) <= Short.MAX_VALUE && Math.abs(dzu) <= Short.MAX_VALUE) {
                     if (dirtyRot) {
-                        context.sendToAllExceptSelf(new MessagePlayOutEntityLookAndRelativeMove(entityId,
-                                (int) dxu, (int) dyu, (int) dzu, yaw, pitch, this.entity.isOnGround()));
+                        movementMessage = new MessagePlayOutEntityLookAndRelativeMove(entityId,
+                                (int) dxu, (int) dyu, (int) dzu, yaw, pitch, this.entity.isOnGround());
                         // The rotation is already send
                         dirtyRot = false;
                     } else {
-                        context.sendToAllExceptSelf(new MessagePlayOutEntityRelativeMove(entityId,
-                                (int) dxu, (int) dyu, (int) dzu, this.entity.isOnGround()));
+                        movementMessage = new MessagePlayOutEntityRelativeMove(entityId,
+                                (int) dxu, (int) dyu, (int) dzu, this.entity.isOnGround());
                     }
                 } else {
-                    context.sendToAllExceptSelf(new MessagePlayOutEntityTeleport(entityId,
-                            x, y, z, yaw, pitch, this.entity.isOnGround()));
+                    movementMessage = new MessagePlayOutEntityTeleport(entityId,
+                            x, y, z, yaw, pitch, this.entity.isOnGround());
                     // The rotation is already send
                     dirtyRot = false;
                 }
             }
         }
         if (dirtyRot) {
-            context.sendToAllExceptSelf(() -> new MessagePlayOutEntityLook(entityId, yaw, pitch, this.entity.isOnGround()));
-        } else if (!passenger) {
-            if (headRot != null) {
+            final Message lookMessage = new MessagePlayOutEntityLook(entityId, yaw, pitch, this.entity.isOnGround());
+            if (passenger) {
+                context.sendToAllExceptSelf(lookMessage);
+            } else {
+                movementMessage = lookMessage;
+            }
+        }
+        if (!passenger) {
+            sendMovement(context, movementMessage, pos);
+            if (!dirtyRot && headRot != null) {
                 final byte headYaw = wrapAngle(headRot.getY());
                 if (headYaw != this.lastHeadYaw) {
                     context.sendToAllExceptSelf(() -> new MessagePlayOutEntityHeadLook(entityId, headYaw));
@@ -241,6 +271,48 @@ protected void update(EntityProtocolUpdateContext context) {
         // TODO: Update attributes
     }
 
+    /**
+     * Sends the movement {@link Message} to all the trackers except the owner. Trackers
+     * that are far away will only receive movement updates every few updates, their
+     * skipped movements will be merged into a single teleport message.
+     *
+     * @param context The entity protocol update context
+     * @param movementMessage The movement message, if the entity moved
+     * @param pos The current position of the entity
+     */
+    private void sendMovement(EntityProtocolUpdateContext context, @Nullable Message movementMessage, Vector3d pos) {
+        final Set<LanternPlayer> trackers = context.getTrackers();
+        // Cleanup the trackers that are no longer tracking the entity
+        this.staleTrackers.retainAll(trackers);
+        final boolean farUpdate = this.movementUpdateCounter++ % FAR_TRACKER_UPDATE_INTERVAL == 0;
+        if (movementMessage == null && (this.staleTrackers.isEmpty() || !farUpdate)) {
+            return;
+        }
+        final double farRange = getTrackingRange() * FAR_TRACKER_RANGE_FACTOR;
+        final double farRangeSquared = farRange * farRange;
+        Message teleportMessage = null;
+        for (LanternPlayer tracker : trackers) {
+            if (tracker == this.entity) {
+                continue;
+            }
+            if (!farUpdate && tracker.getPosition().distanceSquared(pos) > farRangeSquared) {
+                // Queue the movement until the next far update
+                if (movementMessage != null) {
+                    this.staleTrackers.add(tracker);
+                }
+            } else if (this.staleTrackers.remove(tracker)) {
+                // The client missed some relative movements, so resync the absolute position
+                if (teleportMessage == null) {
+                    teleportMessage = new MessagePlayOutEntityTeleport(getRootEntityId(),
+                            pos.getX(), pos.getY(), pos.getZ(), this.lastYaw, this.lastPitch, this.entity.isOnGround());
+                }
+                context.sendTo(tracker, teleportMessage);
+            } else if (movementMessage != null) {
+                context.sendTo(tracker, movementMessage);
+            }
+        }
+    }
+
     /**
      * Gets whether the entity can hold equipment
      * on the client side.
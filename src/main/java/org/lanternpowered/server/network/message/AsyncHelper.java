@@ -28,11 +28,13 @@
 import com.google.common.collect.Maps;
 import org.lanternpowered.server.network.message.handler.Handler;
 
+import java.lang.annotation.Annotation;
 import java.util.Map;
 
 public final class AsyncHelper {
 
     private static final Map<Class<?>, Boolean> map = Maps.newConcurrentMap();
+    private static final Map<Class<?>, Boolean> orderedMap = Maps.newConcurrentMap();
 
     /**
      * Gets whether the specified handler will be handled asynchronous.
@@ -74,17 +76,44 @@ public static boolean isAsyncMessage(Class<? extends Message> message) {
         return isAsync0(message);
     }
 
+    /**
+     * Gets whether the specified handler will be handled asynchronous
+     * on a worker thread, in the order the messages were received.
+     *
+     * @param handler the handler
+     * @return is ordered asynchronous
+     */
+    public static boolean isOrderedAsyncHandler(Handler<?> handler) {
+        return isOrderedAsync0(handler.getClass());
+    }
+
+    /**
+     * Gets whether the specified message will be handled asynchronous
+     * on a worker thread, in the order the messages were received.
+     *
+     * @param message the message
+     * @return is ordered asynchronous
+     */
+    public static boolean isOrderedAsyncMessage(Message message) {
+        return isOrderedAsync0(message.getClass());
+    }
+
     private static boolean isAsync0(Class<?> target) {
-        if (map.containsKey(target)) {
-            return map.get(target);
-        }
-        boolean async = false;
-        while (!async && target != null && target != Object.class) {
-            async = target.getAnnotation(Async.class) != null;
+        return map.computeIfAbsent(target, target1 -> isAnnotationPresent(target1, Async.class));
+    }
+
+    private static boolean isOrderedAsync0(Class<?> target) {
+        return orderedMap.computeIfAbsent(target, target1 -> isAnnotationPresent(target1, OrderedAsync.class));
+    }
+
+    private static boolean isAnnotationPresent(Class<?> target, Class<? extends Annotation> annotation) {
+        while (target != null && target != Object.class) {
+            if (target.getAnnotation(annotation) != null) {
+                return true;
+            }
             target = target.getSuperclass();
         }
-        map.put(target, async);
-        return async;
+        return false;
     }
 
     private AsyncHelper() {
@@ -31,21 +31,13 @@
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
-import org.lanternpowered.server.LanternServer;
 import org.lanternpowered.server.game.Lantern;
 import org.lanternpowered.server.game.version.LanternMinecraftVersion;
 import org.lanternpowered.server.network.NetworkSession;
+import org.lanternpowered.server.network.status.LanternStatusCache;
 import org.lanternpowered.server.network.status.LanternStatusClient;
-import org.lanternpowered.server.network.status.LanternStatusHelper;
-import org.lanternpowered.server.network.status.LanternStatusResponse;
 import org.lanternpowered.server.text.LanternTexts;
 import org.spongepowered.api.MinecraftVersion;
-import org.spongepowered.api.Sponge;
-import org.spongepowered.api.event.SpongeEventFactory;
-import org.spongepowered.api.event.cause.Cause;
-import org.spongepowered.api.event.server.ClientPingServerEvent;
-import org.spongepowered.api.text.Text;
-import org.spongepowered.api.text.serializer.TextSerializers;
 
 import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
@@ -64,8 +56,6 @@ public LegacyProtocolHandler(NetworkSession session) {
 
     @Override
     public void channelRead(ChannelHandlerContext ctx, Object object) throws Exception {
-        final LanternServer server = this.session.getServer();
-
         ByteBuf buf = (ByteBuf) object;
         buf.markReaderIndex();
 
@@ -173,56 +163,17 @@ public void channelRead(ChannelHandlerContext ctx, Object object) throws Excepti
             // The message was successfully decoded as a legacy one
             legacy = true;
 
-            final MinecraftVersion serverVersion = Lantern.getGame().getPlatform().getMinecraftVersion();
-            Text description = server.getMotd();
-
             final InetSocketAddress address = (InetSocketAddress) ctx.channel().remoteAddress();
             final LanternStatusClient client = new LanternStatusClient(address, clientVersion, virtualAddress);
-            final ClientPingServerEvent.Response.Players players = LanternStatusHelper.createPlayers(server);
-            final LanternStatusResponse response = new LanternStatusResponse(serverVersion, server.getFavicon(), description, players);
-
-            final ClientPingServerEvent event = SpongeEventFactory.createClientPingServerEvent(Cause.source(client).build(), client, response);
-            Sponge.getEventManager().post(event);
+            final LanternStatusCache.Entry entry = this.session.getNetworkManager().getStatusCache().get(client);
 
             // Cancelled, we are done here
-            if (event.isCancelled()) {
+            if (entry == null) {
                 ctx.channel().close();
                 return;
             }
 
-            description = response.getDescription();
-            int online = players.getOnline();
-            final int max = players.getMax();
-
-            // The players should be hidden, this will replace the player count
-            // with ???
-            if (!response.getPlayers().isPresent()) {
-                online = -1;
-            }
-
-            final String data;
-
-            if (full) {
-                final String description0 = getFirstLine(TextSerializers.LEGACY_FORMATTING_CODE.serialize(description));
-                // 1. This value is always 1.
-                // 2. The protocol version, just use a value out of range
-                //    of the available ones.
-                // 3. The version/name string of the server.
-                // 4. The motd of the server. In legacy format.
-                // 5. The online players
-                // 6. The maximum amount of players
-                data = String.format("\u00A7%s\u0000%s\u0000%s\u0000%s\u0000%s\u0000%s",
-                        1, 127, response.getVersion().getName(), description0, online, max);
-            } else {
-                final String description0 = getFirstLine(TextSerializers.PLAIN.serialize(description));
-                // 1. The motd of the server. In legacy format.
-                // 2. The online players
-                // 3. The maximum amount of players
-                data = String.format("%s\u00A7%s\u00A7%s",
-                        description0, online, max);
-            }
-
-            sendDisconnectMessage(ctx, data);
+            sendDisconnectMessage(ctx, entry.getLegacyResponse(full));
         } catch (Exception ignore) {
         } finally {
             if (legacy) {
@@ -242,8 +193,16 @@ public void channelRead(ChannelHandlerContext ctx, Object object) throws Excepti
      * @param message The message
      */
     private static void sendDisconnectMessage(ChannelHandlerContext ctx, String message) {
-        final byte[] data = message.getBytes(StandardCharsets.UTF_16BE);
+        sendDisconnectMessage(ctx, message.getBytes(StandardCharsets.UTF_16BE));
+    }
 
+    /**
+     * Sends a disconnect message to a legacy client and closes the connection.
+     *
+     * @param ctx The channel handler context
+     * @param data The utf-16 (big endian) encoded message
+     */
+    private static void sendDisconnectMessage(ChannelHandlerContext ctx, byte[] data) {
         final ByteBuf output = ctx.alloc().buffer();
         output.writeByte(0xff);
         output.writeShort(data.length >> 1);
@@ -252,9 +211,4 @@ private static void sendDisconnectMessage(ChannelHandlerContext ctx, String mess
         ctx.channel().pipeline().firstContext().writeAndFlush(output).addListener(ChannelFutureListener.CLOSE);
     }
 
-    private static String getFirstLine(String value) {
-        final int i = value.indexOf('\n');
-        return i == -1 ? value : value.substring(0, i);
-    }
-
 }
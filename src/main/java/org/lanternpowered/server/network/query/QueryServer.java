@@ -52,6 +52,7 @@
 import io.netty.channel.EventLoopGroup;
 import org.lanternpowered.server.game.LanternGame;
 import org.lanternpowered.server.network.ServerBase;
+import org.lanternpowered.server.network.TransportType;
 import org.spongepowered.api.scheduler.Task;
 
 import java.net.InetSocketAddress;
@@ -96,11 +97,11 @@ public QueryServer(LanternGame game, boolean showPlugins) {
     }
 
     @Override
-    protected ChannelFuture init0(SocketAddress address, boolean epoll) {
-        this.group = createEventLoopGroup(epoll);
+    protected ChannelFuture init0(SocketAddress address, TransportType transportType) {
+        this.group = createEventLoopGroup(transportType);
         this.bootstrap = new Bootstrap()
                 .group(this.group)
-                .channel(getDatagramChannelClass(epoll))
+                .channel(getDatagramChannelClass(transportType))
                 .handler(new QueryHandler(this, showPlugins));
         if (this.flushTask == null) {
             this.flushTask = this.game.getScheduler().createTaskBuilder().async()
@@ -54,6 +54,7 @@
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import org.lanternpowered.server.network.ServerBase;
+import org.lanternpowered.server.network.TransportType;
 import org.spongepowered.api.service.rcon.RconService;
 
 import java.net.InetSocketAddress;
@@ -80,14 +81,14 @@ public RconServer(String password) {
     }
 
     @Override
-    protected ChannelFuture init0(SocketAddress address, boolean epoll) {
+    protected ChannelFuture init0(SocketAddress address, TransportType transportType) {
         this.address = (InetSocketAddress) address;
         this.bootstrap = new ServerBootstrap();
-        this.bossGroup = createEventLoopGroup(epoll);
-        this.workerGroup = createEventLoopGroup(epoll);
+        this.bossGroup = createEventLoopGroup(transportType);
+        this.workerGroup = createEventLoopGroup(transportType);
         return this.bootstrap
                 .group(this.bossGroup, this.workerGroup)
-                .channel(getServerSocketChannelClass(epoll))
+                .channel(getServerSocketChannelClass(transportType))
                 .childHandler(new ChannelInitializer<SocketChannel>() {
                     @Override
                     public void initChannel(SocketChannel ch) throws Exception {
@@ -0,0 +1,314 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.network.status;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.collect.ImmutableList;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.lanternpowered.server.LanternServer;
+import org.lanternpowered.server.config.GlobalConfig;
+import org.lanternpowered.server.game.Lantern;
+import org.lanternpowered.server.game.version.LanternMinecraftVersion;
+import org.lanternpowered.server.text.gson.LanternJsonTextSerializer;
+import org.spongepowered.api.MinecraftVersion;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.event.SpongeEventFactory;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.server.ClientPingServerEvent;
+import org.spongepowered.api.network.status.Favicon;
+import org.spongepowered.api.profile.GameProfile;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.serializer.TextSerializers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+/**
+ * A cache for the responses that are send to clients that ping the server
+ * through the server list. Server list scanners and bots can ping the server
+ * thousands of times per second, this cache avoids that the response has to be
+ * rebuild and serialized for every one of them.
+ *
+ * <p>A cached {@link Entry} will be refreshed after the configured interval, or
+ * as soon as the amount of online players, the maximum amount of players, the
+ * motd or the favicon of the server changes.</p>
+ */
+public final class LanternStatusCache {
+
+    private static final Gson GSON = new Gson();
+
+    private final LanternServer server;
+
+    /**
+     * The entry that is currently cached.
+     */
+    @Nullable private volatile Entry entry;
+
+    public LanternStatusCache(LanternServer server) {
+        this.server = server;
+    }
+
+    /**
+     * Gets the status response {@link Entry} for the specified {@link LanternStatusClient}.
+     *
+     * <p>A cached entry will be returned if present and still valid, otherwise a new
+     * entry will be created. The {@link ClientPingServerEvent} is only posted when a
+     * new entry is created (a cache miss), and only if this is enabled in the config.
+     * {@code null} will be returned if the event was cancelled, the connection should
+     * be closed in that case.</p>
+     *
+     * @param client The status client
+     * @return The entry, or {@code null} if the event was cancelled
+     */
+    @Nullable
+    public Entry get(LanternStatusClient client) {
+        final GlobalConfig config = this.server.getGame().getGlobalConfig();
+        if (!config.isStatusCacheEnabled()) {
+            return create(client, true);
+        }
+        Entry entry = this.entry;
+        if (entry != null && isValid(entry, config)) {
+            return entry;
+        }
+        entry = create(client, config.shouldPostPingEventOnCacheMiss());
+        if (entry != null) {
+            this.entry = entry;
+        }
+        return entry;
+    }
+
+    /**
+     * Invalidates the cached {@link Entry}, a new one will
+     * be created the next time that the server is pinged.
+     */
+    public void invalidate() {
+        this.entry = null;
+    }
+
+    private boolean isValid(Entry entry, GlobalConfig config) {
+        return System.currentTimeMillis() - entry.creationTime < config.getStatusCacheRefreshInterval() &&
+                entry.onlinePlayers == this.server.getRawOnlinePlayers().size() &&
+                entry.maxPlayers == this.server.getMaxPlayers() &&
+                entry.motd == this.server.getMotd() &&
+                entry.favicon == this.server.getFavicon().orElse(null);
+    }
+
+    @Nullable
+    private Entry create(LanternStatusClient client, boolean postEvent) {
+        final long creationTime = System.currentTimeMillis();
+
+        // Capture the state the entry will be validated against
+        final int onlinePlayers = this.server.getRawOnlinePlayers().size();
+        final int maxPlayers = this.server.getMaxPlayers();
+        final Text motd = this.server.getMotd();
+        final Optional<Favicon> favicon = this.server.getFavicon();
+
+        final ClientPingServerEvent.Response.Players players = LanternStatusHelper.createPlayers(this.server);
+        final LanternStatusResponse response = new LanternStatusResponse(
+                Lantern.getGame().getPlatform().getMinecraftVersion(), favicon, motd, players);
+
+        if (postEvent) {
+            final ClientPingServerEvent event = SpongeEventFactory.createClientPingServerEvent(
+                    Cause.source(client).build(), client, response);
+            Sponge.getEventManager().post(event);
+
+            // Cancelled, don't cache the result
+            if (event.isCancelled()) {
+                return null;
+            }
+        }
+
+        return new Entry(response, creationTime, onlinePlayers, maxPlayers, motd, favicon.orElse(null));
+    }
+
+    /**
+     * Represents a snapshot of a {@link LanternStatusResponse}, the
+     * different serialized forms are lazily created and reused.
+     */
+    public static final class Entry {
+
+        private final long creationTime;
+
+        // The server state that was used to create the entry
+        private final int onlinePlayers;
+        private final int maxPlayers;
+        private final Text motd;
+        @Nullable private final Favicon favicon;
+
+        // The state of the response
+        private final MinecraftVersion version;
+        private final Text description;
+        @Nullable private final Favicon responseFavicon;
+        @Nullable private final List<GameProfile> profiles;
+        private final int online;
+        private final int max;
+
+        @Nullable private volatile byte[] json;
+        @Nullable private volatile byte[] legacy;
+        @Nullable private volatile byte[] legacyFull;
+
+        private Entry(LanternStatusResponse response, long creationTime, int onlinePlayers, int maxPlayers,
+                Text motd, @Nullable Favicon favicon) {
+            this.creationTime = creationTime;
+            this.onlinePlayers = onlinePlayers;
+            this.maxPlayers = maxPlayers;
+            this.motd = motd;
+            this.favicon = favicon;
+            this.version = response.getVersion();
+            this.description = response.getDescription();
+            this.responseFavicon = response.getFavicon().orElse(null);
+            final ClientPingServerEvent.Response.Players players = response.getPlayers().orElse(null);
+            if (players != null) {
+                this.profiles = ImmutableList.copyOf(players.getProfiles());
+                this.online = players.getOnline();
+                this.max = players.getMax();
+            } else {
+                this.profiles = null;
+                // The players should be hidden, this will replace the player count with ???
+                // in legacy clients, the modern clients will also display ???
+                this.online = -1;
+                this.max = maxPlayers;
+            }
+        }
+
+        /**
+         * Gets the utf-8 encoded json response that should be send
+         * to modern clients. The returned array may not be modified.
+         *
+         * @return The encoded json response
+         */
+        public byte[] getJsonResponse() {
+            byte[] json = this.json;
+            if (json == null) {
+                this.json = json = GSON.toJson(createJsonResponse()).getBytes(StandardCharsets.UTF_8);
+            }
+            return json;
+        }
+
+        /**
+         * Gets the utf-16 encoded (big endian) response that should be send
+         * to legacy clients. The returned array may not be modified.
+         *
+         * @param full Whether the full data is requested, which is supported
+         *             by 1.4 and higher clients
+         * @return The encoded legacy response
+         */
+        @SuppressWarnings("deprecation")
+        public byte[] getLegacyResponse(boolean full) {
+            byte[] legacy = full ? this.legacyFull : this.legacy;
+            if (legacy != null) {
+                return legacy;
+            }
+            final String data;
+            if (full) {
+                final String description0 = getFirstLine(TextSerializers.LEGACY_FORMATTING_CODE.serialize(this.description));
+                // 1. This value is always 1.
+                // 2. The protocol version, just use a value out of range
+                //    of the available ones.
+                // 3. The version/name string of the server.
+                // 4. The motd of the server. In legacy format.
+                // 5. The online players
+                // 6. The maximum amount of players
+                data = String.format("\u00A7%s\u0000%s\u0000%s\u0000%s\u0000%s\u0000%s",
+                        1, 127, this.version.getName(), description0, this.online, this.max);
+            } else {
+                final String description0 = getFirstLine(TextSerializers.PLAIN.serialize(this.description));
+                // 1. The motd of the server. In legacy format.
+                // 2. The online players
+                // 3. The maximum amount of players
+                data = String.format("%s\u00A7%s\u00A7%s",
+                        description0, this.online, this.max);
+            }
+            legacy = data.getBytes(StandardCharsets.UTF_16BE);
+            if (full) {
+                this.legacyFull = legacy;
+            } else {
+                this.legacy = legacy;
+            }
+            return legacy;
+        }
+
+        private JsonObject createJsonResponse() {
+            final JsonObject rootObject = new JsonObject();
+            final JsonObject versionObject = new JsonObject();
+
+            checkState(this.version instanceof LanternMinecraftVersion);
+            final LanternMinecraftVersion serverVersion = (LanternMinecraftVersion) this.version;
+            versionObject.addProperty("name", serverVersion.getName());
+            versionObject.addProperty("protocol", serverVersion.getProtocol());
+
+            if (this.profiles != null) {
+                final JsonObject playersObject = new JsonObject();
+                playersObject.addProperty("max", this.max);
+                playersObject.addProperty("online", this.online);
+
+                if (!this.profiles.isEmpty()) {
+                    final JsonArray array = new JsonArray();
+                    for (GameProfile profile : this.profiles) {
+                        final Optional<String> optName = profile.getName();
+                        if (!optName.isPresent()) {
+                            continue;
+                        }
+                        final JsonObject profileObject = new JsonObject();
+                        profileObject.addProperty("name", optName.get());
+                        profileObject.addProperty("id", profile.getUniqueId().toString());
+                        array.add(profileObject);
+                    }
+                    playersObject.add("sample", array);
+                }
+                rootObject.add("players", playersObject);
+            }
+
+            rootObject.add("version", versionObject);
+            rootObject.add("description", ((LanternJsonTextSerializer) TextSerializers.JSON).getGson().toJsonTree(this.description));
+
+            if (this.responseFavicon != null) {
+                rootObject.addProperty("favicon", ((LanternFavicon) this.responseFavicon).getEncoded());
+            }
+
+            final JsonObject fmlObject = new JsonObject();
+            // Trick the client that the server is fml, we support fml channels anyway
+            fmlObject.addProperty("type", "FML");
+            // The client shouldn't know the plugins (mods) list
+            fmlObject.add("modList", new JsonArray());
+
+            // Add the fml info
+            rootObject.add("modinfo", fmlObject);
+            return rootObject;
+        }
+
+        private static String getFirstLine(String value) {
+            final int i = value.indexOf('\n');
+            return i == -1 ? value : value.substring(0, i);
+        }
+    }
+}
@@ -35,6 +35,6 @@ public final class CodecStatusOutResponse implements Codec<MessageStatusOutRespo
 
     @Override
     public ByteBuffer encode(CodecContext context, MessageStatusOutResponse message) throws CodecException {
-        return context.byteBufAlloc().buffer().writeString(message.getResponse());
+        return context.byteBufAlloc().buffer().writeByteArray(message.getEncodedResponse());
     }
 }
@@ -27,14 +27,25 @@
 
 import org.lanternpowered.server.game.Lantern;
 import org.lanternpowered.server.network.NetworkContext;
+import org.lanternpowered.server.network.buffer.ByteBuffer;
+import org.lanternpowered.server.network.message.OrderedAsync;
 import org.lanternpowered.server.network.message.handler.Handler;
 import org.lanternpowered.server.network.vanilla.message.type.play.MessagePlayInOutChannelPayload;
 
+@OrderedAsync
 public final class HandlerPlayInChannelPayload implements Handler<MessagePlayInOutChannelPayload> {
 
     @Override
     public void handle(NetworkContext context, MessagePlayInOutChannelPayload message) {
-        Lantern.getGame().getChannelRegistrar().handlePayload(message.getContent(),
-                message.getChannel(), context.getSession());
+        // The channel listeners are plugin code, dispatch them on the main thread. The
+        // content is copied because the decoded buffer is released after decoding
+        final ByteBuffer content = message.getContent().copy();
+        Lantern.getSyncExecutorService().submit(() -> {
+            try {
+                Lantern.getGame().getChannelRegistrar().handlePayload(content, message.getChannel(), context.getSession());
+            } finally {
+                content.release();
+            }
+        });
     }
 }
@@ -35,6 +35,7 @@
 import org.lanternpowered.server.game.Lantern;
 import org.lanternpowered.server.game.LanternGame;
 import org.lanternpowered.server.network.NetworkContext;
+import org.lanternpowered.server.network.message.OrderedAsync;
 import org.lanternpowered.server.network.message.handler.Handler;
 import org.lanternpowered.server.network.NetworkSession;
 import org.lanternpowered.server.network.vanilla.message.type.play.MessagePlayInChatMessage;
@@ -65,6 +66,7 @@
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+@OrderedAsync
 public final class HandlerPlayInChatMessage implements Handler<MessagePlayInChatMessage> {
 
     private final static AttributeKey<ChatData> CHAT_DATA = AttributeKey.valueOf("chat-data");
@@ -88,7 +90,8 @@ public void handle(NetworkContext context, MessagePlayInChatMessage message) {
             final UUID uniqueId = UUID.fromString(matcher.group(1));
             final Optional<Consumer<CommandSource>> callback = LanternClickActionCallbacks.get().getCallbackForUUID(uniqueId);
             if (callback.isPresent()) {
-                callback.get().accept(player);
+                // Callbacks are plugin code, run them on the main thread
+                Lantern.getSyncExecutorService().submit(() -> callback.get().accept(player));
             } else {
                 player.sendMessage(error(t("The callback you provided was not valid. Keep in mind that callbacks will expire "
                         + "after 10 minutes, so you might want to consider clicking faster next time!")));
@@ -104,15 +107,19 @@ public void handle(NetworkContext context, MessagePlayInChatMessage message) {
         if (message1.startsWith("/")) {
             Lantern.getSyncExecutorService().submit(() -> Sponge.getCommandManager().process(player, message1.substring(1)));
         } else {
-            final Text nameText = player.get(Keys.DISPLAY_NAME).get();
+            // Only parse the message on the worker thread, the player data
+            // is accessed and the event is thrown on the main thread
             final Text rawMessageText = Text.of(message0);
             final Text messageText = newTextWithLinks(message0, true);
-            final MessageChannel channel = player.getMessageChannel();
-            final MessageChannelEvent.Chat event = SpongeEventFactory.createMessageChannelEventChat(Cause.of(NamedCause.source(player)),
-                    channel, Optional.of(channel), new MessageEvent.MessageFormatter(nameText, messageText), rawMessageText, false);
-            if (!Sponge.getEventManager().post(event) && !event.isMessageCancelled()) {
-                event.getChannel().ifPresent(c -> c.send(player, event.getMessage(), ChatTypes.CHAT));
-            }
+            Lantern.getSyncExecutorService().submit(() -> {
+                final Text nameText = player.get(Keys.DISPLAY_NAME).get();
+                final MessageChannel channel = player.getMessageChannel();
+                final MessageChannelEvent.Chat event = SpongeEventFactory.createMessageChannelEventChat(Cause.of(NamedCause.source(player)),
+                        channel, Optional.of(channel), new MessageEvent.MessageFormatter(nameText, messageText), rawMessageText, false);
+                if (!Sponge.getEventManager().post(event) && !event.isMessageCancelled()) {
+                    event.getChannel().ifPresent(c -> c.send(player, event.getMessage(), ChatTypes.CHAT));
+                }
+            });
         }
         final Attribute<ChatData> attr = context.getChannel().attr(CHAT_DATA);
         ChatData chatData = attr.get();
@@ -28,29 +28,39 @@
 import org.lanternpowered.server.data.key.LanternKeys;
 import org.lanternpowered.server.data.type.LanternSkinPart;
 import org.lanternpowered.server.entity.living.player.LanternPlayer;
+import org.lanternpowered.server.game.Lantern;
 import org.lanternpowered.server.network.NetworkContext;
+import org.lanternpowered.server.network.message.OrderedAsync;
 import org.lanternpowered.server.network.message.handler.Handler;
 import org.lanternpowered.server.network.vanilla.message.type.play.MessagePlayInClientSettings;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.data.key.Keys;
+import org.spongepowered.api.data.type.SkinPart;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.event.entity.living.humanoid.player.PlayerChangeClientSettingsEvent;
 
+import java.util.Set;
+
+@OrderedAsync
 public final class HandlerPlayInClientSettings implements Handler<MessagePlayInClientSettings> {
 
     @Override
     public void handle(NetworkContext context, MessagePlayInClientSettings message) {
         final LanternPlayer player = context.getSession().getPlayer();
-        final PlayerChangeClientSettingsEvent event = SpongeEventFactory.createPlayerChangeClientSettingsEvent(
-                Cause.source(player).build(), message.getChatVisibility(), LanternSkinPart.fromBitPattern(message.getSkinPartsBitPattern()),
-                message.getLocale(), player, message.getEnableColors(), message.getViewDistance());
-        Sponge.getEventManager().post(event);
-        player.setLocale(event.getLocale());
-        player.setViewDistance(event.getViewDistance());
-        player.setChatVisibility(event.getChatVisibility());
-        player.setChatColorsEnabled(message.getEnableColors());
-        player.offer(LanternKeys.DISPLAYED_SKIN_PARTS, event.getDisplayedSkinParts());
-        player.offer(Keys.DOMINANT_HAND, message.getDominantHand());
+        final Set<SkinPart> skinParts = LanternSkinPart.fromBitPattern(message.getSkinPartsBitPattern());
+        // The event and the player data may only be touched on the main thread
+        Lantern.getSyncExecutorService().submit(() -> {
+            final PlayerChangeClientSettingsEvent event = SpongeEventFactory.createPlayerChangeClientSettingsEvent(
+                    Cause.source(player).build(), message.getChatVisibility(), skinParts,
+                    message.getLocale(), player, message.getEnableColors(), message.getViewDistance());
+            Sponge.getEventManager().post(event);
+            player.setLocale(event.getLocale());
+            player.setViewDistance(event.getViewDistance());
+            player.setChatVisibility(event.getChatVisibility());
+            player.setChatColorsEnabled(message.getEnableColors());
+            player.offer(LanternKeys.DISPLAYED_SKIN_PARTS, event.getDisplayedSkinParts());
+            player.offer(Keys.DOMINANT_HAND, message.getDominantHand());
+        });
     }
 }
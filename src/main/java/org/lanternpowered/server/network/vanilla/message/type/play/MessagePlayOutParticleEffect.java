@@ -26,10 +26,10 @@
 package org.lanternpowered.server.network.vanilla.message.type.play;
 
 import com.flowpowered.math.vector.Vector3d;
-import org.lanternpowered.server.network.message.Message;
+import org.lanternpowered.server.network.message.DroppableMessage;
 import org.spongepowered.api.effect.particle.ParticleEffect;
 
-public class MessagePlayOutParticleEffect implements Message {
+public class MessagePlayOutParticleEffect implements DroppableMessage {
 
     private final Vector3d position;
     private final ParticleEffect particleEffect;
@@ -28,10 +28,10 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.flowpowered.math.vector.Vector3d;
-import org.lanternpowered.server.network.message.Message;
+import org.lanternpowered.server.network.message.DroppableMessage;
 import org.spongepowered.api.effect.sound.SoundCategory;
 
-public abstract class MessagePlayOutSoundEffectBase<T> implements Message {
+public abstract class MessagePlayOutSoundEffectBase<T> implements DroppableMessage {
 
     private final T type;
     private final Vector3d position;
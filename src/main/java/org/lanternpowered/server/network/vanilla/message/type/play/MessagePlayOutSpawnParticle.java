@@ -26,9 +26,9 @@
 package org.lanternpowered.server.network.vanilla.message.type.play;
 
 import com.flowpowered.math.vector.Vector3f;
-import org.lanternpowered.server.network.message.Message;
+import org.lanternpowered.server.network.message.DroppableMessage;
 
-public final class MessagePlayOutSpawnParticle implements Message {
+public final class MessagePlayOutSpawnParticle implements DroppableMessage {
 
     private final int particleId;
 
@@ -29,9 +29,11 @@
 
 import org.lanternpowered.server.network.message.Message;
 
+import java.nio.charset.StandardCharsets;
+
 public final class MessageStatusOutResponse implements Message {
 
-    private final String response;
+    private final byte[] response;
 
     /**
      * Creates a status response.
@@ -39,6 +41,16 @@ public final class MessageStatusOutResponse implements Message {
      * @param response The json response
      */
     public MessageStatusOutResponse(String response) {
+        this(checkNotNull(response, "response").getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Creates a status response from a utf-8 encoded json response,
+     * the array may not be modified after it is passed.
+     *
+     * @param response The encoded json response
+     */
+    public MessageStatusOutResponse(byte[] response) {
         this.response = checkNotNull(response, "response");
     }
 
@@ -48,6 +60,15 @@ public MessageStatusOutResponse(String response) {
      * @return The json response
      */
     public String getResponse() {
+        return new String(this.response, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gets the utf-8 encoded json response.
+     *
+     * @return The encoded json response
+     */
+    public byte[] getEncodedResponse() {
         return this.response;
     }
 
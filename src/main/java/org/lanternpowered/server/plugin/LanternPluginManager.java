@@ -47,6 +47,7 @@
 import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -99,6 +100,10 @@ public void loadPlugins(boolean scanClasspath) throws IOException {
         this.logger.info("Searching for plugins...");
 
         final PluginScanner pluginScanner = new PluginScanner();
+        // The index avoids scanning all the classes of jars that didn't change
+        final PluginScanIndex scanIndex = new PluginScanIndex(Paths.get(".cache", "plugin-index.json"));
+        scanIndex.load();
+        pluginScanner.setScanIndex(scanIndex);
         if (scanClasspath) {
             Lantern.getLogger().info("Scanning classpath for plugins...");
 
@@ -118,6 +123,8 @@ public void loadPlugins(boolean scanClasspath) throws IOException {
             Files.createDirectories(this.pluginsFolder);
         }
 
+        scanIndex.save();
+
         final Map<String, PluginCandidate> plugins = pluginScanner.getPlugins();
         this.logger.info("{} plugin(s) found", plugins.size());
 
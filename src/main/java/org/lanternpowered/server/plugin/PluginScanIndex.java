@@ -0,0 +1,247 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.plugin;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.Hashing;
+import com.google.common.io.MoreFiles;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.lanternpowered.server.game.Lantern;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * A index of the plugin jars that were scanned before. For every jar are the entries
+ * of the plugin classes stored, this allows unchanged jars to skip the scanning of
+ * all the other classes. A jar is unchanged if the size and modification time match,
+ * or if the content hash matches when the jar was copied or touched.
+ */
+final class PluginScanIndex {
+
+    private static final int VERSION = 1;
+
+    static final class Entry {
+
+        private final long size;
+        private final long lastModified;
+        private final String hash;
+        private final List<String> pluginClasses;
+        private final boolean metadata;
+        private final boolean missingManifest;
+
+        private Entry(long size, long lastModified, String hash, List<String> pluginClasses,
+                boolean metadata, boolean missingManifest) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.hash = hash;
+            this.pluginClasses = pluginClasses;
+            this.metadata = metadata;
+            this.missingManifest = missingManifest;
+        }
+
+        /**
+         * Gets the jar entries of all the plugin classes.
+         *
+         * @return The plugin class entries
+         */
+        List<String> getPluginClasses() {
+            return this.pluginClasses;
+        }
+
+        /**
+         * Gets whether the jar contains a plugin metadata file.
+         *
+         * @return Has metadata
+         */
+        boolean hasMetadata() {
+            return this.metadata;
+        }
+
+        /**
+         * Gets whether the manifest of the jar is missing.
+         *
+         * @return Is missing manifest
+         */
+        boolean isMissingManifest() {
+            return this.missingManifest;
+        }
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // All the jars that were looked up, the other entries are outdated
+    private final Set<String> visited = ConcurrentHashMap.newKeySet();
+    private final Path file;
+    private volatile boolean dirty;
+
+    PluginScanIndex(Path file) {
+        this.file = file;
+    }
+
+    private static String key(Path jar) {
+        return jar.toAbsolutePath().normalize().toString();
+    }
+
+    private static String hash(Path jar) throws IOException {
+        return MoreFiles.asByteSource(jar).hash(Hashing.sha256()).toString();
+    }
+
+    /**
+     * Gets the {@link Entry} for the given jar, if the jar is unchanged.
+     *
+     * @param jar The jar
+     * @return The entry, or {@code null} if the jar should be scanned
+     */
+    @Nullable
+    Entry get(Path jar) {
+        final String key = key(jar);
+        this.visited.add(key);
+        final Entry entry = this.entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        try {
+            final long size = Files.size(jar);
+            final long lastModified = Files.getLastModifiedTime(jar).toMillis();
+            if (entry.size == size && entry.lastModified == lastModified) {
+                return entry;
+            }
+            if (entry.size == size && entry.hash.equals(hash(jar))) {
+                // The content didn't change, only the modification time
+                final Entry newEntry = new Entry(size, lastModified, entry.hash,
+                        entry.pluginClasses, entry.metadata, entry.missingManifest);
+                this.entries.put(key, newEntry);
+                this.dirty = true;
+                return newEntry;
+            }
+        } catch (IOException e) {
+            Lantern.getLogger().debug("Failed to validate the scan index entry of {}", jar, e);
+        }
+        return null;
+    }
+
+    /**
+     * Puts the scan results of the given jar.
+     *
+     * @param jar The jar
+     * @param pluginClasses The jar entries of all the plugin classes
+     * @param metadata Whether the jar contains a plugin metadata file
+     * @param missingManifest Whether the manifest of the jar is missing
+     */
+    void put(Path jar, List<String> pluginClasses, boolean metadata, boolean missingManifest) {
+        final String key = key(jar);
+        this.visited.add(key);
+        try {
+            this.entries.put(key, new Entry(Files.size(jar), Files.getLastModifiedTime(jar).toMillis(),
+                    hash(jar), ImmutableList.copyOf(pluginClasses), metadata, missingManifest));
+            this.dirty = true;
+        } catch (IOException e) {
+            Lantern.getLogger().debug("Failed to index {}", jar, e);
+        }
+    }
+
+    /**
+     * Loads the index from the file.
+     */
+    void load() {
+        if (!Files.exists(this.file)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(this.file, StandardCharsets.UTF_8)) {
+            final JsonObject root = new Gson().fromJson(reader, JsonObject.class);
+            if (root == null || root.get("version").getAsInt() != VERSION) {
+                return;
+            }
+            for (Map.Entry<String, JsonElement> element : root.getAsJsonObject("jars").entrySet()) {
+                final JsonObject obj = element.getValue().getAsJsonObject();
+                final ImmutableList.Builder<String> pluginClasses = ImmutableList.builder();
+                for (JsonElement pluginClass : obj.getAsJsonArray("plugin-classes")) {
+                    pluginClasses.add(pluginClass.getAsString());
+                }
+                this.entries.put(element.getKey(), new Entry(obj.get("size").getAsLong(), obj.get("last-modified").getAsLong(),
+                        obj.get("hash").getAsString(), pluginClasses.build(), obj.get("metadata").getAsBoolean(),
+                        obj.get("missing-manifest").getAsBoolean()));
+            }
+        } catch (Exception e) {
+            Lantern.getLogger().warn("Failed to load the plugin scan index, all the plugins will be scanned.", e);
+            this.entries.clear();
+        }
+    }
+
+    /**
+     * Saves the index to the file, if there were any changes.
+     */
+    void save() {
+        if (this.entries.keySet().retainAll(this.visited)) {
+            this.dirty = true;
+        }
+        if (!this.dirty) {
+            return;
+        }
+        this.dirty = false;
+        final JsonObject jars = new JsonObject();
+        for (Map.Entry<String, Entry> mapEntry : this.entries.entrySet()) {
+            final Entry entry = mapEntry.getValue();
+            final JsonObject obj = new JsonObject();
+            obj.addProperty("size", entry.size);
+            obj.addProperty("last-modified", entry.lastModified);
+            obj.addProperty("hash", entry.hash);
+            final JsonArray pluginClasses = new JsonArray();
+            entry.pluginClasses.forEach(pluginClasses::add);
+            obj.add("plugin-classes", pluginClasses);
+            obj.addProperty("metadata", entry.metadata);
+            obj.addProperty("missing-manifest", entry.missingManifest);
+            jars.add(mapEntry.getKey(), obj);
+        }
+        final JsonObject root = new JsonObject();
+        root.addProperty("version", VERSION);
+        root.add("jars", jars);
+        try {
+            final Path parent = this.file.toAbsolutePath().getParent();
+            if (!Files.exists(parent)) {
+                Files.createDirectories(parent);
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(this.file, StandardCharsets.UTF_8)) {
+                new Gson().toJson(root, writer);
+            }
+        } catch (IOException e) {
+            Lantern.getLogger().warn("Failed to save the plugin scan index.", e);
+        }
+    }
+}
@@ -58,9 +58,11 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
 import java.util.jar.Manifest;
+import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 
 import javax.annotation.Nullable;
@@ -86,13 +88,36 @@ final class PluginScanner {
     private final Set<String> pluginClasses = new HashSet<>();
 
     @Nullable private FileVisitor<Path> classFileVisitor;
+    @Nullable private PluginScanIndex scanIndex;
+
+    /**
+     * The result of scanning a plugin jar.
+     */
+    private static final class JarScanResult {
+
+        private final List<PluginCandidate> candidates = new ArrayList<>();
+        @Nullable private List<PluginMetadata> metadata;
+        private boolean missingManifest;
+        private boolean failed;
+    }
 
     public Map<String, PluginCandidate> getPlugins() {
         return this.plugins;
     }
 
+    /**
+     * Sets the {@link PluginScanIndex} that should be used
+     * to avoid scanning jars that didn't change.
+     *
+     * @param scanIndex The scan index
+     */
+    void setScanIndex(PluginScanIndex scanIndex) {
+        this.scanIndex = scanIndex;
+    }
+
     void scanClassPath(URLClassLoader loader) {
         final Set<URI> sources = new HashSet<>();
+        final List<Path> paths = new ArrayList<>();
 
         for (URL url : loader.getURLs()) {
             if (!url.getProtocol().equals("file")) {
@@ -115,15 +140,23 @@ void scanClassPath(URLClassLoader loader) {
 
             if (sources.add(source)) {
                 final Path path = Paths.get(source);
-                if (Files.exists(path)) {
-                    if (Files.isDirectory(path)) {
-                        scanClasspathDirectory(path);
-                    } else if (JAR_FILE.matches(path)) {
-                        scanJar(path, true);
-                    }
+                if (Files.exists(path) && (Files.isDirectory(path) || JAR_FILE.matches(path))) {
+                    paths.add(path);
                 }
             }
         }
+
+        final Map<Path, JarScanResult> results = scanJars(paths.stream()
+                .filter(path -> !Files.isDirectory(path))
+                .collect(Collectors.toList()), true);
+        // Add the candidates in the order of the class path
+        for (Path path : paths) {
+            if (Files.isDirectory(path)) {
+                scanClasspathDirectory(path);
+            } else {
+                addJarCandidates(path, results.get(path), true);
+            }
+        }
     }
 
     private void scanClasspathDirectory(Path dir) {
@@ -163,26 +196,53 @@ public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
     }
 
     void scanDirectory(Path path) {
+        final List<Path> jars = new ArrayList<>();
         try (DirectoryStream<Path> dir = Files.newDirectoryStream(path, JAR_FILTER)) {
             for (Path jar : dir) {
-                scanJar(jar, false);
+                jars.add(jar);
             }
         } catch (IOException e) {
             logger.error("Failed to search for plugins in {}", path, e);
         }
+        final Map<Path, JarScanResult> results = scanJars(jars, false);
+        for (Path jar : jars) {
+            addJarCandidates(jar, results.get(jar), false);
+        }
+    }
+
+    /**
+     * Scans all the given jars in parallel.
+     *
+     * @param jars The jars
+     * @param classpath Whether the jars are on the class path
+     * @return The scan results
+     */
+    private Map<Path, JarScanResult> scanJars(List<Path> jars, boolean classpath) {
+        return jars.parallelStream().collect(Collectors.toMap(Function.identity(), jar -> scanJar(jar, classpath)));
     }
 
-    private void scanJar(Path path, boolean classpath) {
+    private JarScanResult scanJar(Path path, boolean classpath) {
+        if (this.scanIndex != null) {
+            final PluginScanIndex.Entry entry = this.scanIndex.get(path);
+            if (entry != null) {
+                final JarScanResult result = scanIndexedJar(path, entry);
+                if (result != null) {
+                    return result;
+                }
+            }
+        }
+
         logger.trace("Scanning {} for plugins", path);
 
-        final List<PluginCandidate> candidates = new ArrayList<>();
-        List<PluginMetadata> metadata = null;
+        final JarScanResult result = new JarScanResult();
+        final List<String> pluginClasses = new ArrayList<>();
 
         // Open the zip file so we can scan it for plugins
         try (JarInputStream jar = new JarInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
             ZipEntry entry = jar.getNextEntry();
             if (entry == null) {
-                return;
+                result.failed = true;
+                return result;
             }
 
             Manifest manifest = jar.getManifest();
@@ -194,9 +254,7 @@ private void scanJar(Path path, boolean classpath) {
                 }
             }
 
-            if (manifest == null && !classpath) {
-                logger.warn("Missing JAR manifest in {}", path); // TODO
-            }
+            result.missingManifest = manifest == null;
 
             do {
                 if (entry.isDirectory()) {
@@ -207,10 +265,11 @@ private void scanJar(Path path, boolean classpath) {
                 if (!name.endsWith(CLASS_EXTENSION)) {
                     if (name.equals(METADATA_FILE)) {
                         try {
-                            metadata = McModInfo.DEFAULT.read(jar);
+                            result.metadata = McModInfo.DEFAULT.read(jar);
                         } catch (IOException e) {
                             logger.error("Failed to read plugin metadata from " + METADATA_FILE + " in {}", path, e);
-                            return;
+                            result.failed = true;
+                            return result;
                         }
                     }
                     continue;
@@ -218,14 +277,77 @@ private void scanJar(Path path, boolean classpath) {
 
                 final PluginCandidate candidate = scanClassFile(jar, path);
                 if (candidate != null) {
-                    candidates.add(candidate);
+                    result.candidates.add(candidate);
+                    pluginClasses.add(name);
                 }
             } while ((entry = jar.getNextEntry()) != null);
         } catch (IOException e) {
             logger.error("Failed to scan plugin JAR: {}", path, e);
+            result.failed = true;
+            return result;
+        }
+
+        if (this.scanIndex != null) {
+            this.scanIndex.put(path, pluginClasses, result.metadata != null, result.missingManifest);
+        }
+        return result;
+    }
+
+    /**
+     * Scans a jar that is present in the {@link PluginScanIndex}, only
+     * the plugin classes and the metadata file will be read.
+     *
+     * @param path The path of the jar
+     * @param entry The scan index entry
+     * @return The scan result, or {@code null} if the jar should be scanned again
+     */
+    @Nullable
+    private JarScanResult scanIndexedJar(Path path, PluginScanIndex.Entry entry) {
+        logger.trace("Scanning the indexed plugin classes of {}", path);
+
+        final JarScanResult result = new JarScanResult();
+        result.missingManifest = entry.isMissingManifest();
+
+        try (JarFile jarFile = new JarFile(path.toFile())) {
+            for (String name : entry.getPluginClasses()) {
+                final ZipEntry zipEntry = jarFile.getEntry(name);
+                if (zipEntry == null) {
+                    return null;
+                }
+                try (InputStream is = jarFile.getInputStream(zipEntry)) {
+                    final PluginCandidate candidate = scanClassFile(is, path);
+                    if (candidate != null) {
+                        result.candidates.add(candidate);
+                    }
+                }
+            }
+            if (entry.hasMetadata()) {
+                final ZipEntry zipEntry = jarFile.getEntry(METADATA_FILE);
+                if (zipEntry == null) {
+                    return null;
+                }
+                try (InputStream is = jarFile.getInputStream(zipEntry)) {
+                    result.metadata = McModInfo.DEFAULT.read(is);
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Failed to scan the indexed plugin classes of {}", path, e);
+            return null;
+        }
+        return result;
+    }
+
+    private void addJarCandidates(Path path, JarScanResult result, boolean classpath) {
+        if (result.failed) {
             return;
         }
 
+        if (result.missingManifest && !classpath) {
+            logger.warn("Missing JAR manifest in {}", path); // TODO
+        }
+
+        final List<PluginCandidate> candidates = result.candidates;
+        final List<PluginMetadata> metadata = result.metadata;
         if (!candidates.isEmpty()) {
             boolean success = false;
 
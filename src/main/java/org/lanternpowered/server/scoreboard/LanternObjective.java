@@ -31,7 +31,6 @@
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 import org.lanternpowered.server.network.message.Message;
-import org.lanternpowered.server.network.vanilla.message.type.play.MessagePlayOutScoreboardObjective;
 import org.lanternpowered.server.network.vanilla.message.type.play.MessagePlayOutScoreboardScore;
 import org.lanternpowered.server.text.LanternTexts;
 import org.spongepowered.api.scoreboard.Score;
@@ -102,12 +101,8 @@ public void setDisplayName(Text displayName) throws IllegalArgumentException {
     }
 
     private void sendObjectiveUpdate() {
-        if (!this.scoreboards.isEmpty()) {
-            final List<Message> message = Collections.singletonList(new MessagePlayOutScoreboardObjective.Update(
-                    this.name, this.legacyDisplayName, this.displayMode));
-            for (Scoreboard scoreboard : this.scoreboards) {
-                ((LanternScoreboard) scoreboard).sendToPlayers(() -> message);
-            }
+        for (Scoreboard scoreboard : this.scoreboards) {
+            ((LanternScoreboard) scoreboard).queueObjectiveUpdate(this);
         }
     }
 
@@ -152,12 +147,8 @@ public void addScore(Score score) throws IllegalArgumentException {
     }
 
     private void sendScoreToClient(Score score) {
-        if (!this.scoreboards.isEmpty()) {
-            List<Message> message = Collections.singletonList(new MessagePlayOutScoreboardScore.CreateOrUpdate(this.getName(),
-                    LanternTexts.toLegacy(score.getName()), score.getScore()));
-            for (Scoreboard scoreboard : this.scoreboards) {
-                ((LanternScoreboard) scoreboard).sendToPlayers(() -> message);
-            }
+        for (Scoreboard scoreboard : this.scoreboards) {
+            ((LanternScoreboard) scoreboard).queueScoreUpdate(this, (LanternScore) score);
         }
     }
 
@@ -182,11 +173,14 @@ public boolean removeScore(Score score) {
     }
 
     private void updateClientAfterRemove(Score score) {
-        final Map<Objective, Message> messages = new HashMap<>();
-        for (Scoreboard scoreboard : this.scoreboards) {
-            ((LanternScoreboard) scoreboard).sendToPlayers(() -> Collections.singletonList(
-                    messages.computeIfAbsent(this, obj -> new MessagePlayOutScoreboardScore.Remove(
-                            this.getName(), ((LanternScore) score).getLegacyName()))));
+        if (!this.scoreboards.isEmpty()) {
+            final List<Message> message = Collections.singletonList(new MessagePlayOutScoreboardScore.Remove(
+                    this.getName(), ((LanternScore) score).getLegacyName()));
+            for (Scoreboard scoreboard : this.scoreboards) {
+                // A pending update would otherwise revive the removed score
+                ((LanternScoreboard) scoreboard).cancelScoreUpdate(this, (LanternScore) score);
+                ((LanternScoreboard) scoreboard).sendToPlayers(() -> message);
+            }
         }
     }
 
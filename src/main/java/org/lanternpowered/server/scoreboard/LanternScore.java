@@ -25,21 +25,14 @@
  */
 package org.lanternpowered.server.scoreboard;
 
-import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Multimap;
-import org.lanternpowered.server.network.message.Message;
-import org.lanternpowered.server.network.vanilla.message.type.play.MessagePlayOutScoreboardScore;
 import org.lanternpowered.server.text.LanternTexts;
 import org.spongepowered.api.scoreboard.Score;
 import org.spongepowered.api.scoreboard.Scoreboard;
 import org.spongepowered.api.scoreboard.objective.Objective;
 import org.spongepowered.api.text.Text;
 
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
 
 public final class LanternScore implements Score {
@@ -74,18 +67,9 @@ public void setScore(int score) {
             return;
         }
         this.score = score;
-        final Multimap<Scoreboard, Objective> scoreboards = HashMultimap.create();
         for (Objective objective : this.objectives) {
             for (Scoreboard scoreboard : ((LanternObjective) objective).scoreboards) {
-                scoreboards.put(scoreboard, objective);
-            }
-        }
-        if (!scoreboards.isEmpty()) {
-            final Map<Objective, Message> messages = new HashMap<>();
-            for (Map.Entry<Scoreboard, Objective> entry : scoreboards.entries()) {
-                ((LanternScoreboard) entry.getKey()).sendToPlayers(() -> Collections.singletonList(
-                        messages.computeIfAbsent(entry.getValue(), obj -> new MessagePlayOutScoreboardScore.CreateOrUpdate(
-                                obj.getName(), this.legacyName, score))));
+                ((LanternScoreboard) scoreboard).queueScoreUpdate((LanternObjective) objective, this);
             }
         }
     }
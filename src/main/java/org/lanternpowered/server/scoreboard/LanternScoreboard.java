@@ -53,22 +53,49 @@
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
 
 public class LanternScoreboard implements Scoreboard {
 
+    /**
+     * All the {@link LanternScoreboard}s that have queued changes.
+     */
+    private static final Set<LanternScoreboard> dirtyScoreboards = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Flushes the queued changes of all the {@link LanternScoreboard}s,
+     * this should be called once every tick.
+     */
+    public static void pulseAll() {
+        final Iterator<LanternScoreboard> it = dirtyScoreboards.iterator();
+        while (it.hasNext()) {
+            final LanternScoreboard scoreboard = it.next();
+            it.remove();
+            scoreboard.flushQueuedUpdates();
+        }
+    }
+
     private final Set<LanternPlayer> players = new HashSet<>();
     private final Map<String, Objective> objectives = new HashMap<>();
     private final Multimap<Criterion, Objective> objectivesByCriterion = HashMultimap.create();
     private final Map<DisplaySlot, Objective> objectivesInSlot = new HashMap<>();
     private final Map<String, Team> teams = new HashMap<>();
 
+    // Changes that only update the current state on the client are queued and
+    // flushed once per tick, only the last state of every entry will be sent
+    private final Set<LanternObjective> dirtyObjectives = new LinkedHashSet<>();
+    private final Map<LanternObjective, Set<LanternScore>> dirtyScores = new LinkedHashMap<>();
+    private final Set<LanternTeam> dirtyTeams = new LinkedHashSet<>();
+
     void sendToPlayers(Supplier<List<Message>> messageSupplier) {
         if (!this.players.isEmpty()) {
             final List<Message> messages = messageSupplier.get();
@@ -76,6 +103,68 @@ void sendToPlayers(Supplier<List<Message>> messageSupplier) {
         }
     }
 
+    void queueObjectiveUpdate(LanternObjective objective) {
+        if (!this.players.isEmpty()) {
+            this.dirtyObjectives.add(objective);
+            dirtyScoreboards.add(this);
+        }
+    }
+
+    void queueScoreUpdate(LanternObjective objective, LanternScore score) {
+        if (!this.players.isEmpty()) {
+            this.dirtyScores.computeIfAbsent(objective, objective1 -> new LinkedHashSet<>()).add(score);
+            dirtyScoreboards.add(this);
+        }
+    }
+
+    void queueTeamUpdate(LanternTeam team) {
+        if (!this.players.isEmpty()) {
+            this.dirtyTeams.add(team);
+            dirtyScoreboards.add(this);
+        }
+    }
+
+    void cancelScoreUpdate(LanternObjective objective, LanternScore score) {
+        final Set<LanternScore> scores = this.dirtyScores.get(objective);
+        if (scores != null) {
+            scores.remove(score);
+        }
+    }
+
+    void cancelTeamUpdate(LanternTeam team) {
+        this.dirtyTeams.remove(team);
+    }
+
+    private void cancelObjectiveUpdates(LanternObjective objective) {
+        this.dirtyObjectives.remove(objective);
+        this.dirtyScores.remove(objective);
+    }
+
+    private void flushQueuedUpdates() {
+        final List<Message> messages = new ArrayList<>();
+        for (LanternObjective objective : this.dirtyObjectives) {
+            messages.add(new MessagePlayOutScoreboardObjective.Update(
+                    objective.getName(), objective.getLegacyDisplayName(), objective.getDisplayMode()));
+        }
+        for (Map.Entry<LanternObjective, Set<LanternScore>> entry : this.dirtyScores.entrySet()) {
+            final String objectiveName = entry.getKey().getName();
+            for (LanternScore score : entry.getValue()) {
+                messages.add(new MessagePlayOutScoreboardScore.CreateOrUpdate(
+                        objectiveName, score.getLegacyName(), score.getScore()));
+            }
+        }
+        for (LanternTeam team : this.dirtyTeams) {
+            messages.add(team.toCreateOrUpdateMessage(false));
+        }
+        this.dirtyObjectives.clear();
+        this.dirtyScores.clear();
+        this.dirtyTeams.clear();
+        // All the viewers share the same message instances
+        if (!messages.isEmpty()) {
+            this.sendToPlayers(() -> messages);
+        }
+    }
+
     public void removePlayer(LanternPlayer player) {
         this.players.remove(player);
         for (Objective objective : this.objectives.values()) {
@@ -171,6 +260,7 @@ public Set<Objective> getObjectives() {
     public void removeObjective(Objective objective) {
         if (this.objectives.remove(checkNotNull(objective, "objective").getName(), objective)) {
             ((LanternObjective) objective).removeScoreboard(this);
+            this.cancelObjectiveUpdates((LanternObjective) objective);
             this.objectivesByCriterion.remove(objective.getCriterion(), objective);
             final Iterator<Map.Entry<DisplaySlot, Objective>> it = this.objectivesInSlot.entrySet().iterator();
             while (it.hasNext()) {
@@ -102,7 +102,7 @@ MessagePlayOutTeams.CreateOrUpdate toCreateOrUpdateMessage(boolean create) {
 
     private void sendUpdate() {
         if (this.scoreboard != null) {
-            this.scoreboard.sendToPlayers(() -> Collections.singletonList(this.toCreateOrUpdateMessage(false)));
+            this.scoreboard.queueTeamUpdate(this);
         }
     }
 
@@ -336,6 +336,7 @@ public boolean unregister() {
             return false;
         }
         this.scoreboard.removeTeam(this);
+        this.scoreboard.cancelTeamUpdate(this);
         this.scoreboard.sendToPlayers(() -> Collections.singletonList(new MessagePlayOutTeams.Remove(this.name)));
         this.scoreboard = null;
         return true;
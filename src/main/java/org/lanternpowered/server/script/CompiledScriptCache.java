@@ -0,0 +1,249 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.script;
+
+import com.google.common.hash.Hashing;
+import groovy.lang.GroovyClassLoader;
+import groovy.lang.GroovySystem;
+import org.codehaus.groovy.control.CompilationFailedException;
+import org.codehaus.groovy.control.CompilationUnit;
+import org.codehaus.groovy.control.Phases;
+import org.codehaus.groovy.tools.GroovyClass;
+import org.lanternpowered.server.game.Lantern;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * A cache for compiled script classes. The classes are cached in memory and the byte
+ * code is stored on the disk, both are keyed by a hash of the class name and the
+ * transformed script source. The function interface is part of the transformed
+ * source, so it's included in the key.
+ */
+final class CompiledScriptCache {
+
+    private static final String FINGERPRINT_FILE = "fingerprint";
+
+    private final Map<String, Class<?>> classes = new ConcurrentHashMap<>();
+    private final SharedClassLoader classLoader = new SharedClassLoader();
+    @Nullable private final Path directory;
+
+    CompiledScriptCache(@Nullable Path directory) {
+        this.directory = directory == null ? null : setupDirectory(directory);
+    }
+
+    /**
+     * Gets the {@link GroovyClassLoader} that is shared by all the scripts, every
+     * compiled script class can be resolved by name through this class loader.
+     *
+     * @return The class loader
+     */
+    GroovyClassLoader getClassLoader() {
+        return this.classLoader;
+    }
+
+    /**
+     * Gets the compiled class for the given class name and script source.
+     *
+     * @param className The class name
+     * @param code The transformed script source
+     * @return The compiled class
+     * @throws CompilationFailedException If the compilation failed
+     */
+    Class<?> get(String className, String code) throws CompilationFailedException {
+        final String hash = Hashing.sha256().newHasher()
+                .putString(className, StandardCharsets.UTF_8)
+                .putChar('\n')
+                .putString(code, StandardCharsets.UTF_8)
+                .hash().toString();
+        return this.classes.computeIfAbsent(hash, hash0 -> load(hash0, className, code));
+    }
+
+    private Class<?> load(String hash, String className, String code) {
+        Map<String, byte[]> byteCode = read(hash);
+        if (byteCode == null) {
+            byteCode = compile(className, code);
+            write(hash, byteCode);
+        }
+        // Every script gets its own class loader, just like GroovyClassLoader#parseClass
+        final ScriptClassLoader scriptClassLoader = new ScriptClassLoader(this.classLoader, byteCode);
+        try {
+            // Register all the classes in the shared class loader, other scripts
+            // reference them by name (see ReferencedScriptTransformer)
+            for (String name : byteCode.keySet()) {
+                this.classLoader.register(scriptClassLoader.loadClass(name));
+            }
+            return scriptClassLoader.loadClass(className);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("The compiled script is missing the class: " + className, e);
+        }
+    }
+
+    private Map<String, byte[]> compile(String className, String code) {
+        final CompilationUnit compilationUnit = new CompilationUnit(null, null, this.classLoader);
+        compilationUnit.addSource(className, code);
+        compilationUnit.compile(Phases.CLASS_GENERATION);
+        final Map<String, byte[]> byteCode = new HashMap<>();
+        for (Object object : compilationUnit.getClasses()) {
+            final GroovyClass groovyClass = (GroovyClass) object;
+            byteCode.put(groovyClass.getName(), groovyClass.getBytes());
+        }
+        return byteCode;
+    }
+
+    @Nullable
+    private Map<String, byte[]> read(String hash) {
+        if (this.directory == null) {
+            return null;
+        }
+        final Path file = this.directory.resolve(hash);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try (DataInputStream dis = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            final int size = dis.readInt();
+            final Map<String, byte[]> byteCode = new HashMap<>(size);
+            for (int i = 0; i < size; i++) {
+                final String name = dis.readUTF();
+                final byte[] bytes = new byte[dis.readInt()];
+                dis.readFully(bytes);
+                byteCode.put(name, bytes);
+            }
+            return byteCode;
+        } catch (IOException e) {
+            Lantern.getLogger().debug("Failed to read the compiled script {}", hash, e);
+            return null;
+        }
+    }
+
+    private void write(String hash, Map<String, byte[]> byteCode) {
+        if (this.directory == null) {
+            return;
+        }
+        try (DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(this.directory.resolve(hash))))) {
+            dos.writeInt(byteCode.size());
+            for (Map.Entry<String, byte[]> entry : byteCode.entrySet()) {
+                dos.writeUTF(entry.getKey());
+                dos.writeInt(entry.getValue().length);
+                dos.write(entry.getValue());
+            }
+        } catch (IOException e) {
+            Lantern.getLogger().debug("Failed to write the compiled script {}", hash, e);
+        }
+    }
+
+    /**
+     * Prepares the cache directory, all the cached classes will be removed if they were compiled
+     * by a different groovy version or server jar. The disk cache is disabled if the server
+     * isn't running from a jar, the classes could change without being detected.
+     *
+     * @param directory The directory
+     * @return The directory, or {@code null} if the disk cache is disabled
+     */
+    @Nullable
+    private static Path setupDirectory(Path directory) {
+        final CodeSource source = CompiledScriptCache.class.getProtectionDomain().getCodeSource();
+        try {
+            final Path jar = source == null ? null : Paths.get(source.getLocation().toURI());
+            if (jar == null || !Files.isRegularFile(jar)) {
+                return null;
+            }
+            final String fingerprint = GroovySystem.getVersion() + ':' + jar.toAbsolutePath() + ':' +
+                    Files.size(jar) + ':' + Files.getLastModifiedTime(jar).toMillis();
+            final Path fingerprintFile = directory.resolve(FINGERPRINT_FILE);
+            if (Files.exists(fingerprintFile) &&
+                    new String(Files.readAllBytes(fingerprintFile), StandardCharsets.UTF_8).equals(fingerprint)) {
+                return directory;
+            }
+            if (Files.exists(directory)) {
+                try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+                    for (Path file : stream) {
+                        Files.delete(file);
+                    }
+                }
+            } else {
+                Files.createDirectories(directory);
+            }
+            Files.write(fingerprintFile, fingerprint.getBytes(StandardCharsets.UTF_8));
+            return directory;
+        } catch (Exception e) {
+            Lantern.getLogger().warn("Failed to setup the compiled script cache, scripts won't be cached on the disk.", e);
+            return null;
+        }
+    }
+
+    /**
+     * The class loader that is shared by all the scripts.
+     */
+    private static final class SharedClassLoader extends GroovyClassLoader {
+
+        private void register(Class<?> theClass) {
+            setClassCacheEntry(theClass);
+        }
+    }
+
+    /**
+     * A class loader that defines the classes of a compiled script when they are requested.
+     */
+    private static final class ScriptClassLoader extends GroovyClassLoader.InnerLoader {
+
+        private final Map<String, byte[]> byteCode;
+
+        private ScriptClassLoader(GroovyClassLoader delegate, Map<String, byte[]> byteCode) {
+            super(delegate);
+            this.byteCode = byteCode;
+        }
+
+        @Override
+        public synchronized Class loadClass(String name, boolean lookupScriptFiles, boolean preferClassOverScript, boolean resolve)
+                throws ClassNotFoundException, CompilationFailedException {
+            final Class<?> loadedClass = findLoadedClass(name);
+            if (loadedClass != null) {
+                return loadedClass;
+            }
+            final byte[] bytes = this.byteCode.get(name);
+            if (bytes != null) {
+                return defineClass(name, bytes);
+            }
+            return super.loadClass(name, lookupScriptFiles, preferClassOverScript, resolve);
+        }
+    }
+}
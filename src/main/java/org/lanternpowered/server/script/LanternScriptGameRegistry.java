@@ -31,9 +31,9 @@
 import com.google.common.base.Joiner;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.Hashing;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import groovy.lang.GroovyClassLoader;
 import org.codehaus.groovy.control.CompilationFailedException;
 import org.lanternpowered.api.script.Script;
 import org.lanternpowered.api.script.ScriptGameRegistry;
@@ -62,11 +62,12 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
-import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nullable;
@@ -93,7 +94,7 @@ public static LanternScriptGameRegistry get() {
     );
     private final Map<String, LanternScript<Object>> assetScripts = new ConcurrentHashMap<>();
     private final Map<String, LanternScript<Object>> functionAssetScripts = new ConcurrentHashMap<>();
-    private final GroovyClassLoader classLoader;
+    private final CompiledScriptCache compiledScriptCache;
     private final Map<Class<?>, Class<?>> constructorClasses = ImmutableMap.<Class<?>, Class<?>>builder()
             .put(ScriptObjectTypes.WEATHER, WeatherBuilder.class)
             .build();
@@ -103,7 +104,7 @@ public static LanternScriptGameRegistry get() {
             .create();
 
     private LanternScriptGameRegistry() {
-        this.classLoader = new GroovyClassLoader();
+        this.compiledScriptCache = new CompiledScriptCache(Paths.get(".cache", "scripts"));
     }
 
     /**
@@ -230,8 +231,7 @@ private <F> LanternScript<F> compileScript(String code,
         transformedScript.getDependencies().forEach(this::compile0);
         final Class<?> theClass;
         try {
-            theClass = this.classLoader.parseClass(transformedScript.getCode(),
-                    transformedScript.getClassName());
+            theClass = this.compiledScriptCache.get(transformedScript.getClassName(), transformedScript.getCode());
         } catch (CompilationFailedException e) {
             throw new IllegalArgumentException("Failed to compile the script source.\nOriginal code:\n``\n" + code +
                     "\n``\nTransformed code:\n``\n" + transformedScript.getCode() + "\n``", e);
@@ -264,8 +264,14 @@ private TransformedScript transformScript(String code, @Nullable ScriptFunctionM
         if (asset != null) {
             className = TransformerUtil.generateClassNameFromAssetPath(asset);
         } else {
+            // The same source and function should result in the same class, this allows it to be cached
             final String name = LanternScript.class.getName();
-            className = name.substring(0, name.lastIndexOf('.')) + ".gen.UnknownScript" + UUID.randomUUID().toString().replace("-", "");
+            final String hash = Hashing.sha256().newHasher()
+                    .putString(code, StandardCharsets.UTF_8)
+                    .putChar('\n')
+                    .putString(functionMethod == null ? "" : functionMethod.getFunctionClass().getName(), StandardCharsets.UTF_8)
+                    .hash().toString();
+            className = name.substring(0, name.lastIndexOf('.')) + ".gen.UnknownScript" + hash.substring(0, 32);
         }
         final ScriptTransformerContext context = new ScriptTransformerContext(className, code, functionMethod, asset);
         try {
@@ -35,6 +35,7 @@
 import static org.objectweb.asm.Opcodes.DRETURN;
 import static org.objectweb.asm.Opcodes.FRETURN;
 import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.ILOAD;
 import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
 import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
@@ -131,7 +132,7 @@ private Class<? extends ScriptFunction> generateScriptFunctionClass(ScriptFuncti
         MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "(" + Type.getDescriptor(LanternScript.class) + ")V", null, null);
         mv.visitCode();
         mv.visitVarInsn(ALOAD, 0);
-        mv.visitMethodInsn(INVOKESPECIAL, Type.getInternalName(Object.class), "<init>", "()V", false);
+        mv.visitMethodInsn(INVOKESPECIAL, superClass, "<init>", "()V", false);
         mv.visitVarInsn(ALOAD, 0);
         mv.visitVarInsn(ALOAD, 1);
         mv.visitFieldInsn(PUTFIELD, internalName, "script", Type.getDescriptor(LanternScript.class));
@@ -160,14 +161,16 @@ private Class<? extends ScriptFunction> generateScriptFunctionClass(ScriptFuncti
         mv.visitFieldInsn(GETFIELD, internalName, "script", Type.getDescriptor(LanternScript.class));
         mv.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(LanternScript.class), "getRaw", "()" + Type.getDescriptor(Object.class), false);
         mv.visitTypeInsn(CHECKCAST, Type.getInternalName(functionClass));
-        // Load all the method parameters to pass them through the delegated method
-        for (int i = 1; i <= method.getParameterTypes().length; i++) {
-            mv.visitVarInsn(ALOAD, i);
+        // Load all the method parameters to pass them through the delegated method,
+        // primitives need their own load instructions and longs and doubles use two slots
+        int index = 1;
+        for (Type parameterType : Type.getArgumentTypes(method)) {
+            mv.visitVarInsn(parameterType.getOpcode(ILOAD), index);
+            index += parameterType.getSize();
         }
         mv.visitMethodInsn(getInvokeMethodInsnOpcode(method), Type.getInternalName(method.getDeclaringClass()), method.getName(),
-                Type.getMethodDescriptor(method), true);
-        final Class<?> returnType = method.getReturnType();
-        mv.visitInsn(getReturnInsnOpcode(returnType));
+                Type.getMethodDescriptor(method), method.getDeclaringClass().isInterface());
+        mv.visitInsn(getReturnInsnOpcode(method.getReturnType()));
         mv.visitMaxs(0, 0);
         mv.visitEnd();
 
@@ -115,18 +115,30 @@ public MemorySubjectData getSubjectData() {
     @Override
     public Tristate getPermissionValue(Set<Context> contexts, String permission) {
         Tristate ret = super.getPermissionValue(contexts, permission);
+        if (ret == Tristate.UNDEFINED && this.getOpLevel() >= Lantern.getGame().getGlobalConfig().getDefaultOpPermissionLevel()) {
+            ret = Tristate.TRUE;
+        }
+        return ret;
+    }
+
+    @Override
+    protected Tristate resolvePermissionValue(String permission) {
+        Tristate ret = super.resolvePermissionValue(permission);
         if (ret == Tristate.UNDEFINED) {
             ret = this.getDataPermissionValue(this.collection.getDefaults().getSubjectData(), permission);
         }
         if (ret == Tristate.UNDEFINED) {
             ret = this.getDataPermissionValue(this.collection.getService().getDefaults().getSubjectData(), permission);
         }
-        if (ret == Tristate.UNDEFINED && this.getOpLevel() >= Lantern.getGame().getGlobalConfig().getDefaultOpPermissionLevel()) {
-            ret = Tristate.TRUE;
-        }
         return ret;
     }
 
+    @Override
+    protected int getPermissionCacheState() {
+        // The parent is derived from the op level, which is stored in the ops config
+        return this.getOpLevel();
+    }
+
     @Override
     public Optional<String> getOption(Set<Context> contexts, String option) {
         Optional<String> ret = super.getOption(contexts, option);
@@ -57,7 +57,7 @@ public boolean setPermission(Set<Context> contexts, String permission, Tristate
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.setPermission(contexts, permission, value);
+        return invalidateIfChanged(super.setPermission(contexts, permission, value));
     }
 
     @Override
@@ -65,7 +65,7 @@ public boolean clearPermissions(Set<Context> contexts) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.clearPermissions(contexts);
+        return invalidateIfChanged(super.clearPermissions(contexts));
     }
 
     @Override
@@ -73,7 +73,7 @@ public boolean addParent(Set<Context> contexts, Subject parent) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.addParent(contexts, parent);
+        return invalidateIfChanged(super.addParent(contexts, parent));
     }
 
     @Override
@@ -81,7 +81,7 @@ public boolean removeParent(Set<Context> contexts, Subject parent) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.removeParent(contexts, parent);
+        return invalidateIfChanged(super.removeParent(contexts, parent));
     }
 
     @Override
@@ -89,6 +89,23 @@ public boolean clearParents(Set<Context> contexts) {
         if (!GLOBAL_CONTEXT.equals(contexts)) {
             return false;
         }
-        return super.clearParents(contexts);
+        return invalidateIfChanged(super.clearParents(contexts));
+    }
+
+    @Override
+    public boolean clearPermissions() {
+        return invalidateIfChanged(super.clearPermissions());
+    }
+
+    @Override
+    public boolean clearParents() {
+        return invalidateIfChanged(super.clearParents());
+    }
+
+    static boolean invalidateIfChanged(boolean changed) {
+        if (changed) {
+            LanternSubject.invalidatePermissionCaches();
+        }
+        return changed;
     }
 }
@@ -32,11 +32,31 @@
 import org.spongepowered.api.util.Tristate;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
 
 public abstract class LanternSubject implements Subject {
 
+    /**
+     * The version of all the permission data, this will be incremented
+     * every time that the permissions or parents of a subject change.
+     */
+    private static final AtomicLong permissionsVersion = new AtomicLong();
+
+    /**
+     * Invalidates the resolved permissions of all the {@link LanternSubject}s.
+     */
+    public static void invalidatePermissionCaches() {
+        permissionsVersion.incrementAndGet();
+    }
+
+    @Nullable private volatile PermissionCache permissionCache;
+
     @Override
     public MemorySubjectData getTransientSubjectData() {
         return this.getSubjectData();
@@ -52,9 +72,42 @@ public boolean hasPermission(Set<Context> contexts, String permission) {
 
     @Override
     public Tristate getPermissionValue(Set<Context> contexts, String permission) {
+        // Only global contexts are supported, so the contexts don't need to be part of the key
+        final long version = permissionsVersion.get();
+        final int state = this.getPermissionCacheState();
+        PermissionCache cache = this.permissionCache;
+        if (cache == null || cache.version != version || cache.state != state) {
+            this.permissionCache = cache = new PermissionCache(version, state);
+        }
+        Tristate value = cache.values.get(permission);
+        if (value == null) {
+            value = this.resolvePermissionValue(permission);
+            cache.values.put(permission, value);
+        }
+        return value;
+    }
+
+    /**
+     * Resolves the {@link Tristate} value of the specified permission, including
+     * the values that are inherited from the parents and defaults.
+     *
+     * @param permission The permission
+     * @return The permission value
+     */
+    protected Tristate resolvePermissionValue(String permission) {
         return this.getDataPermissionValue(this.getSubjectData(), permission);
     }
 
+    /**
+     * Gets the state of external data that the resolved permissions depend on,
+     * the cached values will be discarded once the state changes.
+     *
+     * @return The state
+     */
+    protected int getPermissionCacheState() {
+        return 0;
+    }
+
     protected Tristate getDataPermissionValue(MemorySubjectData subject, String permission) {
         Tristate res = subject.getNodeTree(SubjectData.GLOBAL_CONTEXT).get(permission);
 
@@ -103,5 +156,16 @@ public Optional<String> getOption(Set<Context> contexts, String key) {
     public Set<Context> getActiveContexts() {
         return SubjectData.GLOBAL_CONTEXT;
     }
-    
+
+    private static final class PermissionCache {
+
+        private final long version;
+        private final int state;
+        private final Map<String, Tristate> values = new ConcurrentHashMap<>();
+
+        private PermissionCache(long version, int state) {
+            this.version = version;
+            this.state = state;
+        }
+    }
 }
@@ -0,0 +1,424 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.text.selector;
+
+import com.flowpowered.math.vector.Vector3d;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.collect.ImmutableSet;
+import org.lanternpowered.server.entity.LanternEntity;
+import org.lanternpowered.server.world.LanternWorld;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.data.key.Keys;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.entity.EntityType;
+import org.spongepowered.api.entity.EntityTypes;
+import org.spongepowered.api.entity.living.player.Player;
+import org.spongepowered.api.entity.living.player.gamemode.GameMode;
+import org.spongepowered.api.entity.living.player.gamemode.GameModes;
+import org.spongepowered.api.scoreboard.Team;
+import org.spongepowered.api.scoreboard.TeamMember;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.selector.Argument;
+import org.spongepowered.api.text.selector.ArgumentType;
+import org.spongepowered.api.text.selector.ArgumentTypes;
+import org.spongepowered.api.text.selector.Selector;
+import org.spongepowered.api.text.selector.SelectorType;
+import org.spongepowered.api.text.selector.SelectorTypes;
+import org.spongepowered.api.world.extent.Extent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * A compiled {@link Selector}. The arguments are only parsed once and
+ * the candidates are retrieved through the entity indexes of the world
+ * where possible. The filters are ordered so that the cheap type and
+ * position checks are done before the ones that require data lookups.
+ */
+final class SelectorQueryPlan {
+
+    private static final Set<ArgumentType<?>> LOCATION_BASED_ARGUMENTS;
+    private static final Collection<SelectorType> INFINITE_TYPES = ImmutableSet.of(SelectorTypes.ALL_ENTITIES, SelectorTypes.ALL_PLAYERS);
+
+    /**
+     * The compiled plans mapped by the plain selector string, the plans
+     * don't depend on the origin of the selector so they can be shared.
+     */
+    private final static Cache<String, SelectorQueryPlan> plansCache =
+            Caffeine.newBuilder().maximumSize(512).build();
+
+    static {
+        final ImmutableSet.Builder<ArgumentType<?>> builder = ImmutableSet.builder();
+        builder.addAll(ArgumentTypes.POSITION.getTypes());
+        builder.addAll(ArgumentTypes.DIMENSION.getTypes());
+        builder.addAll(ArgumentTypes.RADIUS.getTypes());
+        // Left commented because Vanilla doesn't include it (see field_179666_d)
+        // builder.addAll(ArgumentTypes.ROTATION.getTypes());
+        LOCATION_BASED_ARGUMENTS = builder.build();
+    }
+
+    /**
+     * Gets the {@link SelectorQueryPlan} for the given {@link Selector}.
+     *
+     * @param selector The selector
+     * @return The query plan
+     */
+    static SelectorQueryPlan of(Selector selector) {
+        return plansCache.get(selector.toPlain(), key -> new SelectorQueryPlan(selector));
+    }
+
+    private final SelectorType selectorType;
+    private final int maxToSelect;
+    private final boolean locationBased;
+    private final boolean playerOnly;
+
+    @Nullable private final EntityType entityType;
+    private final boolean entityTypeInverted;
+
+    // The position overrides, NaN if the origin should be used
+    private final double posX;
+    private final double posY;
+    private final double posZ;
+
+    // The box dimensions, NaN if not bounded on the axis
+    private final double dimX;
+    private final double dimY;
+    private final double dimZ;
+
+    // The squared radius bounds, negative if not present
+    private final double radiusMinSquared;
+    private final double radiusMaxSquared;
+    private final int radiusMax;
+
+    // The rotation bounds, NaN if not present
+    private final double rotMinX;
+    private final double rotMinY;
+    private final double rotMaxX;
+    private final double rotMaxY;
+
+    @Nullable private final Integer levelMin;
+    @Nullable private final Integer levelMax;
+    @Nullable private final GameMode gameMode;
+    @Nullable private final String name;
+    private final boolean nameInverted;
+    private final boolean hasTeam;
+    private final boolean teamInverted;
+
+    private SelectorQueryPlan(Selector selector) {
+        this.selectorType = selector.getType();
+        this.maxToSelect = selector.get(ArgumentTypes.COUNT).orElse(INFINITE_TYPES.contains(this.selectorType) ? 0 : 1);
+        boolean locationBased = false;
+        for (Argument<?> argument : selector.getArguments()) {
+            if (LOCATION_BASED_ARGUMENTS.contains(argument.getType())) {
+                locationBased = true;
+                break;
+            }
+        }
+        this.locationBased = locationBased;
+
+        final Optional<Argument.Invertible<EntityType>> type = selector.getArgument(ArgumentTypes.ENTITY_TYPE);
+        this.entityType = type.map(Argument::getValue).orElse(null);
+        this.entityTypeInverted = type.isPresent() && type.get().isInverted();
+        // isn't an ALL_ENTITIES selector or it is a RANDOM selector for only players
+        this.playerOnly = this.selectorType == SelectorTypes.ALL_PLAYERS || this.selectorType == SelectorTypes.NEAREST_PLAYER
+                || (this.selectorType == SelectorTypes.RANDOM && type.isPresent() && !type.get().isInverted()
+                && type.get().getValue() != EntityTypes.PLAYER);
+
+        this.posX = get(selector, ArgumentTypes.POSITION.x());
+        this.posY = get(selector, ArgumentTypes.POSITION.y());
+        this.posZ = get(selector, ArgumentTypes.POSITION.z());
+        this.dimX = get(selector, ArgumentTypes.DIMENSION.x());
+        this.dimY = get(selector, ArgumentTypes.DIMENSION.y());
+        this.dimZ = get(selector, ArgumentTypes.DIMENSION.z());
+
+        final Optional<Integer> radiusMin = selector.get(ArgumentTypes.RADIUS.minimum());
+        final Optional<Integer> radiusMax = selector.get(ArgumentTypes.RADIUS.maximum());
+        this.radiusMinSquared = radiusMin.map(r -> (double) r * r).orElse(-1.0);
+        this.radiusMaxSquared = radiusMax.map(r -> (double) r * r).orElse(-1.0);
+        this.radiusMax = radiusMax.orElse(-1);
+
+        // If the Z's are uncommented, don't forget to implement them
+        // Optional<Double> rotMinZ = sel.get(ArgumentTypes.ROTATION.minimum().z());
+        // Optional<Double> rotMaxZ = sel.get(ArgumentTypes.ROTATION.maximum().z());
+        this.rotMinX = get(selector, ArgumentTypes.ROTATION.minimum().x());
+        this.rotMinY = get(selector, ArgumentTypes.ROTATION.minimum().y());
+        this.rotMaxX = get(selector, ArgumentTypes.ROTATION.maximum().x());
+        this.rotMaxY = get(selector, ArgumentTypes.ROTATION.maximum().y());
+
+        this.levelMin = selector.get(ArgumentTypes.LEVEL.minimum()).orElse(null);
+        this.levelMax = selector.get(ArgumentTypes.LEVEL.maximum()).orElse(null);
+        // If the game mode is NOT_SET, that means accept any
+        this.gameMode = selector.get(ArgumentTypes.GAME_MODE).filter(mode -> mode != GameModes.NOT_SET).orElse(null);
+
+        final Optional<Argument.Invertible<String>> name = selector.getArgument(ArgumentTypes.NAME);
+        this.name = name.map(Argument::getValue).orElse(null);
+        this.nameInverted = name.isPresent() && name.get().isInverted();
+
+        final Optional<Argument.Invertible<String>> team = selector.getArgument(ArgumentTypes.TEAM);
+        this.hasTeam = team.isPresent();
+        this.teamInverted = team.isPresent() && team.get().isInverted();
+    }
+
+    private static double get(Selector selector, ArgumentType<? extends Number> argumentType) {
+        return selector.get(argumentType).map(Number::doubleValue).orElse(Double.NaN);
+    }
+
+    /**
+     * Gets whether the selector contains arguments that
+     * limit the selection to the extent of the origin.
+     *
+     * @return Is location based
+     */
+    boolean isLocationBased() {
+        return this.locationBased;
+    }
+
+    /**
+     * Resolves the {@link Entity}s that match the selector.
+     *
+     * @param extents The extents to search
+     * @param origin The origin of the selector
+     * @return The entities
+     */
+    Set<Entity> resolve(Collection<? extends Extent> extents, Vector3d origin) {
+        final Query query = new Query(origin);
+        int count = 0;
+        final ImmutableSet.Builder<Entity> entities = ImmutableSet.builder();
+        for (Extent extent : extents) {
+            if (this.maxToSelect > 0 && this.radiusMax >= 0 && this.selectorType != SelectorTypes.RANDOM &&
+                    extent instanceof LanternWorld) {
+                if (count >= this.maxToSelect) {
+                    break;
+                }
+                // Only the nearest entities within the radius are needed, search them directly
+                final LanternEntity[] nearest = new LanternEntity[this.maxToSelect - count];
+                final int found = ((LanternWorld) extent).getNearestEntities(query.position, this.radiusMax, nearest, query::test);
+                for (int i = 0; i < found; i++) {
+                    entities.add(nearest[i]);
+                }
+                count += found;
+                continue;
+            }
+            final List<Entity> candidates = new ArrayList<>();
+            query.collectCandidates(extent, candidates::add);
+            if (this.selectorType == SelectorTypes.RANDOM) {
+                Collections.shuffle(candidates);
+            }
+            for (Entity entity : candidates) {
+                if (!query.test(entity)) {
+                    continue;
+                }
+                entities.add(entity);
+                count++;
+                if (this.maxToSelect != 0 && count > this.maxToSelect) {
+                    break;
+                }
+            }
+        }
+        return entities.build();
+    }
+
+    /**
+     * The state of a single resolve operation.
+     */
+    private final class Query {
+
+        private final Vector3d position;
+
+        // The bounds of the box and the radius, infinite if not bounded
+        private final double minX;
+        private final double minY;
+        private final double minZ;
+        private final double maxX;
+        private final double maxY;
+        private final double maxZ;
+
+        @Nullable private Collection<Text> teamMembers;
+
+        private Query(Vector3d origin) {
+            final SelectorQueryPlan plan = SelectorQueryPlan.this;
+            this.position = new Vector3d(
+                    Double.isNaN(plan.posX) ? origin.getX() : plan.posX,
+                    Double.isNaN(plan.posY) ? origin.getY() : plan.posY,
+                    Double.isNaN(plan.posZ) ? origin.getZ() : plan.posZ);
+            double minX = Double.NEGATIVE_INFINITY;
+            double minY = Double.NEGATIVE_INFINITY;
+            double minZ = Double.NEGATIVE_INFINITY;
+            double maxX = Double.POSITIVE_INFINITY;
+            double maxY = Double.POSITIVE_INFINITY;
+            double maxZ = Double.POSITIVE_INFINITY;
+            if (!Double.isNaN(plan.dimX)) {
+                minX = Math.min(this.position.getX(), this.position.getX() + plan.dimX);
+                maxX = Math.max(this.position.getX(), this.position.getX() + plan.dimX);
+            }
+            if (!Double.isNaN(plan.dimY)) {
+                minY = Math.min(this.position.getY(), this.position.getY() + plan.dimY);
+                maxY = Math.max(this.position.getY(), this.position.getY() + plan.dimY);
+            }
+            if (!Double.isNaN(plan.dimZ)) {
+                minZ = Math.min(this.position.getZ(), this.position.getZ() + plan.dimZ);
+                maxZ = Math.max(this.position.getZ(), this.position.getZ() + plan.dimZ);
+            }
+            if (plan.radiusMax >= 0) {
+                minX = Math.max(minX, this.position.getX() - plan.radiusMax);
+                minY = Math.max(minY, this.position.getY() - plan.radiusMax);
+                minZ = Math.max(minZ, this.position.getZ() - plan.radiusMax);
+                maxX = Math.min(maxX, this.position.getX() + plan.radiusMax);
+                maxY = Math.min(maxY, this.position.getY() + plan.radiusMax);
+                maxZ = Math.min(maxZ, this.position.getZ() + plan.radiusMax);
+            }
+            this.minX = minX;
+            this.minY = minY;
+            this.minZ = minZ;
+            this.maxX = maxX;
+            this.maxY = maxY;
+            this.maxZ = maxZ;
+        }
+
+        /**
+         * Collects all the {@link Entity}s of the {@link Extent} that could match the selector.
+         *
+         * @param extent The extent
+         * @param consumer The consumer
+         */
+        private void collectCandidates(Extent extent, Consumer<Entity> consumer) {
+            final SelectorQueryPlan plan = SelectorQueryPlan.this;
+            if (!(extent instanceof LanternWorld)) {
+                extent.getEntities().forEach(consumer);
+                return;
+            }
+            final LanternWorld world = (LanternWorld) extent;
+            if (plan.playerOnly || (plan.entityType == EntityTypes.PLAYER && !plan.entityTypeInverted)) {
+                // The players are always tracked separately, there won't be many
+                world.getRawPlayers().forEach(consumer);
+            } else if (!Double.isInfinite(this.minX) && !Double.isInfinite(this.maxX) &&
+                    !Double.isInfinite(this.minZ) && !Double.isInfinite(this.maxZ)) {
+                // Only visit the chunk sections that overlap with the bounds
+                final int worldMinY = LanternWorld.BLOCK_MIN.getY();
+                final int worldMaxY = LanternWorld.BLOCK_MAX.getY();
+                world.forEachEntityNear(
+                        new Vector3d(this.minX, Math.max(worldMinY, Math.min(worldMaxY, this.minY)), this.minZ),
+                        new Vector3d(this.maxX, Math.max(worldMinY, Math.min(worldMaxY, this.maxY)), this.maxZ), consumer);
+            } else if (plan.entityType != null && !plan.entityTypeInverted) {
+                world.forEachEntityOfType(plan.entityType, consumer);
+            } else {
+                extent.getEntities().forEach(consumer);
+            }
+        }
+
+        /**
+         * Tests whether the {@link Entity} matches the selector.
+         *
+         * @param entity The entity
+         * @return Whether the entity matches
+         */
+        private boolean test(Entity entity) {
+            final SelectorQueryPlan plan = SelectorQueryPlan.this;
+            if (plan.playerOnly && !(entity instanceof Player)) {
+                return false;
+            }
+            if (plan.entityType != null && plan.entityTypeInverted == (entity.getType() == plan.entityType)) {
+                return false;
+            }
+            if (!testPosition(entity.getLocation().getPosition())) {
+                return false;
+            }
+            if (!testRotation(entity.getRotation())) {
+                return false;
+            }
+            // The data lookups, these are the most expensive ones
+            if (plan.levelMin != null || plan.levelMax != null) {
+                final Integer level = entity.get(Keys.EXPERIENCE_LEVEL).orElse(null);
+                if (level == null || (plan.levelMin != null && level < plan.levelMin) ||
+                        (plan.levelMax != null && level > plan.levelMax)) {
+                    return false;
+                }
+            }
+            if (plan.gameMode != null && entity.get(Keys.GAME_MODE).orElse(null) != plan.gameMode) {
+                return false;
+            }
+            if (plan.name != null) {
+                final Optional<Text> displayName = entity.get(Keys.DISPLAY_NAME);
+                if (plan.nameInverted == (displayName.isPresent() && plan.name.equals(displayName.get().toPlain()))) {
+                    return false;
+                }
+            }
+            if (plan.hasTeam) {
+                if (!(entity instanceof TeamMember)) {
+                    return false;
+                }
+                if (plan.teamInverted == getTeamMembers().contains(((TeamMember) entity).getTeamRepresentation())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean testPosition(Vector3d pos) {
+            final double x = pos.getX();
+            final double y = pos.getY();
+            final double z = pos.getZ();
+            if (x < this.minX || x > this.maxX || y < this.minY || y > this.maxY || z < this.minZ || z > this.maxZ) {
+                return false;
+            }
+            final SelectorQueryPlan plan = SelectorQueryPlan.this;
+            if (plan.radiusMinSquared >= 0 || plan.radiusMaxSquared >= 0) {
+                final double distanceSquared = pos.distanceSquared(this.position);
+                if ((plan.radiusMinSquared >= 0 && distanceSquared < plan.radiusMinSquared) ||
+                        (plan.radiusMaxSquared >= 0 && distanceSquared > plan.radiusMaxSquared)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean testRotation(Vector3d rotation) {
+            final SelectorQueryPlan plan = SelectorQueryPlan.this;
+            // The comparisons will always be false for NaN values
+            return !(rotation.getX() < plan.rotMinX || rotation.getY() < plan.rotMinY ||
+                    rotation.getX() > plan.rotMaxX || rotation.getY() > plan.rotMaxY);
+        }
+
+        private Collection<Text> getTeamMembers() {
+            if (this.teamMembers == null) {
+                final ImmutableSet.Builder<Text> members = ImmutableSet.builder();
+                for (Team team : Sponge.getServer().getServerScoreboard().get().getTeams()) {
+                    members.addAll(team.getMembers());
+                }
+                this.teamMembers = members.build();
+            }
+            return this.teamMembers;
+        }
+    }
+}
@@ -71,7 +71,7 @@ private static int isCompositeValueStore0(String className) {
         } else if (className.equals(I_COMPOSITE_VALUE_STORE_NAME)) {
             return 2;
             // Don't process java packages
-        } else if (className.startsWith("java.")) {
+        } else if (className.startsWith("java/")) {
             return 0;
         }
         final LanternClassLoader classLoader = LanternClassLoader.get();
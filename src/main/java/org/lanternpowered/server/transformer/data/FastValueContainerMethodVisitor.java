@@ -25,6 +25,7 @@
  */
 package org.lanternpowered.server.transformer.data;
 
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
 import static org.objectweb.asm.Opcodes.INVOKESTATIC;
 import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
 import static org.objectweb.asm.Opcodes.POP;
@@ -142,8 +143,9 @@ private void writeMethod() {
                     this.name, this.entry[0], false);
         } else if (this.store == 2) {
             // The store extends ICompositeValueStore, we can use a direct method,
-            // Fast methods names should always end with Fast
-            super.visitMethodInsn(INVOKEVIRTUAL, this.owner, this.name + "Fast", this.entry[1], this.itf);
+            // Fast methods names should always end with Fast. Keep the original
+            // invoke opcode, the owner may be a interface that extends ICompositeValueStore
+            super.visitMethodInsn(this.opcode, this.owner, this.name + "Fast", this.entry[1], this.itf);
         } else {
             throw new IllegalStateException(this.store + "");
         }
@@ -241,7 +243,8 @@ public void visitMethodInsn(int opcode, String owner, String name, String desc,
         int store;
 
         final String key = name + ';' + desc;
-        if (opcode == INVOKEVIRTUAL && (entry = entries.get(key)) != null &&
+        // Calls through interfaces (Player, Entity, ItemStack, etc.) are also valid targets
+        if ((opcode == INVOKEVIRTUAL || opcode == INVOKEINTERFACE) && (entry = entries.get(key)) != null &&
                 (store = FastValueContainerCheckerClassVisitor.isCompositeValueStore(owner)) > 0) {
             this.store = store;
             this.entry = entry;
@@ -0,0 +1,96 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.util.concurrent;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A {@link Executor} that executes all the submitted tasks one by one, in
+ * the order they were submitted, using a shared backing {@link Executor}.
+ * Multiple ordered executors can share the same backing executor, the tasks
+ * of different ordered executors will then run in parallel.
+ */
+public final class OrderedExecutor implements Executor {
+
+    private final Executor executor;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * Creates a new {@link OrderedExecutor}.
+     *
+     * @param executor The backing executor
+     */
+    public OrderedExecutor(Executor executor) {
+        this.executor = checkNotNull(executor, "executor");
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        this.tasks.add(checkNotNull(task, "task"));
+        schedule();
+    }
+
+    /**
+     * Gets the amount of tasks that are waiting to be executed.
+     *
+     * @return The amount of pending tasks
+     */
+    public int getPendingTasks() {
+        return this.tasks.size();
+    }
+
+    private void schedule() {
+        if (!this.tasks.isEmpty() && this.running.compareAndSet(false, true)) {
+            try {
+                this.executor.execute(this::run);
+            } catch (RejectedExecutionException e) {
+                this.running.set(false);
+                throw e;
+            }
+        }
+    }
+
+    private void run() {
+        try {
+            Runnable task;
+            while ((task = this.tasks.poll()) != null) {
+                task.run();
+            }
+        } finally {
+            this.running.set(false);
+            // A task could be added between the last poll and
+            // resetting the running state, check again
+            schedule();
+        }
+    }
+}
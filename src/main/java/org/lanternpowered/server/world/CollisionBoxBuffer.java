@@ -0,0 +1,147 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.world;
+
+import static com.google.common.base.Preconditions.checkElementIndex;
+
+import com.flowpowered.math.vector.Vector3d;
+import org.spongepowered.api.util.AABB;
+
+import java.util.Arrays;
+
+/**
+ * A reusable buffer for collision boxes. The boxes are stored as
+ * primitive bounds so that no {@link AABB} has to be constructed
+ * for every block that is collected.
+ */
+public final class CollisionBoxBuffer {
+
+    private static final int BOX_SIZE = 6;
+
+    private double[] bounds;
+    private int size;
+
+    public CollisionBoxBuffer() {
+        this(16);
+    }
+
+    public CollisionBoxBuffer(int initialCapacity) {
+        this.bounds = new double[Math.max(1, initialCapacity) * BOX_SIZE];
+    }
+
+    /**
+     * Adds the {@link AABB} shape offset by the given block position.
+     *
+     * @param shape The shape, relative to the block position
+     * @param x The x coordinate of the block
+     * @param y The y coordinate of the block
+     * @param z The z coordinate of the block
+     */
+    public void add(AABB shape, int x, int y, int z) {
+        final Vector3d min = shape.getMin();
+        final Vector3d max = shape.getMax();
+        add(min.getX() + x, min.getY() + y, min.getZ() + z,
+                max.getX() + x, max.getY() + y, max.getZ() + z);
+    }
+
+    /**
+     * Adds the {@link AABB}.
+     *
+     * @param box The box
+     */
+    public void add(AABB box) {
+        final Vector3d min = box.getMin();
+        final Vector3d max = box.getMax();
+        add(min.getX(), min.getY(), min.getZ(), max.getX(), max.getY(), max.getZ());
+    }
+
+    private void add(double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+        final int index = this.size * BOX_SIZE;
+        if (index + BOX_SIZE > this.bounds.length) {
+            this.bounds = Arrays.copyOf(this.bounds, this.bounds.length * 2);
+        }
+        final double[] bounds = this.bounds;
+        bounds[index] = minX;
+        bounds[index + 1] = minY;
+        bounds[index + 2] = minZ;
+        bounds[index + 3] = maxX;
+        bounds[index + 4] = maxY;
+        bounds[index + 5] = maxZ;
+        this.size++;
+    }
+
+    /**
+     * Gets the amount of boxes in this buffer.
+     *
+     * @return The size
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Clears all the boxes, the buffer can be reused afterwards.
+     */
+    public void clear() {
+        this.size = 0;
+    }
+
+    public double getMinX(int index) {
+        return this.bounds[checkElementIndex(index, this.size) * BOX_SIZE];
+    }
+
+    public double getMinY(int index) {
+        return this.bounds[checkElementIndex(index, this.size) * BOX_SIZE + 1];
+    }
+
+    public double getMinZ(int index) {
+        return this.bounds[checkElementIndex(index, this.size) * BOX_SIZE + 2];
+    }
+
+    public double getMaxX(int index) {
+        return this.bounds[checkElementIndex(index, this.size) * BOX_SIZE + 3];
+    }
+
+    public double getMaxY(int index) {
+        return this.bounds[checkElementIndex(index, this.size) * BOX_SIZE + 4];
+    }
+
+    public double getMaxZ(int index) {
+        return this.bounds[checkElementIndex(index, this.size) * BOX_SIZE + 5];
+    }
+
+    /**
+     * Constructs a {@link AABB} for the box at the given index.
+     *
+     * @param index The index
+     * @return The box
+     */
+    public AABB get(int index) {
+        final int i = checkElementIndex(index, this.size) * BOX_SIZE;
+        final double[] bounds = this.bounds;
+        return new AABB(bounds[i], bounds[i + 1], bounds[i + 2], bounds[i + 3], bounds[i + 4], bounds[i + 5]);
+    }
+}
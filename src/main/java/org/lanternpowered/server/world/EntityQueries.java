@@ -0,0 +1,378 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.world;
+
+import static org.lanternpowered.server.world.chunk.LanternChunk.fixEntityYSection;
+
+import com.flowpowered.math.vector.Vector3d;
+import org.lanternpowered.server.entity.LanternEntity;
+import org.lanternpowered.server.world.chunk.LanternChunk;
+import org.lanternpowered.server.world.chunk.LanternChunkManager;
+import org.spongepowered.api.util.AABB;
+import org.spongepowered.api.world.extent.EntityUniverse;
+
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+/**
+ * Spatial entity queries that use the entity sets of the loaded chunk
+ * sections as index. The sections are updated incrementally when the
+ * entities move between them while the world is pulsed.
+ */
+final class EntityQueries {
+
+    /**
+     * Entities are indexed by their position, so the bounding boxes
+     * may extend into the neighbouring chunk sections.
+     */
+    private static final double ENTITY_MARGIN = 2.0;
+
+    /**
+     * Applies the {@link Consumer} to all the {@link LanternEntity}s that are located
+     * in the chunk sections that could contain entities intersecting with the box.
+     *
+     * @param chunkManager The chunk manager
+     * @param box The box
+     * @param consumer The consumer
+     */
+    static void forEachCandidate(LanternChunkManager chunkManager, AABB box, Consumer<LanternEntity> consumer) {
+        forEachCandidate(chunkManager, box.getMin(), box.getMax(), consumer);
+    }
+
+    /**
+     * Applies the {@link Consumer} to all the {@link LanternEntity}s that are located
+     * in the chunk sections that could contain entities within the given bounds. Unlike
+     * a {@link AABB}, the bounds may be degenerate.
+     *
+     * @param chunkManager The chunk manager
+     * @param min The minimum bounds
+     * @param max The maximum bounds
+     * @param consumer The consumer
+     */
+    static void forEachCandidate(LanternChunkManager chunkManager, Vector3d min, Vector3d max, Consumer<LanternEntity> consumer) {
+        final int minX = ((int) Math.floor(min.getX() - ENTITY_MARGIN)) >> 4;
+        final int maxX = ((int) Math.floor(max.getX() + ENTITY_MARGIN)) >> 4;
+        final int minYSection = fixEntityYSection(((int) Math.floor(min.getY() - ENTITY_MARGIN)) >> 4);
+        final int maxYSection = fixEntityYSection(((int) Math.floor(max.getY() + ENTITY_MARGIN)) >> 4);
+        final int minZ = ((int) Math.floor(min.getZ() - ENTITY_MARGIN)) >> 4;
+        final int maxZ = ((int) Math.floor(max.getZ() + ENTITY_MARGIN)) >> 4;
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                final LanternChunk chunk = chunkManager.getChunkIfLoaded(x, z);
+                if (chunk != null) {
+                    chunk.forEachEntityInSections(minYSection, maxYSection, consumer);
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies the {@link Consumer} to all the {@link LanternEntity}s that intersect with the box.
+     *
+     * @param chunkManager The chunk manager
+     * @param box The box
+     * @param consumer The consumer
+     */
+    static void forEachIntersecting(LanternChunkManager chunkManager, AABB box, Consumer<LanternEntity> consumer) {
+        forEachCandidate(chunkManager, box, entity -> {
+            final AABB boundingBox = entity.getBoundingBoxOrNull();
+            if (boundingBox != null ? boundingBox.intersects(box) : box.contains(entity.getPosition())) {
+                consumer.accept(entity);
+            }
+        });
+    }
+
+    /**
+     * Applies the {@link Consumer} to all the {@link LanternEntity}s that are located
+     * in the chunk sections that could contain entities intersecting with the ray. Only
+     * the chunk columns that are crossed by the ray will be visited.
+     *
+     * @param chunkManager The chunk manager
+     * @param start The start of the ray
+     * @param direction The normalized direction of the ray
+     * @param distance The length of the ray
+     * @param consumer The consumer
+     */
+    static void forEachCandidate(LanternChunkManager chunkManager, Vector3d start, Vector3d direction,
+            double distance, Consumer<LanternEntity> consumer) {
+        final double sx = start.getX();
+        final double sy = start.getY();
+        final double sz = start.getZ();
+        final double dx = direction.getX();
+        final double dy = direction.getY();
+        final double dz = direction.getZ();
+        final double ex = sx + dx * distance;
+        final int minX = ((int) Math.floor(Math.min(sx, ex) - ENTITY_MARGIN)) >> 4;
+        final int maxX = ((int) Math.floor(Math.max(sx, ex) + ENTITY_MARGIN)) >> 4;
+        for (int x = minX; x <= maxX; x++) {
+            // The part of the ray that is located within the (expanded) chunk column
+            double t0 = 0;
+            double t1 = distance;
+            if (dx != 0) {
+                final double a = ((x << 4) - ENTITY_MARGIN - sx) / dx;
+                final double b = ((x << 4) + 16 + ENTITY_MARGIN - sx) / dx;
+                t0 = Math.max(t0, Math.min(a, b));
+                t1 = Math.min(t1, Math.max(a, b));
+                if (t0 > t1) {
+                    continue;
+                }
+            }
+            final double z0 = sz + dz * t0;
+            final double z1 = sz + dz * t1;
+            final double y0 = sy + dy * t0;
+            final double y1 = sy + dy * t1;
+            final int minZ = ((int) Math.floor(Math.min(z0, z1) - ENTITY_MARGIN)) >> 4;
+            final int maxZ = ((int) Math.floor(Math.max(z0, z1) + ENTITY_MARGIN)) >> 4;
+            final int minYSection = fixEntityYSection(((int) Math.floor(Math.min(y0, y1) - ENTITY_MARGIN)) >> 4);
+            final int maxYSection = fixEntityYSection(((int) Math.floor(Math.max(y0, y1) + ENTITY_MARGIN)) >> 4);
+            for (int z = minZ; z <= maxZ; z++) {
+                final LanternChunk chunk = chunkManager.getChunkIfLoaded(x, z);
+                if (chunk != null) {
+                    chunk.forEachEntityInSections(minYSection, maxYSection, consumer);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the distance along the ray at which the ray enters the
+     * {@link AABB}, or {@code -1} if the ray doesn't hit the box.
+     *
+     * @param box The box
+     * @param start The start of the ray
+     * @param direction The normalized direction of the ray
+     * @param distance The length of the ray
+     * @return The distance, or -1
+     */
+    static double intersect(AABB box, Vector3d start, Vector3d direction, double distance) {
+        final Vector3d min = box.getMin();
+        final Vector3d max = box.getMax();
+        double tMin = 0;
+        double tMax = distance;
+        // X axis
+        if (direction.getX() == 0) {
+            if (start.getX() < min.getX() || start.getX() > max.getX()) {
+                return -1;
+            }
+        } else {
+            final double a = (min.getX() - start.getX()) / direction.getX();
+            final double b = (max.getX() - start.getX()) / direction.getX();
+            tMin = Math.max(tMin, Math.min(a, b));
+            tMax = Math.min(tMax, Math.max(a, b));
+        }
+        // Y axis
+        if (direction.getY() == 0) {
+            if (start.getY() < min.getY() || start.getY() > max.getY()) {
+                return -1;
+            }
+        } else {
+            final double a = (min.getY() - start.getY()) / direction.getY();
+            final double b = (max.getY() - start.getY()) / direction.getY();
+            tMin = Math.max(tMin, Math.min(a, b));
+            tMax = Math.min(tMax, Math.max(a, b));
+        }
+        // Z axis
+        if (direction.getZ() == 0) {
+            if (start.getZ() < min.getZ() || start.getZ() > max.getZ()) {
+                return -1;
+            }
+        } else {
+            final double a = (min.getZ() - start.getZ()) / direction.getZ();
+            final double b = (max.getZ() - start.getZ()) / direction.getZ();
+            tMin = Math.max(tMin, Math.min(a, b));
+            tMax = Math.min(tMax, Math.max(a, b));
+        }
+        return tMin <= tMax ? tMin : -1;
+    }
+
+    /**
+     * Creates a {@link EntityUniverse.EntityHit} for the entity that
+     * was hit at the given distance along the ray.
+     *
+     * @param entity The entity
+     * @param box The bounding box of the entity
+     * @param start The start of the ray
+     * @param direction The normalized direction of the ray
+     * @param hitDistance The distance at which the entity was hit
+     * @return The entity hit
+     */
+    static EntityUniverse.EntityHit createHit(LanternEntity entity, AABB box, Vector3d start, Vector3d direction, double hitDistance) {
+        final Vector3d intersection = start.add(direction.mul(hitDistance));
+        final Vector3d min = box.getMin();
+        final Vector3d max = box.getMax();
+        // The normal of the face that is the closest to the intersection point
+        Vector3d normal = direction.negate();
+        double closest = Double.MAX_VALUE;
+        double diff;
+        if ((diff = Math.abs(intersection.getX() - min.getX())) < closest) {
+            closest = diff;
+            normal = Vector3d.UNIT_X.negate();
+        }
+        if ((diff = Math.abs(intersection.getX() - max.getX())) < closest) {
+            closest = diff;
+            normal = Vector3d.UNIT_X;
+        }
+        if ((diff = Math.abs(intersection.getY() - min.getY())) < closest) {
+            closest = diff;
+            normal = Vector3d.UNIT_Y.negate();
+        }
+        if ((diff = Math.abs(intersection.getY() - max.getY())) < closest) {
+            closest = diff;
+            normal = Vector3d.UNIT_Y;
+        }
+        if ((diff = Math.abs(intersection.getZ() - min.getZ())) < closest) {
+            closest = diff;
+            normal = Vector3d.UNIT_Z.negate();
+        }
+        if (Math.abs(intersection.getZ() - max.getZ()) < closest) {
+            normal = Vector3d.UNIT_Z;
+        }
+        return new EntityUniverse.EntityHit(entity, intersection, normal, hitDistance);
+    }
+
+    /**
+     * Searches the {@link LanternEntity} that is hit first by the ray.
+     *
+     * @param chunkManager The chunk manager
+     * @param start The start of the ray
+     * @param direction The normalized direction of the ray
+     * @param distance The length of the ray
+     * @param filter The filter the entities should match
+     * @return The entity hit, or {@code null} if there wasn't any entity hit
+     */
+    @Nullable
+    static EntityUniverse.EntityHit rayTrace(LanternChunkManager chunkManager, Vector3d start, Vector3d direction,
+            double distance, Predicate<LanternEntity> filter) {
+        final RayTraceCollector collector = new RayTraceCollector(start, direction, distance, filter);
+        forEachCandidate(chunkManager, start, direction, distance, collector);
+        final LanternEntity entity = collector.entity;
+        if (entity == null) {
+            return null;
+        }
+        //noinspection ConstantConditions
+        return createHit(entity, entity.getBoundingBoxOrNull(), start, direction, collector.distance);
+    }
+
+    /**
+     * Searches the nearest {@link LanternEntity}s within the given radius
+     * around the center. The result array will be filled with the entities,
+     * ordered from the nearest to the farthest one.
+     *
+     * @param chunkManager The chunk manager
+     * @param center The center
+     * @param radius The radius
+     * @param result The result array, the length is the maximum amount of entities to search
+     * @param filter The filter the entities should match
+     * @return The amount of entities that were found
+     */
+    static int getNearest(LanternChunkManager chunkManager, Vector3d center, double radius,
+            LanternEntity[] result, Predicate<LanternEntity> filter) {
+        if (result.length == 0) {
+            return 0;
+        }
+        final NearestCollector collector = new NearestCollector(center, radius * radius, result, filter);
+        forEachCandidate(chunkManager, new AABB(center.sub(radius, radius, radius), center.add(radius, radius, radius)), collector);
+        return collector.count;
+    }
+
+    private static final class RayTraceCollector implements Consumer<LanternEntity> {
+
+        private final Vector3d start;
+        private final Vector3d direction;
+        private final Predicate<LanternEntity> filter;
+
+        @Nullable private LanternEntity entity;
+        private double distance;
+
+        private RayTraceCollector(Vector3d start, Vector3d direction, double distance, Predicate<LanternEntity> filter) {
+            this.start = start;
+            this.direction = direction;
+            this.distance = distance;
+            this.filter = filter;
+        }
+
+        @Override
+        public void accept(LanternEntity entity) {
+            final AABB box = entity.getBoundingBoxOrNull();
+            if (box == null) {
+                return;
+            }
+            final double hitDistance = intersect(box, this.start, this.direction, this.distance);
+            if (hitDistance >= 0 && (this.entity == null || hitDistance < this.distance) && this.filter.test(entity)) {
+                this.entity = entity;
+                this.distance = hitDistance;
+            }
+        }
+    }
+
+    private static final class NearestCollector implements Consumer<LanternEntity> {
+
+        private final Vector3d center;
+        private final double radiusSquared;
+        private final LanternEntity[] result;
+        private final Predicate<LanternEntity> filter;
+
+        private int count;
+
+        private NearestCollector(Vector3d center, double radiusSquared, LanternEntity[] result, Predicate<LanternEntity> filter) {
+            this.center = center;
+            this.radiusSquared = radiusSquared;
+            this.result = result;
+            this.filter = filter;
+        }
+
+        @Override
+        public void accept(LanternEntity entity) {
+            final double distanceSquared = entity.getPosition().distanceSquared(this.center);
+            if (distanceSquared > this.radiusSquared) {
+                return;
+            }
+            // Check whether the entity is closer than the farthest entity in a full result
+            final LanternEntity[] result = this.result;
+            if (this.count == result.length &&
+                    result[this.count - 1].getPosition().distanceSquared(this.center) <= distanceSquared) {
+                return;
+            }
+            if (!this.filter.test(entity)) {
+                return;
+            }
+            int index = Math.min(this.count, result.length - 1);
+            while (index > 0 && result[index - 1].getPosition().distanceSquared(this.center) > distanceSquared) {
+                result[index] = result[index - 1];
+                index--;
+            }
+            result[index] = entity;
+            if (this.count < result.length) {
+                this.count++;
+            }
+        }
+    }
+
+    private EntityQueries() {
+    }
+}
@@ -47,6 +47,7 @@
 import org.lanternpowered.server.block.action.BlockAction;
 import org.lanternpowered.server.block.behavior.types.InteractWithBlockBehavior;
 import org.lanternpowered.server.block.behavior.types.PlaceBlockBehavior;
+import org.lanternpowered.server.block.provider.property.BlockPropertyId;
 import org.lanternpowered.server.config.world.WorldConfig;
 import org.lanternpowered.server.data.io.ChunkIOService;
 import org.lanternpowered.server.data.io.ScoreboardIO;
@@ -105,6 +106,7 @@
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.entity.EntitySnapshot;
 import org.spongepowered.api.entity.EntityType;
+import org.spongepowered.api.entity.EntityTypes;
 import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.item.inventory.ItemStack;
@@ -198,6 +200,12 @@ public class LanternWorld implements AbstractExtent, org.lanternpowered.api.worl
      */
     private final Map<UUID, LanternEntity> entitiesByUniqueId = new ConcurrentHashMap<>();
 
+    /**
+     * The entities mapped by their type, players are
+     * excluded because they are tracked separately.
+     */
+    private final Map<EntityType, Set<LanternEntity>> entitiesByType = new ConcurrentHashMap<>();
+
     /**
      * The chunk manager that will allows observers to track
      * changes in chunks.
@@ -481,48 +489,52 @@ public Set<AABB> getIntersectingBlockCollisionBoxes(AABB box) {
     public Set<AABB> getIntersectingBlockCollisionBoxes(AABB box, @Nullable Predicate<Entity> filter) {
         checkNotNull(box, "box");
         final ImmutableSet.Builder<AABB> boxes = ImmutableSet.builder();
-        int minY = box.getMin().getFloorY();
+        final CollisionBoxBuffer buffer = new CollisionBoxBuffer();
+        getIntersectingBlockCollisionBoxes(box, buffer);
+        for (int i = 0; i < buffer.size(); i++) {
+            boxes.add(buffer.get(i));
+        }
+        if (filter != null) {
+            final int maxChunkSection = LanternChunk.fixEntityYSection(box.getMax().getFloorY() >> 4);
+            final int minChunkSection = LanternChunk.fixEntityYSection(box.getMin().getFloorY() >> 4);
+            forEachLoadedChunk(box, chunk -> chunk.addIntersectingEntitiesBoxes(
+                    boxes, maxChunkSection, minChunkSection, box, filter));
+        }
+        return boxes.build();
+    }
+
+    /**
+     * Adds the collision boxes of all the blocks that intersect
+     * with the given {@link AABB} to the {@link CollisionBoxBuffer}.
+     * Unloaded chunks will be ignored.
+     *
+     * @param box The box
+     * @param buffer The buffer to add the collision boxes to
+     */
+    public void getIntersectingBlockCollisionBoxes(AABB box, CollisionBoxBuffer buffer) {
+        checkNotNull(box, "box");
+        checkNotNull(buffer, "buffer");
+        final int minY = box.getMin().getFloorY();
         final int maxY = box.getMax().getFloorY();
         if (minY >= LanternWorld.BLOCK_MAX.getY() || maxY < 0) {
-            return boxes.build();
+            return;
         }
-        minY = Math.max(0, minY);
-        final int maxX = box.getMax().getFloorX();
-        final int minX = box.getMin().getFloorX();
-        final int maxZ = box.getMax().getFloorZ();
-        final int minZ = box.getMin().getFloorZ();
-        final int maxChunkX = maxX >> 4;
-        final int minChunkX = minX >> 4;
-        final int maxChunkZ = maxZ >> 4;
-        final int minChunkZ = minZ >> 4;
-        final int maxChunkSection = maxY >> 4;
-        final int minChunkSection = minY >> 4;
+        forEachLoadedChunk(box, chunk -> chunk.addBlockCollisionBoxes(box, buffer));
+    }
+
+    private void forEachLoadedChunk(AABB box, Consumer<LanternChunk> consumer) {
+        final int maxChunkX = box.getMax().getFloorX() >> 4;
+        final int minChunkX = box.getMin().getFloorX() >> 4;
+        final int maxChunkZ = box.getMax().getFloorZ() >> 4;
+        final int minChunkZ = box.getMin().getFloorZ() >> 4;
         for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
             for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
                 final LanternChunk chunk = getChunkManager().getChunkIfLoaded(chunkX, chunkZ);
-                if (chunk == null) {
-                    continue;
-                }
-                final int startX = Math.max(minX, chunkX << 4);
-                final int endX = Math.min(maxX, (chunkX << 4) | 0xf);
-                final int startZ = Math.max(minZ, chunkZ << 4);
-                final int endZ = Math.min(maxZ, (chunkZ << 4) | 0xf);
-                for (int x = startX; x <= endX; x++) {
-                    for (int z = startZ; z <= endZ; z++) {
-                        for (int y = minY; y <= maxY; y++) {
-                            final Optional<AABB> boundingBox = chunk.getBlockSelectionBox(x, y, z);
-                            if (boundingBox.isPresent() && boundingBox.get().intersects(box)) {
-                                boxes.add(boundingBox.get());
-                            }
-                        }
-                    }
-                }
-                if (filter != null) {
-                    chunk.addIntersectingEntitiesBoxes(boxes, maxChunkSection, minChunkSection, box, filter);
+                if (chunk != null) {
+                    consumer.accept(chunk);
                 }
             }
         }
-        return boxes.build();
     }
 
     @Override
@@ -530,31 +542,143 @@ public Set<Entity> getIntersectingEntities(AABB box, Predicate<Entity> filter) {
         checkNotNull(box, "box");
         checkNotNull(filter, "filter");
         final ImmutableSet.Builder<Entity> entities = ImmutableSet.builder();
-        final int maxX = ((int) Math.ceil(box.getMax().getX() + 2.0)) >> 4;
-        final int minX = ((int) Math.floor(box.getMin().getX() - 2.0)) >> 4;
-        final int maxYSection = fixEntityYSection(((int) Math.round(box.getMax().getY() + 2.0)) >> 4);
-        final int minYSection = fixEntityYSection(((int) Math.round(box.getMin().getY() - 2.0)) >> 4);
-        final int maxZ = ((int) Math.ceil(box.getMax().getZ() + 2.0)) >> 4;
-        final int minZ = ((int) Math.floor(box.getMin().getZ() - 2.0)) >> 4;
-        for (int x = minX; x <= maxX; x++) {
-            for (int z = minZ; z <= maxZ; z++) {
-                final LanternChunk chunk = getChunkManager().getChunkIfLoaded(x, z);
-                if (chunk != null) {
-                    chunk.addIntersectingEntities(entities, maxYSection, minYSection, box, filter);
-                }
+        EntityQueries.forEachIntersecting(this.chunkManager, box, entity -> {
+            if (filter.test(entity)) {
+                entities.add(entity);
             }
-        }
+        });
         return entities.build();
     }
 
+    /**
+     * Applies the {@link Consumer} to all the {@link LanternEntity}s that
+     * intersect with the given {@link AABB}, without collecting them.
+     *
+     * @param box The box
+     * @param consumer The consumer
+     */
+    public void forEachIntersectingEntity(AABB box, Consumer<LanternEntity> consumer) {
+        checkNotNull(box, "box");
+        checkNotNull(consumer, "consumer");
+        EntityQueries.forEachIntersecting(this.chunkManager, box, consumer);
+    }
+
+    /**
+     * Applies the {@link Consumer} to all the {@link LanternEntity}s that are
+     * located in the chunk sections that overlap with the given bounds. The
+     * consumer may receive entities outside the bounds, they should still be
+     * tested by the caller.
+     *
+     * @param min The minimum bounds
+     * @param max The maximum bounds
+     * @param consumer The consumer
+     */
+    public void forEachEntityNear(Vector3d min, Vector3d max, Consumer<LanternEntity> consumer) {
+        checkNotNull(min, "min");
+        checkNotNull(max, "max");
+        checkNotNull(consumer, "consumer");
+        EntityQueries.forEachCandidate(this.chunkManager, min, max, consumer);
+    }
+
+    /**
+     * Applies the {@link Consumer} to all the {@link LanternEntity}s
+     * of the given {@link EntityType} in this world.
+     *
+     * @param entityType The entity type
+     * @param consumer The consumer
+     */
+    public void forEachEntityOfType(EntityType entityType, Consumer<LanternEntity> consumer) {
+        checkNotNull(entityType, "entityType");
+        checkNotNull(consumer, "consumer");
+        if (entityType == EntityTypes.PLAYER) {
+            this.players.forEach(consumer);
+            return;
+        }
+        final Set<LanternEntity> entities = this.entitiesByType.get(entityType);
+        if (entities == null) {
+            return;
+        }
+        for (LanternEntity entity : entities) {
+            if (!entity.isRemoved()) {
+                consumer.accept(entity);
+            }
+        }
+    }
+
     @Override
     public Set<EntityHit> getIntersectingEntities(Vector3d start, Vector3d end, Predicate<EntityHit> filter) {
-        return Collections.emptySet();
+        checkNotNull(start, "start");
+        checkNotNull(end, "end");
+        final Vector3d diff = end.sub(start);
+        final double distance = diff.length();
+        if (distance == 0) {
+            return Collections.emptySet();
+        }
+        return getIntersectingEntities(start, diff.div(distance), distance, filter);
     }
 
     @Override
     public Set<EntityHit> getIntersectingEntities(Vector3d start, Vector3d direction, double distance, Predicate<EntityHit> filter) {
-        return Collections.emptySet();
+        checkNotNull(start, "start");
+        checkNotNull(direction, "direction");
+        checkNotNull(filter, "filter");
+        if (distance <= 0 || direction.lengthSquared() == 0) {
+            return Collections.emptySet();
+        }
+        final Vector3d dir = direction.normalize();
+        final ImmutableSet.Builder<EntityHit> hits = ImmutableSet.builder();
+        EntityQueries.forEachCandidate(this.chunkManager, start, dir, distance, entity -> {
+            final AABB box = entity.getBoundingBoxOrNull();
+            if (box == null) {
+                return;
+            }
+            final double hitDistance = EntityQueries.intersect(box, start, dir, distance);
+            if (hitDistance >= 0) {
+                final EntityHit hit = EntityQueries.createHit(entity, box, start, dir, hitDistance);
+                if (filter.test(hit)) {
+                    hits.add(hit);
+                }
+            }
+        });
+        return hits.build();
+    }
+
+    /**
+     * Gets the first {@link LanternEntity} that is hit by the ray.
+     *
+     * @param start The start of the ray
+     * @param direction The direction of the ray
+     * @param distance The length of the ray
+     * @param filter The filter that the entities should match
+     * @return The entity hit, if found
+     */
+    public Optional<EntityHit> rayTraceEntity(Vector3d start, Vector3d direction, double distance, Predicate<LanternEntity> filter) {
+        checkNotNull(start, "start");
+        checkNotNull(direction, "direction");
+        checkNotNull(filter, "filter");
+        if (distance <= 0 || direction.lengthSquared() == 0) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(EntityQueries.rayTrace(this.chunkManager, start, direction.normalize(), distance, filter));
+    }
+
+    /**
+     * Searches the nearest {@link LanternEntity}s within the given radius around
+     * the center. The result array will be filled with the found entities, ordered
+     * from the nearest to the farthest one, the length of the array is the maximum
+     * amount of entities that will be searched.
+     *
+     * @param center The center
+     * @param radius The radius
+     * @param result The array to fill with the nearest entities
+     * @param filter The filter that the entities should match
+     * @return The amount of entities that were found
+     */
+    public int getNearestEntities(Vector3d center, double radius, LanternEntity[] result, Predicate<LanternEntity> filter) {
+        checkNotNull(center, "center");
+        checkNotNull(result, "result");
+        checkNotNull(filter, "filter");
+        return EntityQueries.getNearest(this.chunkManager, center, radius, result, filter);
     }
 
     @Override
@@ -590,6 +714,7 @@ private void forEachEntity(Consumer<LanternEntity> consumer) {
             // the other ones can be resurrected after chunk loading
             if (entity.isRemoved()) {
                 iterator.remove();
+                removeFromTypeIndex(entity);
             } else {
                 consumer.accept(entity);
             }
@@ -765,6 +890,24 @@ public Collection<Direction> getFacesWithProperty(int x, int y, int z, Class<? e
         return this.chunkManager.getOrLoadChunk(x >> 4, z >> 4).getProperty(x, y, z, propertyClass);
     }
 
+    /**
+     * Gets the block property for the given {@link BlockPropertyId} at the given
+     * position, see {@link LanternChunk#getProperty(int, int, int, BlockPropertyId)}.
+     * Chunks won't be loaded by this method, {@code null} will be returned instead.
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @param z The z coordinate
+     * @param id The block property id
+     * @param <T> The property type
+     * @return The property, or {@code null} if not present
+     */
+    @Nullable
+    public <T extends Property<?, ?>> T getProperty(int x, int y, int z, BlockPropertyId<T> id) {
+        final LanternChunk chunk = this.chunkManager.getChunkIfLoaded(x >> 4, z >> 4);
+        return chunk == null ? null : chunk.getProperty(x, y, z, id);
+    }
+
     @Override
     public Collection<Property<?, ?>> getProperties(int x, int y, int z) {
         return this.chunkManager.getOrLoadChunk(x >> 4, z >> 4).getProperties(x, y, z);
@@ -1162,6 +1305,9 @@ private LanternEntity addEntity(LanternEntity entity) {
         if (entity1 != null) {
             return entity1;
         }
+        if (!(entity instanceof LanternPlayer)) {
+            this.entitiesByType.computeIfAbsent(entity.getType(), type -> ConcurrentHashMap.newKeySet()).add(entity);
+        }
         final EntityProtocolType entityProtocolType = entity.getEntityProtocolType();
         if (entityProtocolType != null) {
             //noinspection unchecked
@@ -1171,6 +1317,13 @@ private LanternEntity addEntity(LanternEntity entity) {
         return null;
     }
 
+    private void removeFromTypeIndex(LanternEntity entity) {
+        final Set<LanternEntity> entities = this.entitiesByType.get(entity.getType());
+        if (entities != null) {
+            entities.remove(entity);
+        }
+    }
+
     private void pulseEntities() {
         // Pulse the entities
         for (LanternEntity entity : new ArrayList<>(this.entitiesByUniqueId.values())) {
@@ -1184,6 +1337,7 @@ private void pulseEntities() {
                 }
                 this.entityProtocolManager.remove(entity);
                 this.entitiesByUniqueId.remove(entity.getUniqueId());
+                removeFromTypeIndex(entity);
             } else {
                 final Vector3i lastChunkSection = entity.getLastChunkSectionCoords();
                 entity.pulse();
@@ -43,15 +43,15 @@
 import it.unimi.dsi.fastutil.shorts.Short2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.shorts.Short2ShortMap;
 import it.unimi.dsi.fastutil.shorts.Short2ShortOpenHashMap;
-import org.lanternpowered.server.block.provider.CachedSimpleObjectProvider;
-import org.lanternpowered.server.block.provider.ConstantObjectProvider;
+import it.unimi.dsi.fastutil.shorts.ShortIterator;
 import org.lanternpowered.server.block.LanternBlockSnapshot;
 import org.lanternpowered.server.block.LanternBlockType;
 import org.lanternpowered.server.block.LanternScheduledBlockUpdate;
-import org.lanternpowered.server.block.provider.ObjectProvider;
-import org.lanternpowered.server.block.provider.SimpleObjectProvider;
 import org.lanternpowered.server.block.TileEntityProvider;
 import org.lanternpowered.server.block.action.BlockAction;
+import org.lanternpowered.server.block.provider.property.BlockPropertyId;
+import org.lanternpowered.server.block.provider.property.PropertyTable;
+import org.lanternpowered.server.block.state.LanternBlockState;
 import org.lanternpowered.server.block.tile.ITileEntityRefreshBehavior;
 import org.lanternpowered.server.block.tile.LanternTileEntity;
 import org.lanternpowered.server.data.property.AbstractDirectionRelativePropertyHolder;
@@ -63,6 +63,7 @@
 import org.lanternpowered.server.game.registry.type.world.biome.BiomeRegistryModule;
 import org.lanternpowered.server.util.NibbleArray;
 import org.lanternpowered.server.util.VecHelper;
+import org.lanternpowered.server.world.CollisionBoxBuffer;
 import org.lanternpowered.server.world.LanternWorld;
 import org.lanternpowered.server.world.TrackerIdAllocator;
 import org.lanternpowered.server.world.extent.AbstractExtent;
@@ -195,6 +196,12 @@ public static class ChunkSection {
          */
         int nonAirCount;
 
+        /**
+         * Whether this section contains blocks with collision boxes,
+         * {@code 0} if unknown, {@code 1} if not and {@code 2} if it does.
+         */
+        byte collisionState;
+
         ChunkSection() {
             this(null, null);
         }
@@ -260,6 +267,7 @@ public static int index(int x, int y, int z) {
          */
         private void recountTypes() {
             this.nonAirCount = 0;
+            this.collisionState = 0;
             this.typesCountMap.clear();
             for (short type : this.types) {
                 if (type != 0) {
@@ -269,6 +277,33 @@ private void recountTypes() {
             }
         }
 
+        /**
+         * Gets whether this section contains any blocks with
+         * a collision box. Air sections can be skipped this way.
+         * <p>
+         * This may only be called while the lock of the section is held, the
+         * state is reset by the chunk when a block changes, under the write lock.
+         *
+         * @return Has collision boxes
+         */
+        boolean hasCollisionBoxes() {
+            byte state = this.collisionState;
+            if (state == 0) {
+                state = 1;
+                final ShortIterator it = this.typesCountMap.keySet().iterator();
+                while (it.hasNext()) {
+                    final LanternBlockState blockState = (LanternBlockState) BlockRegistryModule.get()
+                            .getStateByPackedType(it.nextShort());
+                    if (blockState != null && blockState.getCollisionBoxType() != LanternBlockState.COLLISION_BOX_NONE) {
+                        state = 2;
+                        break;
+                    }
+                }
+                this.collisionState = state;
+            }
+            return state == 2;
+        }
+
         private ChunkSectionSnapshot asSnapshot(boolean skylight) {
             final Short2ShortMap typeCounts = new Short2ShortOpenHashMap(this.typesCountMap);
             final int count = this.types.length - this.nonAirCount;
@@ -913,7 +948,7 @@ public boolean setBlock(int x, int y, int z, BlockState block, BlockChangeFlag f
             } else {
                 section.nonAirCount--;
             }
-            final BlockState oldState = BlockRegistryModule.get().getStateByInternalIdAndData(oldType).get();
+            final BlockState oldState = BlockRegistryModule.get().getStateByPackedType(oldType);
             changeData[0] = oldState;
             // The section is empty, destroy it
             if (section.nonAirCount <= 0) {
@@ -952,6 +987,7 @@ public boolean setBlock(int x, int y, int z, BlockState block, BlockChangeFlag f
                 section.tileEntities.remove((short) index);
             }
             section.types[index] = type1;
+            section.collisionState = 0;
             return section;
         });
 
@@ -1205,51 +1241,125 @@ public void setNotifier(int x, int y, int z, @Nullable UUID uuid) {
 
     @Override
     public Optional<AABB> getBlockSelectionBox(int x, int y, int z) {
-        final BlockState block = getBlock(x, y, z);
-        if (block.getType() == BlockTypes.AIR) {
-            return Optional.empty();
-        }
-        final ObjectProvider<AABB> aabbObjectProvider = ((LanternBlockType) block.getType()).getBoundingBoxProvider();
-        if (aabbObjectProvider == null) {
+        final LanternBlockState block = (LanternBlockState) getBlock(x, y, z);
+        final byte type = block.getCollisionBoxType();
+        if (type == LanternBlockState.COLLISION_BOX_NONE) {
             return Optional.empty();
         }
         final AABB aabb;
-        if (aabbObjectProvider instanceof ConstantObjectProvider || aabbObjectProvider instanceof CachedSimpleObjectProvider
-                || aabbObjectProvider instanceof SimpleObjectProvider) {
-            aabb = aabbObjectProvider.get(block, null, null);
+        if (type == LanternBlockState.COLLISION_BOX_STATIC) {
+            aabb = block.getCollisionBox();
         } else {
-            aabb = aabbObjectProvider.get(block, new Location<>(this.world, x, y, z), null);
+            //noinspection ConstantConditions
+            aabb = ((LanternBlockType) block.getType()).getBoundingBoxProvider().get(block, new Location<>(this.world, x, y, z), null);
         }
         return aabb == null ? Optional.empty() : Optional.of(aabb.offset(x, y, z));
     }
 
-    @Override
-    public Set<AABB> getIntersectingBlockCollisionBoxes(AABB box) {
-        checkNotNull(box, "box");
-        final Vector3i min = box.getMin().toInt();
-        final Vector3i max = box.getMax().toInt();
-        checkVolumeBounds(min);
-        checkVolumeBounds(max);
-        final ImmutableSet.Builder<AABB> builder = ImmutableSet.builder();
-        final int minX = min.getX();
-        final int minY = min.getY();
-        final int minZ = min.getZ();
-        final int maxX = max.getX();
-        final int maxY = max.getY();
-        final int maxZ = max.getZ();
-        for (int x = minX; x <= maxX; x++) {
-            for (int z = minZ; z <= maxZ; z++) {
-                for (int y = minY; y <= maxY; y++) {
-                    final Optional<AABB> optAABB = getBlockSelectionBox(x, y, z);
-                    if (optAABB.isPresent()) {
-                        final AABB aabb = optAABB.get();
-                        if (aabb.intersects(box)) {
-                            builder.add(box);
+    /**
+     * Adds the collision boxes of all the blocks in this chunk that
+     * intersect with the given {@link AABB} to the {@link CollisionBoxBuffer}.
+     *
+     * @param box The box
+     * @param buffer The buffer to add the collision boxes to
+     */
+    public void addBlockCollisionBoxes(AABB box, CollisionBoxBuffer buffer) {
+        final Vector3d boxMin = box.getMin();
+        final Vector3d boxMax = box.getMax();
+        final int minX = Math.max(boxMin.getFloorX(), this.min.getX());
+        final int minY = Math.max(boxMin.getFloorY(), this.min.getY());
+        final int minZ = Math.max(boxMin.getFloorZ(), this.min.getZ());
+        final int maxX = Math.min(boxMax.getFloorX(), this.max.getX());
+        final int maxY = Math.min(boxMax.getFloorY(), this.max.getY());
+        final int maxZ = Math.min(boxMax.getFloorZ(), this.max.getZ());
+        if (minX > maxX || minY > maxY || minZ > maxZ || !this.loaded) {
+            return;
+        }
+        for (int sy = minY >> 4; sy <= maxY >> 4; sy++) {
+            final int startY = Math.max(minY, sy << 4);
+            final int endY = Math.min(maxY, (sy << 4) | 0xf);
+            // The dynamic collision boxes, packed as type << 16 | y << 8 | z << 4 | x
+            final int[][] dynamic = new int[1][];
+            final int[] dynamicCount = new int[1];
+            // Always use the read lock, the optimistic read could add the boxes twice
+            this.chunkSections.work(sy, section -> {
+                // Empty sections and sections without any collision boxes can be skipped
+                if (section == null || !section.hasCollisionBoxes()) {
+                    return;
+                }
+                short lastType = -1;
+                LanternBlockState lastState = null;
+                for (int y = startY; y <= endY; y++) {
+                    for (int z = minZ; z <= maxZ; z++) {
+                        for (int x = minX; x <= maxX; x++) {
+                            final short type = section.types[ChunkSection.index(x & 0xf, y & 0xf, z & 0xf)];
+                            if (type == 0) {
+                                continue;
+                            }
+                            // Neighbor blocks are often the same, avoid the lookup in that case
+                            if (type != lastType) {
+                                lastState = (LanternBlockState) BlockRegistryModule.get().getStateByPackedType(type);
+                                lastType = type;
+                            }
+                            if (lastState == null) {
+                                continue;
+                            }
+                            final byte collisionBoxType = lastState.getCollisionBoxType();
+                            if (collisionBoxType == LanternBlockState.COLLISION_BOX_STATIC) {
+                                final AABB shape = lastState.getCollisionBox();
+                                //noinspection ConstantConditions
+                                final Vector3d min = shape.getMin();
+                                final Vector3d max = shape.getMax();
+                                if (min.getX() + x < boxMax.getX() && max.getX() + x > boxMin.getX() &&
+                                        min.getY() + y < boxMax.getY() && max.getY() + y > boxMin.getY() &&
+                                        min.getZ() + z < boxMax.getZ() && max.getZ() + z > boxMin.getZ()) {
+                                    buffer.add(shape, x, y, z);
+                                }
+                            } else if (collisionBoxType == LanternBlockState.COLLISION_BOX_DYNAMIC) {
+                                // The bounding box providers may access the world, so they
+                                // can't be called while the section lock is being held
+                                int[] array = dynamic[0];
+                                if (array == null) {
+                                    array = dynamic[0] = new int[8];
+                                } else if (dynamicCount[0] == array.length) {
+                                    array = dynamic[0] = Arrays.copyOf(array, array.length * 2);
+                                }
+                                array[dynamicCount[0]++] = (type & 0xffff) << 16 | (y & 0xff) << 8 | (z & 0xf) << 4 | (x & 0xf);
+                            }
                         }
                     }
                 }
+            }, false, true);
+            for (int i = 0; i < dynamicCount[0]; i++) {
+                final int value = dynamic[0][i];
+                final LanternBlockState blockState = (LanternBlockState) BlockRegistryModule.get().getStateByPackedType((short) (value >>> 16));
+                final int x = this.min.getX() | (value & 0xf);
+                final int y = (value >> 8) & 0xff;
+                final int z = this.min.getZ() | ((value >> 4) & 0xf);
+                //noinspection ConstantConditions
+                final AABB shape = ((LanternBlockType) blockState.getType()).getBoundingBoxProvider()
+                        .get(blockState, new Location<>(this.world, x, y, z), null);
+                if (shape != null) {
+                    final AABB aabb = shape.offset(x, y, z);
+                    if (aabb.intersects(box)) {
+                        buffer.add(aabb);
+                    }
+                }
             }
         }
+    }
+
+    @Override
+    public Set<AABB> getIntersectingBlockCollisionBoxes(AABB box) {
+        checkNotNull(box, "box");
+        checkVolumeBounds(box.getMin().toInt());
+        checkVolumeBounds(box.getMax().toInt());
+        final CollisionBoxBuffer buffer = new CollisionBoxBuffer();
+        addBlockCollisionBoxes(box, buffer);
+        final ImmutableSet.Builder<AABB> builder = ImmutableSet.builder();
+        for (int i = 0; i < buffer.size(); i++) {
+            builder.add(buffer.get(i));
+        }
         return builder.build();
     }
 
@@ -1268,17 +1378,10 @@ public Set<AABB> getIntersectingCollisionBoxes(Entity owner, AABB box) {
                 }
             }
         }
-        final Vector3i min = box.getMin().toInt();
-        final Vector3i max = box.getMax().toInt();
-        for (int x = min.getX(); x <= max.getX(); x++) {
-            for (int y = min.getY(); y <= max.getY(); y++) {
-                for (int z = min.getZ(); z <= max.getZ(); z++) {
-                    final Optional<AABB> aabb = getBlockSelectionBox(x, y, z);
-                    if (aabb.isPresent() && aabb.get().intersects(box)) {
-                        collisionBoxes.add(aabb.get());
-                    }
-                }
-            }
+        final CollisionBoxBuffer buffer = new CollisionBoxBuffer();
+        addBlockCollisionBoxes(box, buffer);
+        for (int i = 0; i < buffer.size(); i++) {
+            collisionBoxes.add(buffer.get(i));
         }
         return collisionBoxes.build();
     }
@@ -1298,6 +1401,22 @@ public static int fixEntityYSection(int section) {
         return section < 0 ? 0 : section >= CHUNK_SECTIONS ? CHUNK_SECTIONS - 1 : section;
     }
 
+    /**
+     * Applies the {@link Consumer} to all the {@link LanternEntity}s
+     * that are located within the given range of chunk sections.
+     *
+     * @param minYSection The minimum chunk section (inclusive)
+     * @param maxYSection The maximum chunk section (inclusive)
+     * @param consumer The consumer
+     */
+    public void forEachEntityInSections(int minYSection, int maxYSection, Consumer<LanternEntity> consumer) {
+        for (int i = minYSection; i <= maxYSection; i++) {
+            for (LanternEntity entity : this.entities[i]) {
+                consumer.accept(entity);
+            }
+        }
+    }
+
     public void addIntersectingEntities(ImmutableSet.Builder<Entity> builder, int maxYSection, int minYSection, AABB box, Predicate<Entity> filter) {
         for (int i = minYSection; i <= maxYSection; i++) {
             for (LanternEntity entity : this.entities[i]) {
@@ -1508,7 +1627,8 @@ public boolean containsBlock(int x, int y, int z) {
 
     @Override
     public BlockState getBlock(int x, int y, int z) {
-        return BlockRegistryModule.get().getStateByInternalIdAndData(getType(x, y, z)).orElse(BlockTypes.AIR.getDefaultState());
+        final BlockState blockState = BlockRegistryModule.get().getStateByPackedType(getType(x, y, z));
+        return blockState == null ? BlockTypes.AIR.getDefaultState() : blockState;
     }
 
     @Override
@@ -1578,6 +1698,39 @@ public BiomeType getBiome(int x, int y, int z) {
         return property;
     }
 
+    /**
+     * Gets the block property for the given {@link BlockPropertyId} at the given
+     * position. Constant properties are retrieved from the {@link PropertyTable}
+     * of the block state without any allocations, this is meant for internal
+     * engine code. The full lookup of {@link #getProperty(int, int, int, Class)} is
+     * used if plugins registered property stores for the property type or if the
+     * block doesn't provide the property, so tile entities can still provide it.
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @param z The z coordinate
+     * @param id The block property id
+     * @param <T> The property type
+     * @return The property, or {@code null} if not present
+     */
+    @Nullable
+    public <T extends Property<?, ?>> T getProperty(int x, int y, int z, BlockPropertyId<T> id) {
+        checkVolumeBounds(x, y, z);
+        if (!this.loaded) {
+            return null;
+        }
+        final LanternBlockState blockState = (LanternBlockState) getBlock(x, y, z);
+        final PropertyTable propertyTable = blockState.getPropertyTable();
+        if (!propertyTable.has(id) || Lantern.getGame().getPropertyRegistry().hasExternalStores(id.getPropertyType())) {
+            return getProperty0(x, y, z, null, id.getPropertyType()).orElse(null);
+        }
+        final T property = propertyTable.getConstant(id);
+        if (property != null) {
+            return property;
+        }
+        return propertyTable.get(id, blockState, new Location<>(this.world, x, y, z), null);
+    }
+
     @Override
     public Collection<Property<?, ?>> getProperties(int x, int y, int z) {
         if (!this.loaded) {
@@ -72,6 +72,8 @@
 import org.spongepowered.api.event.EventManager;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.world.chunk.LoadChunkEvent;
+import org.spongepowered.api.event.world.chunk.UnloadChunkEvent;
 import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.api.world.Chunk;
 import org.spongepowered.api.world.ChunkTicketManager;
@@ -701,7 +703,9 @@ private LanternChunk getOrCreateChunk(Vector2i coords, Supplier<Cause> cause, bo
             if (!this.ticketsByPos.containsKey(coords)) {
                 this.pendingForUnload.add(new UnloadingChunkEntry(coords));
             }
-            this.game.getEventManager().post(SpongeEventFactory.createLoadChunkEvent(cause.get(), chunk));
+            if (this.game.getEventManager().hasListeners(LoadChunkEvent.class)) {
+                this.game.getEventManager().post(SpongeEventFactory.createLoadChunkEvent(cause.get(), chunk));
+            }
             this.world.getEventListener().onLoadChunk(chunk);
             // Resurrect all the entities in the chunk
             chunk.resurrectEntities();
@@ -953,7 +957,9 @@ private boolean load0(LanternChunk chunk, Supplier<Cause> cause, boolean generat
             try {
                 // Try to load the chunk
                 if (this.chunkIOService.read(chunk)) {
-                    this.game.getEventManager().post(SpongeEventFactory.createLoadChunkEvent(cause.get(), chunk));
+                    if (this.game.getEventManager().hasListeners(LoadChunkEvent.class)) {
+                        this.game.getEventManager().post(SpongeEventFactory.createLoadChunkEvent(cause.get(), chunk));
+                    }
                     this.world.getEventListener().onLoadChunk(chunk);
                     return true;
                 }
@@ -979,7 +985,9 @@ private boolean load0(LanternChunk chunk, Supplier<Cause> cause, boolean generat
             }
             // Try to populate the chunk
             tryPopulateSurroundingChunks(chunk, cause0);
-            this.game.getEventManager().post(SpongeEventFactory.createLoadChunkEvent(cause0, chunk));
+            if (this.game.getEventManager().hasListeners(LoadChunkEvent.class)) {
+                this.game.getEventManager().post(SpongeEventFactory.createLoadChunkEvent(cause0, chunk));
+            }
             this.world.getEventListener().onLoadChunk(chunk);
             return true;
         } finally {
@@ -1143,8 +1151,9 @@ public boolean setBlock(int x, int y, int z, BlockState block, Cause cause) {
         @Override
         public BlockState getBlock(int x, int y, int z) {
             checkRange(x, y, z);
-            return BlockRegistryModule.get().getStateByInternalIdAndData(this.types[y >> 4][((y & 0xf) << 8) | ((z & 0xf) << 4) | x & 0xf])
-                    .orElse(BlockTypes.AIR.getDefaultState());
+            final BlockState blockState = BlockRegistryModule.get().getStateByPackedType(
+                    this.types[y >> 4][((y & 0xf) << 8) | ((z & 0xf) << 4) | x & 0xf]);
+            return blockState == null ? BlockTypes.AIR.getDefaultState() : blockState;
         }
 
         @Override
@@ -1277,7 +1286,9 @@ private boolean unload0(LanternChunk chunk, Supplier<Cause> cause, boolean wait)
                 task.cancel();
             }
             // Post the chunk unload event
-            this.game.getEventManager().post(SpongeEventFactory.createUnloadChunkEvent(cause.get(), chunk));
+            if (this.game.getEventManager().hasListeners(UnloadChunkEvent.class)) {
+                this.game.getEventManager().post(SpongeEventFactory.createUnloadChunkEvent(cause.get(), chunk));
+            }
             this.world.getEventListener().onUnloadChunk(chunk);
             // Remove from the loaded chunks
             this.loadedChunks.remove(coords);
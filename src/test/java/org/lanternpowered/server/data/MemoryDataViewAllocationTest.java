@@ -0,0 +1,239 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.data;
+
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import com.google.common.collect.Lists;
+import it.unimi.dsi.fastutil.objects.Object2ObjectArrayMap;
+import org.junit.Test;
+import org.lanternpowered.server.data.persistence.nbt.NbtDataContainerInputStream;
+import org.lanternpowered.server.data.persistence.nbt.NbtDataContainerOutputStream;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Reads player data in the layout that is written by the player and item stack
+ * stores into {@link MemoryDataView}s and compares the allocated bytes of the
+ * compact views to the linked hash maps that were used before.
+ */
+public class MemoryDataViewAllocationTest {
+
+    private static final DataQuery INVENTORY = DataQuery.of("Inventory");
+    private static final DataQuery ENDER_CHEST_INVENTORY = DataQuery.of("EnderItems");
+    private static final DataQuery ABILITIES = DataQuery.of("abilities");
+    private static final DataQuery RECIPE_BOOK = DataQuery.of("recipeBook");
+
+    private static final DataQuery SLOT = DataQuery.of("Slot");
+    private static final DataQuery IDENTIFIER = DataQuery.of("id");
+    private static final DataQuery QUANTITY = DataQuery.of("Count");
+    private static final DataQuery DATA = DataQuery.of("Damage");
+    private static final DataQuery TAG = DataQuery.of("tag");
+    private static final DataQuery DISPLAY = DataQuery.of("display");
+    private static final DataQuery NAME = DataQuery.of("Name");
+    private static final DataQuery LORE = DataQuery.of("Lore");
+    private static final DataQuery UNBREAKABLE = DataQuery.of("Unbreakable");
+    private static final DataQuery ENCHANTMENTS = DataQuery.of("ench");
+    private static final DataQuery ENCHANTMENT_ID = DataQuery.of("id");
+    private static final DataQuery ENCHANTMENT_LEVEL = DataQuery.of("lvl");
+
+    private static final int READS = 500;
+
+    @Test
+    public void testCompactViews() throws IOException {
+        final DataContainer container = read(write(createPlayerData()));
+        final List<DataView> items = container.getViewList(INVENTORY).get();
+        final DataView first = items.get(0);
+        for (DataView item : items) {
+            // The keys of all the item stacks should be shared
+            assertSame(getKey(first, IDENTIFIER), getKey(item, IDENTIFIER));
+            assertSame(getKey(first, QUANTITY), getKey(item, QUANTITY));
+        }
+        for (MemoryDataView view : collectViews(container, new ArrayList<>())) {
+            assertTrue(view.map.size() > 8 || view.map instanceof Object2ObjectArrayMap);
+        }
+    }
+
+    @Test
+    public void testAllocations() throws IOException {
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean);
+        final com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+        assumeTrue(allocationMXBean.isThreadAllocatedMemorySupported());
+        allocationMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        final byte[] data = write(createPlayerData());
+        final List<MemoryDataView> views = collectViews(read(data), new ArrayList<>());
+        long compact = 0;
+        long linked = 0;
+        for (int i = 0; i < 3; i++) {
+            compact = measure(allocationMXBean, views, Object2ObjectArrayMap::new);
+            linked = measure(allocationMXBean, views, LinkedHashMap::new);
+        }
+        System.out.println(String.format("Reading %s player data views allocated %s bytes for the compact maps"
+                + " and %s bytes for the linked hash maps", views.size() * READS, compact, linked));
+        assertTrue(compact < linked);
+
+        final long start = allocationMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        for (int i = 0; i < READS; i++) {
+            read(data);
+        }
+        final long allocated = allocationMXBean.getThreadAllocatedBytes(Thread.currentThread().getId()) - start;
+        System.out.println(String.format("Reading the player data %s times allocated %s bytes", READS, allocated));
+    }
+
+    private static long measure(com.sun.management.ThreadMXBean allocationMXBean, List<MemoryDataView> views,
+            Function<Map<String, Object>, Map<String, Object>> mapFunction) {
+        final Map[] maps = new Map[views.size() * READS];
+        final long start = allocationMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        int index = 0;
+        for (int i = 0; i < READS; i++) {
+            for (MemoryDataView view : views) {
+                maps[index++] = mapFunction.apply(view.map);
+            }
+        }
+        final long allocated = allocationMXBean.getThreadAllocatedBytes(Thread.currentThread().getId()) - start;
+        // Use the result to avoid dead code elimination
+        assertTrue(maps[maps.length - 1] != null);
+        return allocated;
+    }
+
+    private static String getKey(DataView dataView, DataQuery query) {
+        final String key = query.asString('.');
+        for (String key1 : ((MemoryDataView) dataView).map.keySet()) {
+            if (key1.equals(key)) {
+                return key1;
+            }
+        }
+        throw new AssertionError("Missing key: " + key);
+    }
+
+    private static List<MemoryDataView> collectViews(Object object, List<MemoryDataView> views) {
+        if (object instanceof MemoryDataView) {
+            final MemoryDataView view = (MemoryDataView) object;
+            views.add(view);
+            view.map.values().forEach(value -> collectViews(value, views));
+        } else if (object instanceof List) {
+            ((List<?>) object).forEach(value -> collectViews(value, views));
+        }
+        return views;
+    }
+
+    private static byte[] write(DataContainer dataContainer) throws IOException {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (NbtDataContainerOutputStream ndcos = new NbtDataContainerOutputStream(new DataOutputStream(baos))) {
+            ndcos.write(dataContainer);
+            ndcos.flush();
+        }
+        return baos.toByteArray();
+    }
+
+    private static DataContainer read(byte[] data) throws IOException {
+        try (NbtDataContainerInputStream ndcis = new NbtDataContainerInputStream(
+                new DataInputStream(new ByteArrayInputStream(data)))) {
+            return ndcis.read();
+        }
+    }
+
+    private static DataContainer createPlayerData() {
+        final DataContainer dataContainer = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+        dataContainer.set(DataQuery.of("Pos"), Lists.newArrayList(12.5, 64.0, -30.5));
+        dataContainer.set(DataQuery.of("Motion"), Lists.newArrayList(0.0, -0.0784, 0.0));
+        dataContainer.set(DataQuery.of("Rotation"), Lists.newArrayList(90f, 0f));
+        dataContainer.set(DataQuery.of("FallDistance"), 0f);
+        dataContainer.set(DataQuery.of("Fire"), (short) -20);
+        dataContainer.set(DataQuery.of("Air"), (short) 300);
+        dataContainer.set(DataQuery.of("OnGround"), (byte) 1);
+        dataContainer.set(DataQuery.of("UUIDMost"), 1234567890123L);
+        dataContainer.set(DataQuery.of("UUIDLeast"), 9876543210987L);
+        dataContainer.set(DataQuery.of("Health"), 20f);
+        dataContainer.set(DataQuery.of("foodLevel"), 20);
+        dataContainer.set(DataQuery.of("foodSaturationLevel"), 5f);
+        dataContainer.set(DataQuery.of("foodExhaustionLevel"), 0f);
+        dataContainer.createView(ABILITIES)
+                .set(DataQuery.of("flying"), (byte) 0)
+                .set(DataQuery.of("flySpeed"), 0.05f)
+                .set(DataQuery.of("mayfly"), (byte) 0);
+        dataContainer.set(DataQuery.of("Score"), 0);
+        dataContainer.set(DataQuery.of("playerGameType"), 0);
+        dataContainer.set(DataQuery.of("SelectedItemSlot"), 0);
+        dataContainer.set(DataQuery.of("Dimension"), 0);
+        final List<DataView> inventory = new ArrayList<>();
+        for (int slot = 0; slot < 36; slot++) {
+            inventory.add(createItemStack(slot, slot % 3 == 0));
+        }
+        dataContainer.set(INVENTORY, inventory);
+        final List<DataView> enderChestInventory = new ArrayList<>();
+        for (int slot = 0; slot < 27; slot++) {
+            enderChestInventory.add(createItemStack(slot, false));
+        }
+        dataContainer.set(ENDER_CHEST_INVENTORY, enderChestInventory);
+        dataContainer.createView(RECIPE_BOOK)
+                .set(DataQuery.of("isFilteringCraftable"), (byte) 0)
+                .set(DataQuery.of("isGuiOpen"), (byte) 0);
+        dataContainer.createView(DataQueries.EXTENDED_SPONGE_DATA)
+                .set(DataQuery.of("FirstJoin"), 1500000000000L)
+                .set(DataQuery.of("LastPlayed"), 1500000600000L)
+                .set(DataQuery.of("UUID"), "00000000-0000-0000-0000-000000000000");
+        return dataContainer;
+    }
+
+    private static DataView createItemStack(int slot, boolean tag) {
+        final DataView dataView = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED);
+        dataView.set(SLOT, (byte) slot);
+        dataView.set(IDENTIFIER, "minecraft:diamond_sword");
+        dataView.set(QUANTITY, (byte) 1);
+        dataView.set(DATA, (short) slot);
+        if (tag) {
+            final DataView tagView = dataView.createView(TAG);
+            tagView.createView(DISPLAY)
+                    .set(NAME, "Sword " + slot)
+                    .set(LORE, Lists.newArrayList("A sharp sword"));
+            tagView.set(UNBREAKABLE, (byte) 1);
+            final DataView enchantment = DataContainer.createNew(DataView.SafetyMode.NO_DATA_CLONED)
+                    .set(ENCHANTMENT_ID, (short) 16)
+                    .set(ENCHANTMENT_LEVEL, (short) 5);
+            tagView.set(ENCHANTMENTS, Lists.newArrayList(enchantment));
+        }
+        return dataView;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.script;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+import org.lanternpowered.server.script.transformer.TransformerUtil;
+
+public class CompiledScriptCacheTest {
+
+    @Test
+    public void testReferencedAssetScript() throws Exception {
+        final CompiledScriptCache cache = new CompiledScriptCache(null);
+
+        final String nameA = TransformerUtil.generateClassNameFromAssetPath("test:scripts/value_a.groovy");
+        final String packageA = nameA.substring(0, nameA.lastIndexOf('.'));
+        final String simpleNameA = nameA.substring(nameA.lastIndexOf('.') + 1);
+        final Class<?> classA = cache.get(nameA, "package " + packageA + "\n" +
+                "class " + simpleNameA + " { int get() { return 21 } }");
+        assertSame(classA, cache.getClassLoader().loadClass(nameA));
+
+        // The same form that the ReferencedScriptTransformer generates for $<asset> references
+        final String nameB = TransformerUtil.generateClassNameFromAssetPath("test:scripts/value_b.groovy");
+        final String packageB = nameB.substring(0, nameB.lastIndexOf('.'));
+        final String simpleNameB = nameB.substring(nameB.lastIndexOf('.') + 1);
+        final Class<?> classB = cache.get(nameB, "package " + packageB + "\n" +
+                "class " + simpleNameB + " { int get(Object script) { return ((" + nameA + ") script).get() * 2 } }");
+
+        final Object scriptA = classA.newInstance();
+        final Object scriptB = classB.newInstance();
+        assertEquals(42, classB.getMethod("get", Object.class).invoke(scriptB, scriptA));
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.util.concurrent;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+public class OrderedExecutorTest {
+
+    private static final int TASKS = 10000;
+    private static final int EXECUTORS = 8;
+
+    @Test
+    public void testOrder() throws InterruptedException {
+        final ExecutorService executorService = Executors.newFixedThreadPool(4);
+        final List<List<Integer>> results = new ArrayList<>();
+        final List<OrderedExecutor> executors = new ArrayList<>();
+        final CountDownLatch latch = new CountDownLatch(TASKS * EXECUTORS);
+        for (int i = 0; i < EXECUTORS; i++) {
+            results.add(new ArrayList<>());
+            executors.add(new OrderedExecutor(executorService));
+        }
+        for (int i = 0; i < TASKS; i++) {
+            for (int j = 0; j < EXECUTORS; j++) {
+                final int value = i;
+                final List<Integer> result = results.get(j);
+                executors.get(j).execute(() -> {
+                    result.add(value);
+                    latch.countDown();
+                });
+            }
+        }
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        executorService.shutdown();
+        for (int j = 0; j < EXECUTORS; j++) {
+            final List<Integer> result = results.get(j);
+            assertEquals(TASKS, result.size());
+            for (int i = 0; i < TASKS; i++) {
+                assertEquals(i, (int) result.get(i));
+            }
+            assertEquals(0, executors.get(j).getPendingTasks());
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * This file is part of LanternServer, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) LanternPowered <https://www.lanternpowered.org>
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the Software), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED AS IS, WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.lanternpowered.server.world.chunk;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.lanternpowered.server.game.registry.type.block.BlockRegistryModule;
+import org.lanternpowered.server.world.LanternWorld;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.spongepowered.api.block.BlockState;
+
+import java.lang.reflect.Field;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Measures the throughput of {@link LanternChunk#getBlock(int, int, int)} and the
+ * packed type lookups of the {@link BlockRegistryModule} over a populated chunk section.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ChunkGetBlockBenchmark {
+
+    private static final int SECTION_BLOCKS = 16 * 16 * 16;
+
+    private LanternChunk chunk;
+    private short[] types;
+
+    @Setup
+    public void setup() throws Exception {
+        // Fill the lookup table with around the amount of block types that are registered by vanilla
+        final Field field = BlockRegistryModule.class.getDeclaredField("blockStateByPackedType");
+        field.setAccessible(true);
+        final BlockState[] blockStateByPackedType = (BlockState[]) field.get(BlockRegistryModule.get());
+        for (int packedType = 0; packedType < 256 << 4; packedType++) {
+            blockStateByPackedType[packedType] = mock(BlockState.class);
+        }
+
+        final Random random = new Random(0);
+        this.types = new short[SECTION_BLOCKS];
+        for (int i = 0; i < this.types.length; i++) {
+            this.types[i] = (short) ((1 + random.nextInt(255)) << 4 | random.nextInt(16));
+        }
+        final LanternWorld world = mock(LanternWorld.class);
+        when(world.getUniqueId()).thenReturn(UUID.randomUUID());
+        this.chunk = new LanternChunk(world, 0, 0);
+        final LanternChunk.ChunkSection[] sections = new LanternChunk.ChunkSection[LanternChunk.CHUNK_SECTIONS];
+        sections[0] = new LanternChunk.ChunkSection(this.types);
+        this.chunk.initializeSections(sections);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SECTION_BLOCKS)
+    public void getStateByPackedType(Blackhole blackhole) {
+        final BlockRegistryModule registryModule = BlockRegistryModule.get();
+        for (short type : this.types) {
+            blackhole.consume(registryModule.getStateByPackedType(type));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SECTION_BLOCKS)
+    public void getBlock(Blackhole blackhole) {
+        final LanternChunk chunk = this.chunk;
+        for (int y = 0; y < 16; y++) {
+            for (int z = 0; z < 16; z++) {
+                for (int x = 0; x < 16; x++) {
+                    blackhole.consume(chunk.getBlock(x, y, z));
+                }
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ChunkGetBlockBenchmark.class.getSimpleName()).build()).run();
+    }
+}